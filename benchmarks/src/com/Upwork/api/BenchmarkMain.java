@@ -0,0 +1,51 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api;
+
+import com.Upwork.ClassPreamble;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the JMH command line, always with the GC
+ * profiler, so every result comes with its allocation rate per operation
+ * (<code>gc.alloc.rate.norm</code>).
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Graphql.GraphqlOperation;
+import com.google.api.client.http.json.JsonHttpContent;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding of request bodies: POST parameters through {@link JsonHttpContent}
+ * and GraphQL variables through {@link GraphqlOperation}.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EncodingBenchmark {
+    private static final JacksonFactory JSON_FACTORY = new JacksonFactory();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+    private HashMap<String, String> params;
+    private GraphqlOperation operation;
+
+    @Setup
+    public void setUp() {
+        params = new HashMap<String, String>();
+        params.put("message", "Hello, the milestone is submitted for review. Please check the attached files.");
+        params.put("userId", "mnovozhylov");
+        params.put("isSystemStory", "false");
+        params.put("jobs", "~01abc;~01def;~01f00");
+        params.put("overload", "put");
+
+        operation = GraphqlOperation.of("query contract($id: ID!, $first: Int, $after: String) {"
+                + " contract(id: $id) { id title timeSheets(first: $first, after: $after)"
+                + " { edges { node { id totalHours } } pageInfo { hasNextPage endCursor } } } }");
+    }
+
+    @Benchmark
+    public int jsonHttpContent() throws IOException {
+        out.reset();
+        new JsonHttpContent(JSON_FACTORY, params).writeTo(out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int graphqlOperation() throws IOException {
+        out.reset();
+        operation.content(new GraphqlOperation.Variables()
+                .put("id", "12345")
+                .put("first", 50)
+                .put("after", "cursor")).writeTo(out);
+        return out.size();
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api;
+
+import com.Upwork.ClassPreamble;
+import com.google.api.client.auth.oauth2.TokenResponse;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole GET requests through {@link UpworkRestClient#executeRequest}, against
+ * an in-process server on the loopback interface: URL building, signing,
+ * the transport and response decoding.
+ *
+ * Run with more threads, e.g. <code>-t 8</code>, to see contention.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ExecuteBenchmark {
+    @Param({ "search", "gds", "stories" })
+    public String payload;
+
+    @Param({ "50" })
+    public int size;
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private OAuthClient client;
+    private HashMap<String, String> params;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] body = Payloads.of(payload, size);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().close();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        serverThreads = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        server.setExecutor(serverThreads);
+        server.start();
+
+        // every Upwork URL goes to the local server
+        String local = "http://127.0.0.1:" + server.getAddress().getPort();
+        NetHttpTransport transport = new NetHttpTransport.Builder()
+                .setConnectionFactory(url -> (HttpURLConnection) new URL(local + url.getFile()).openConnection())
+                .build();
+        Properties properties = new Properties();
+        properties.setProperty("clientId", "key");
+        properties.setProperty("clientSecret", "secret");
+        client = new OAuthClient(new Config(properties), transport);
+        client.setTokenResponse(new TokenResponse().setAccessToken("token").setExpiresInSeconds(86400L), null);
+
+        params = new HashMap<String, String>();
+        params.put("q", "java developer");
+        params.put("paging", "0;" + size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Benchmark
+    public JSONObject get() throws JSONException {
+        return client.get("/profiles/v2/search/jobs", params);
+    }
+}
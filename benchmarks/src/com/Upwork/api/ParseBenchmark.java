@@ -0,0 +1,83 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Json.JsonStreamReader;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of response bodies to {@link JSONObject}: from the body read into
+ * a string, and straight from the stream with {@link JsonStreamReader}.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParseBenchmark {
+    @Param({ "search", "gds", "stories" })
+    public String payload;
+
+    @Param({ "10", "100", "1000" })
+    public int size;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = Payloads.of(payload, size);
+    }
+
+    @Benchmark
+    public JSONObject jsonObject() throws JSONException {
+        return new JSONObject(new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public JSONObject streamReader() throws IOException, JSONException {
+        return JsonStreamReader.readObject(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+    }
+}
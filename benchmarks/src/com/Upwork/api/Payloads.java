@@ -0,0 +1,162 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api;
+
+import com.Upwork.ClassPreamble;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Realistic Upwork API responses for the benchmarks, generated from a fixed
+ * seed so every run parses the same bytes.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+final class Payloads {
+    private static final String[] SKILLS = { "java", "json", "rest-api", "spring", "postgresql", "aws",
+            "react", "graphql", "docker", "kotlin" };
+    private static final String[] COUNTRIES = { "United States", "Germany", "India", "Ukraine", "Canada" };
+
+    private Payloads() {
+    }
+
+    /**
+     * Response of the given kind
+     *
+     * @param kind <code>search</code>, <code>gds</code> or <code>stories</code>
+     * @param size Number of records
+     * @return UTF-8 bytes of the response
+     */
+    static byte[] of(String kind, int size) {
+        switch (kind) {
+            case "search":
+                return searchPage(size);
+            case "gds":
+                return gdsReport(size);
+            case "stories":
+                return stories(size);
+            default:
+                throw new IllegalArgumentException("Unknown payload " + kind);
+        }
+    }
+
+    /**
+     * Page of <code>/profiles/v2/search/jobs</code>
+     */
+    static byte[] searchPage(int size) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("{\"jobs\": [");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\": \"~01").append(Long.toHexString(random.nextLong())).append('"')
+                    .append(", \"title\": \"Senior Java developer for API integration #").append(i).append('"')
+                    .append(", \"snippet\": \"").append(text(random, 60)).append('"')
+                    .append(", \"category2\": \"Web, Mobile & Software Dev\", \"subcategory2\": \"Web Development\"")
+                    .append(", \"skills\": [");
+            for (int s = 0; s < 4; s++) {
+                json.append(s > 0 ? ", " : "").append('"').append(SKILLS[random.nextInt(SKILLS.length)]).append('"');
+            }
+            json.append("], \"job_type\": \"").append(random.nextBoolean() ? "Hourly" : "Fixed").append('"')
+                    .append(", \"budget\": ").append(random.nextInt(5000))
+                    .append(", \"duration\": \"1 to 3 months\", \"workload\": \"30+ hrs/week\"")
+                    .append(", \"job_status\": \"Open\", \"date_created\": \"2026-10-")
+                    .append(10 + random.nextInt(8)).append("T12:00:00+0000\"")
+                    .append(", \"url\": \"http://www.upwork.com/jobs/~01").append(i).append('"')
+                    .append(", \"client\": {\"country\": \"").append(COUNTRIES[random.nextInt(COUNTRIES.length)])
+                    .append("\", \"feedback\": ").append(random.nextInt(50) / 10.0)
+                    .append(", \"reviews_count\": ").append(random.nextInt(100))
+                    .append(", \"jobs_posted\": ").append(random.nextInt(200))
+                    .append(", \"past_hires\": ").append(random.nextInt(50))
+                    .append(", \"payment_verification_status\": \"VERIFIED\"}}");
+        }
+        json.append("], \"paging\": {\"offset\": 0, \"count\": ").append(size)
+                .append(", \"total\": ").append(size * 20).append("}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Time report of <code>/gds/timereports/v1/companies/{id}</code>
+     */
+    static byte[] gdsReport(int size) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("{\"server_time\": 1760745600, \"table\": {\"cols\": [")
+                .append("{\"type\": \"date\", \"label\": \"worked_on\"}, {\"type\": \"string\", \"label\": \"assignment_ref\"},")
+                .append(" {\"type\": \"string\", \"label\": \"provider_id\"}, {\"type\": \"string\", \"label\": \"memo\"},")
+                .append(" {\"type\": \"number\", \"label\": \"hours\"}, {\"type\": \"number\", \"label\": \"charges\"}],")
+                .append(" \"rows\": [");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"c\": [{\"v\": \"202610").append(10 + i % 20).append("\"}")
+                    .append(", {\"v\": \"").append(1000000 + random.nextInt(1000)).append("\"}")
+                    .append(", {\"v\": \"provider").append(random.nextInt(100)).append("\"}")
+                    .append(", {\"v\": \"").append(text(random, 6)).append("\"}")
+                    .append(", {\"v\": \"").append(random.nextInt(800) / 100.0).append("\"}")
+                    .append(", {\"v\": \"").append(random.nextInt(40000) / 100.0).append("\"}]}");
+        }
+        json.append("]}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Stories of <code>/messages/v3/{company}/rooms/{room}/stories</code>
+     */
+    static byte[] stories(int size) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("{\"stories\": {\"stories\": [");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"storyId\": \"").append(Long.toHexString(random.nextLong())).append('"')
+                    .append(", \"roomId\": \"room_0123456789abcdef\"")
+                    .append(", \"userId\": \"user").append(random.nextInt(10)).append('"')
+                    .append(", \"created\": ").append(1760745600000L + i * 60000L)
+                    .append(", \"updated\": ").append(1760745600000L + i * 60000L)
+                    .append(", \"message\": \"").append(text(random, 25)).append('"')
+                    .append(", \"attachments\": [], \"isSystemStory\": false}");
+        }
+        json.append("], \"cursor\": {\"next\": \"").append(size).append("\"}}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            int length = 2 + random.nextInt(8);
+            for (int c = 0; c < length; c++) {
+                text.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api;
+
+import com.Upwork.ClassPreamble;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * URL building of GET requests: {@link OAuthClient#getFullUrl(String)} and
+ * the query string, the way {@link OAuthClient} builds it.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class UrlBenchmark {
+    private OAuthClient api;
+    private OAuthClient gds;
+    private HashMap<String, String> params;
+
+    @Setup
+    public void setUp() {
+        Properties properties = new Properties();
+        properties.setProperty("clientId", "key");
+        properties.setProperty("clientSecret", "secret");
+        api = new OAuthClient(new Config(properties), new NetHttpTransport());
+        gds = api.forEntryPoint("gds");
+
+        params = new HashMap<String, String>();
+        params.put("q", "java developer");
+        params.put("skills", "java;json;rest-api");
+        params.put("job_type", "hourly");
+        params.put("duration", "month");
+        params.put("paging", "0;50");
+    }
+
+    @TearDown
+    public void tearDown() {
+        api.close();
+    }
+
+    @Benchmark
+    public String fullUrl() {
+        return api.getFullUrl("/profiles/v2/search/jobs");
+    }
+
+    @Benchmark
+    public String fullUrlGds() {
+        return gds.getFullUrl("/timereports/v1/companies/12345");
+    }
+
+    @Benchmark
+    public String queryUrl() {
+        GenericUrl url = new GenericUrl(api.getFullUrl("/profiles/v2/search/jobs"));
+        url.putAll(new TreeMap<String, String>(params));
+        return url.build();
+    }
+}
@@ -0,0 +1,358 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api.Http;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Config;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.util.StreamingContent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * HTTP/2 transport backed by {@link HttpClient} (Java 11+).
+ *
+ * All requests to a host are multiplexed over a single HTTP/2 connection,
+ * falling back to HTTP/1.1 if the server does not support it. Use it by
+ * setting <code>transportFactory=com.Upwork.api.Http.Http2Transport$Factory</code>.
+ *
+ * Supported config properties:
+ * <ul>
+ *   <li><code>http2MaxStreams</code> - max concurrent streams per host (default 100)</li>
+ *   <li><code>http2WindowSize</code> - stream receive window, bytes (default 16 MB)</li>
+ *   <li><code>http2ConnectionWindowSize</code> - connection receive window, bytes (default 32 MB)</li>
+ *   <li><code>httpConnectTimeout</code> - connect timeout, milliseconds (default 20000)</li>
+ * </ul>
+ *
+ * Window sizes are JVM-wide settings of {@link HttpClient}, they are applied
+ * through the <code>jdk.httpclient.windowsize</code> and
+ * <code>jdk.httpclient.connectionWindowSize</code> system properties before
+ * the first client is built, unless the application has already set them.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class Http2Transport extends HttpTransport {
+    public static final int DEFAULT_MAX_STREAMS = 100;
+    public static final int DEFAULT_WINDOW_SIZE = 16 * 1024 * 1024;
+    public static final int DEFAULT_CONNECTION_WINDOW_SIZE = 32 * 1024 * 1024;
+    public static final int DEFAULT_CONNECT_TIMEOUT = 20000;
+
+    private static final String[] SUPPORTED_METHODS = {
+            "DELETE", "GET", "HEAD", "OPTIONS", "POST", "PUT", "TRACE" };
+
+    /** Headers managed by {@link HttpClient} itself. */
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        Arrays.sort(SUPPORTED_METHODS);
+        RESTRICTED_HEADERS.addAll(Arrays.asList(
+                "Connection", "Content-Length", "Expect", "Host", "Upgrade"));
+    }
+
+    /**
+     * {@link TransportFactory} reading HTTP/2 settings from {@link Config}
+     */
+    public static final class Factory implements TransportFactory {
+        @Override
+        public HttpTransport create(Config config) {
+            return new Http2Transport(
+                    config.getIntProperty("http2MaxStreams", DEFAULT_MAX_STREAMS),
+                    config.getIntProperty("http2WindowSize", DEFAULT_WINDOW_SIZE),
+                    config.getIntProperty("http2ConnectionWindowSize", DEFAULT_CONNECTION_WINDOW_SIZE),
+                    config.getIntProperty("httpConnectTimeout", DEFAULT_CONNECT_TIMEOUT));
+        }
+    }
+
+    private final HttpClient client;
+    private final int maxStreams;
+    private final Map<String, Semaphore> streams = new ConcurrentHashMap<String, Semaphore>();
+
+    /**
+     * Constructor
+     *
+     * @param maxStreams            Max concurrent streams per host
+     * @param windowSize            Stream receive window, bytes
+     * @param connectionWindowSize  Connection receive window, bytes
+     * @param connectTimeout        Connect timeout, milliseconds
+     */
+    public Http2Transport(int maxStreams, int windowSize, int connectionWindowSize, int connectTimeout) {
+        this(buildClient(windowSize, connectionWindowSize, connectTimeout), maxStreams);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param client     Configured HTTP client
+     * @param maxStreams Max concurrent streams per host
+     */
+    public Http2Transport(HttpClient client, int maxStreams) {
+        if (maxStreams <= 0) {
+            throw new IllegalArgumentException("Max streams must be positive");
+        }
+        this.client = client;
+        this.maxStreams = maxStreams;
+    }
+
+    private static HttpClient buildClient(int windowSize, int connectionWindowSize, int connectTimeout) {
+        setDefaultProperty("jdk.httpclient.windowsize", Integer.toString(windowSize));
+        setDefaultProperty("jdk.httpclient.connectionWindowSize", Integer.toString(connectionWindowSize));
+
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NEVER);
+        if (connectTimeout > 0) {
+            builder.connectTimeout(Duration.ofMillis(connectTimeout));
+        }
+        return builder.build();
+    }
+
+    private static void setDefaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    /**
+     * Number of streams that can be opened right now to the given host
+     *
+     * @param uri Any URI of the host
+     * @return Available streams
+     */
+    public int getAvailableStreams(URI uri) {
+        return hostStreams(uri).availablePermits();
+    }
+
+    @Override
+    public boolean supportsMethod(String method) {
+        return Arrays.binarySearch(SUPPORTED_METHODS, method) >= 0;
+    }
+
+    @Override
+    protected LowLevelHttpRequest buildRequest(String method, String url) {
+        if (!supportsMethod(method)) {
+            throw new IllegalArgumentException("Unsupported HTTP method " + method);
+        }
+        return new Http2Request(method, URI.create(url));
+    }
+
+    private Semaphore hostStreams(URI uri) {
+        String key = uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+        return streams.computeIfAbsent(key, k -> new Semaphore(maxStreams, true));
+    }
+
+    private final class Http2Request extends LowLevelHttpRequest {
+        private final String method;
+        private final URI uri;
+        private final List<String[]> headers = new ArrayList<String[]>();
+        private int readTimeout;
+
+        Http2Request(String method, URI uri) {
+            this.method = method;
+            this.uri = uri;
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (!RESTRICTED_HEADERS.contains(name)) {
+                headers.add(new String[] { name, value });
+            }
+        }
+
+        @Override
+        public void setTimeout(int connectTimeout, int readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        @Override
+        public LowLevelHttpResponse execute() throws IOException {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                    .method(method, bodyPublisher());
+            if (readTimeout > 0) {
+                builder.timeout(Duration.ofMillis(readTimeout));
+            }
+            for (String[] header : headers) {
+                builder.header(header[0], header[1]);
+            }
+
+            Semaphore permits = hostStreams(uri);
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for HTTP/2 stream");
+            }
+
+            boolean executed = false;
+            try {
+                HttpResponse<InputStream> response = client.send(builder.build(),
+                        HttpResponse.BodyHandlers.ofInputStream());
+                Http2Response result = new Http2Response(response, permits);
+                executed = true;
+                return result;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for HTTP/2 response");
+            } finally {
+                if (!executed) {
+                    permits.release();
+                }
+            }
+        }
+
+        private HttpRequest.BodyPublisher bodyPublisher() throws IOException {
+            StreamingContent content = getStreamingContent();
+            if (content == null) {
+                return HttpRequest.BodyPublishers.noBody();
+            }
+            if (getContentType() != null) {
+                addHeader("Content-Type", getContentType());
+            }
+            if (getContentEncoding() != null) {
+                addHeader("Content-Encoding", getContentEncoding());
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(
+                    getContentLength() > 0 ? (int) Math.min(getContentLength(), Integer.MAX_VALUE) : 256);
+            content.writeTo(out);
+            return HttpRequest.BodyPublishers.ofByteArray(out.toByteArray());
+        }
+    }
+
+    private static final class Http2Response extends LowLevelHttpResponse {
+        private final HttpResponse<InputStream> response;
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final List<String> headerNames = new ArrayList<String>();
+        private final List<String> headerValues = new ArrayList<String>();
+        private final InputStream content;
+
+        Http2Response(HttpResponse<InputStream> response, Semaphore permits) {
+            this.response = response;
+            this.permits = permits;
+            for (Map.Entry<String, List<String>> entry : response.headers().map().entrySet()) {
+                if (entry.getKey().startsWith(":")) {
+                    continue;
+                }
+                for (String value : entry.getValue()) {
+                    headerNames.add(entry.getKey());
+                    headerValues.add(value);
+                }
+            }
+            this.content = new FilterInputStream(response.body()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        release();
+                    }
+                }
+            };
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        @Override
+        public InputStream getContent() {
+            return content;
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return response.headers().firstValue("Content-Encoding").orElse(null);
+        }
+
+        @Override
+        public long getContentLength() {
+            return response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        }
+
+        @Override
+        public String getContentType() {
+            return response.headers().firstValue("Content-Type").orElse(null);
+        }
+
+        @Override
+        public String getStatusLine() {
+            return null;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String getReasonPhrase() {
+            return null;
+        }
+
+        @Override
+        public int getHeaderCount() {
+            return headerNames.size();
+        }
+
+        @Override
+        public String getHeaderName(int index) {
+            return headerNames.get(index);
+        }
+
+        @Override
+        public String getHeaderValue(int index) {
+            return headerValues.get(index);
+        }
+
+        /**
+         * Closes the stream only, the connection stays open for other streams
+         */
+        @Override
+        public void disconnect() throws IOException {
+            content.close();
+        }
+    }
+}
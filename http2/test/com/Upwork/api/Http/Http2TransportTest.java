@@ -0,0 +1,85 @@
+package com.Upwork.api.Http;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.HashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.json.JsonHttpContent;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+public class Http2TransportTest {
+	private HttpServer server;
+
+	@Before
+	public void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				ByteArrayOutputStream request = new ByteArrayOutputStream();
+				InputStream in = exchange.getRequestBody();
+				byte[] buf = new byte[1024];
+				for (int n; (n = in.read(buf)) != -1;) {
+					request.write(buf, 0, n);
+				}
+				byte[] body = (exchange.getRequestMethod() + " " + request.toString("UTF-8")).getBytes("UTF-8");
+				exchange.getResponseHeaders().add("X-Upwork-Test", "yes");
+				exchange.sendResponseHeaders(200, body.length);
+				OutputStream out = exchange.getResponseBody();
+				out.write(body);
+				out.close();
+			}
+		});
+		server.start();
+	}
+
+	@After
+	public void tearDown() {
+		server.stop(0);
+	}
+
+	private String url() {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/test.json";
+	}
+
+	@Test public void get() throws Exception {
+		Http2Transport transport = new Http2Transport(2, Http2Transport.DEFAULT_WINDOW_SIZE,
+				Http2Transport.DEFAULT_CONNECTION_WINDOW_SIZE, 1000);
+		HttpRequestFactory factory = transport.createRequestFactory();
+
+		HttpResponse response = factory.buildGetRequest(new GenericUrl(url())).execute();
+		assertEquals(200, response.getStatusCode());
+		assertEquals("yes", response.getHeaders().getFirstHeaderStringValue("X-Upwork-Test"));
+		assertEquals("GET ", response.parseAsString());
+		assertEquals("stream released", 2, transport.getAvailableStreams(URI.create(url())));
+	}
+
+	@Test public void post() throws Exception {
+		Http2Transport transport = new Http2Transport(2, Http2Transport.DEFAULT_WINDOW_SIZE,
+				Http2Transport.DEFAULT_CONNECTION_WINDOW_SIZE, 1000);
+		HttpRequestFactory factory = transport.createRequestFactory();
+
+		HashMap<String, String> params = new HashMap<String, String>();
+		params.put("query", "{ user { id } }");
+		HttpResponse response = factory.buildPostRequest(new GenericUrl(url()),
+				new JsonHttpContent(new JacksonFactory(), params)).execute();
+		assertEquals("POST {\"query\":\"{ user { id } }\"}", response.parseAsString());
+		assertEquals("stream released", 2, transport.getAvailableStreams(URI.create(url())));
+	}
+}
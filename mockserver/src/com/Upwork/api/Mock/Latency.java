@@ -0,0 +1,182 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api.Mock;
+
+import com.Upwork.ClassPreamble;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distribution of the latency {@link MockUpworkServer} adds to responses.
+ *
+ * Distributions are given as text in the config, times in milliseconds:
+ * <ul>
+ *   <li><code>20</code> - fixed 20 ms</li>
+ *   <li><code>uniform:10-50</code> - uniform between 10 and 50 ms</li>
+ *   <li><code>exponential:20</code> - exponential with mean of 20 ms</li>
+ *   <li><code>lognormal:20,0.5</code> - log-normal with median of 20 ms and sigma of 0.5,
+ *       a long tail like the one of real API latencies</li>
+ * </ul>
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public abstract class Latency {
+    /** No added latency */
+    public static final Latency NONE = fixed(0);
+
+    /**
+     * Draw next latency
+     *
+     * @return Latency, nanoseconds
+     */
+    public abstract long sample();
+
+    /**
+     * Fixed latency
+     *
+     * @param millis Latency, milliseconds
+     * @return {@link Latency}
+     */
+    public static Latency fixed(double millis) {
+        long nanos = toNanos(millis);
+        return new Latency() {
+            @Override
+            public long sample() {
+                return nanos;
+            }
+        };
+    }
+
+    /**
+     * Latency uniformly distributed in the range
+     *
+     * @param min Min latency, milliseconds
+     * @param max Max latency, milliseconds
+     * @return {@link Latency}
+     */
+    public static Latency uniform(double min, double max) {
+        if (max < min) {
+            throw new IllegalArgumentException("Max latency must not be less than min");
+        }
+        long from = toNanos(min);
+        long to = toNanos(max);
+        return new Latency() {
+            @Override
+            public long sample() {
+                return (from == to) ? from : ThreadLocalRandom.current().nextLong(from, to + 1);
+            }
+        };
+    }
+
+    /**
+     * Exponentially distributed latency
+     *
+     * @param mean Mean latency, milliseconds
+     * @return {@link Latency}
+     */
+    public static Latency exponential(double mean) {
+        long nanos = toNanos(mean);
+        return new Latency() {
+            @Override
+            public long sample() {
+                return (long) (-nanos * Math.log(1 - ThreadLocalRandom.current().nextDouble()));
+            }
+        };
+    }
+
+    /**
+     * Log-normally distributed latency
+     *
+     * @param median Median latency, milliseconds
+     * @param sigma  Standard deviation of the latency logarithm, the larger the longer the tail
+     * @return {@link Latency}
+     */
+    public static Latency logNormal(double median, double sigma) {
+        if (sigma < 0) {
+            throw new IllegalArgumentException("Sigma must not be negative");
+        }
+        long nanos = toNanos(median);
+        return new Latency() {
+            @Override
+            public long sample() {
+                return (long) (nanos * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+            }
+        };
+    }
+
+    /**
+     * Parse distribution from the text, see the class description for the syntax
+     *
+     * @param spec Distribution
+     * @throws IllegalArgumentException If the distribution is not recognized
+     * @return {@link Latency}
+     */
+    public static Latency parse(String spec) {
+        if (spec == null || spec.trim().isEmpty()) {
+            return NONE;
+        }
+        String text = spec.trim();
+        int colon = text.indexOf(':');
+        String type = (colon < 0) ? "fixed" : text.substring(0, colon).trim();
+        String args = text.substring(colon + 1);
+        try {
+            switch (type) {
+                case "fixed":
+                    return fixed(Double.parseDouble(args));
+                case "uniform": {
+                    int dash = args.indexOf('-');
+                    if (dash < 0) {
+                        break;
+                    }
+                    return uniform(Double.parseDouble(args.substring(0, dash)),
+                            Double.parseDouble(args.substring(dash + 1)));
+                }
+                case "exponential":
+                    return exponential(Double.parseDouble(args));
+                case "lognormal": {
+                    int comma = args.indexOf(',');
+                    if (comma < 0) {
+                        break;
+                    }
+                    return logNormal(Double.parseDouble(args.substring(0, comma)),
+                            Double.parseDouble(args.substring(comma + 1)));
+                }
+                default:
+                    break;
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid latency " + spec, e);
+        }
+        throw new IllegalArgumentException("Invalid latency " + spec);
+    }
+
+    private static long toNanos(double millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Latency must not be negative");
+        }
+        return (long) (millis * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api.Mock;
+
+import com.Upwork.ClassPreamble;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Response bodies of {@link MockUpworkServer}, shaped like the real ones and
+ * generated once per server from a fixed seed.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+final class MockResponses {
+    private static final String[] SKILLS = { "java", "json", "rest-api", "spring", "postgresql", "aws" };
+
+    final byte[] jobs;
+    final byte[] gdsTable;
+    final byte[] stories;
+    final byte[] records;
+    final byte[] graphql;
+
+    /**
+     * Constructor
+     *
+     * @param size Number of records in each response
+     */
+    MockResponses(int size) {
+        jobs = jobs(size);
+        gdsTable = gdsTable(size);
+        stories = stories(size);
+        records = records(size);
+        graphql = graphql(size);
+    }
+
+    /**
+     * Body of the route
+     *
+     * @param path Request path
+     * @return UTF-8 JSON
+     */
+    byte[] forPath(String path) {
+        if (path.startsWith("/graphql")) {
+            return graphql;
+        }
+        if (path.startsWith("/gds/")) {
+            return gdsTable;
+        }
+        if (path.contains("/search/")) {
+            return jobs;
+        }
+        if (path.contains("/stories")) {
+            return stories;
+        }
+        return records;
+    }
+
+    /**
+     * Body of the token response
+     *
+     * @param accessToken  Access token
+     * @param refreshToken Refresh token
+     * @param expiresIn    Token lifetime, seconds
+     * @return UTF-8 JSON
+     */
+    static byte[] token(String accessToken, String refreshToken, long expiresIn) {
+        return ("{\"access_token\": \"" + accessToken + "\", \"refresh_token\": \"" + refreshToken
+                + "\", \"token_type\": \"Bearer\", \"expires_in\": " + expiresIn + "}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] jobs(int size) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("{\"jobs\": [");
+        for (int i = 0; i < size; i++) {
+            json.append((i > 0) ? "," : "")
+                    .append("{\"id\": \"~01").append(Long.toHexString(random.nextLong())).append('"')
+                    .append(", \"title\": \"Java developer for API integration #").append(i).append('"')
+                    .append(", \"snippet\": \"").append(text(random, 40)).append('"')
+                    .append(", \"skills\": [\"").append(SKILLS[random.nextInt(SKILLS.length)])
+                    .append("\", \"").append(SKILLS[random.nextInt(SKILLS.length)]).append("\"]")
+                    .append(", \"job_type\": \"").append(random.nextBoolean() ? "Hourly" : "Fixed").append('"')
+                    .append(", \"budget\": ").append(random.nextInt(5000))
+                    .append(", \"date_created\": \"2026-10-18T12:00:00+0000\"")
+                    .append(", \"client\": {\"country\": \"United States\", \"feedback\": ")
+                    .append(random.nextInt(50) / 10.0).append(", \"reviews_count\": ").append(random.nextInt(100))
+                    .append("}}");
+        }
+        json.append("], \"paging\": {\"offset\": 0, \"count\": ").append(size)
+                .append(", \"total\": ").append(size).append("}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gdsTable(int size) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("{\"server_time\": 1760745600, \"table\": {\"cols\": [")
+                .append("{\"type\": \"date\", \"label\": \"worked_on\"}, {\"type\": \"string\", \"label\": \"assignment_ref\"},")
+                .append(" {\"type\": \"string\", \"label\": \"memo\"}, {\"type\": \"number\", \"label\": \"hours\"},")
+                .append(" {\"type\": \"number\", \"label\": \"charges\"}], \"rows\": [");
+        for (int i = 0; i < size; i++) {
+            json.append((i > 0) ? "," : "")
+                    .append("{\"c\": [{\"v\": \"202610").append(10 + i % 20).append("\"}")
+                    .append(", {\"v\": \"").append(1000000 + random.nextInt(1000)).append("\"}")
+                    .append(", {\"v\": \"").append(text(random, 5)).append("\"}")
+                    .append(", {\"v\": \"").append(random.nextInt(800) / 100.0).append("\"}")
+                    .append(", {\"v\": \"").append(random.nextInt(40000) / 100.0).append("\"}]}");
+        }
+        json.append("]}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] stories(int size) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("{\"stories\": {\"stories\": [");
+        for (int i = 0; i < size; i++) {
+            json.append((i > 0) ? "," : "")
+                    .append("{\"storyId\": \"").append(Long.toHexString(random.nextLong())).append('"')
+                    .append(", \"userId\": \"user").append(random.nextInt(10)).append('"')
+                    .append(", \"created\": ").append(1760745600000L + i * 60000L)
+                    .append(", \"message\": \"").append(text(random, 20)).append("\"}");
+        }
+        json.append("]}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] records(int size) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("{\"server_time\": 1760745600, \"records\": [");
+        for (int i = 0; i < size; i++) {
+            json.append((i > 0) ? "," : "")
+                    .append("{\"reference\": \"").append(1000000 + i).append('"')
+                    .append(", \"status\": \"active\", \"description\": \"").append(text(random, 10)).append("\"}");
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] graphql(int size) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("{\"data\": {\"nodes\": {\"edges\": [");
+        for (int i = 0; i < size; i++) {
+            json.append((i > 0) ? "," : "")
+                    .append("{\"cursor\": \"").append(i).append("\", \"node\": {\"id\": \"")
+                    .append(1000000 + i).append("\", \"title\": \"").append(text(random, 6)).append("\"}}");
+        }
+        json.append("], \"pageInfo\": {\"hasNextPage\": false, \"endCursor\": \"")
+                .append(size).append("\"}}}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append((i > 0) ? " " : "");
+            int length = 2 + random.nextInt(8);
+            for (int c = 0; c < length; c++) {
+                text.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return text.toString();
+    }
+}
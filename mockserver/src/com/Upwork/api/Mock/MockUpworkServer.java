@@ -0,0 +1,327 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api.Mock;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Config;
+import com.Upwork.api.Http.PooledHttpTransport;
+import com.google.api.client.http.HttpTransport;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process HTTP server emulating Upwork API, to run throughput and tail
+ * latency tests of the client offline.
+ *
+ * It serves the token endpoint, REST routes, GDS reports and GraphQL with
+ * bodies shaped like the real ones, and adds latency, 5xx errors and 429
+ * throttling as configured. Access tokens it issued are rejected with 401
+ * once expired; other bearer tokens are accepted.
+ *
+ * The client is pointed to the server through {@link #newTransport(Config)},
+ * a {@link PooledHttpTransport} with only the host of requests rewritten:
+ * <pre>
+ * MockUpworkServer server = new MockUpworkServer(config);
+ * OAuthClient client = new OAuthClient(config, server.newTransport(config));
+ * </pre>
+ *
+ * Supported config properties:
+ * <ul>
+ *   <li><code>mockPort</code> - port to listen on, 0 - any free port (default 0)</li>
+ *   <li><code>mockThreads</code> - server threads (default 16)</li>
+ *   <li><code>mockLatency</code> - latency of API responses, see {@link Latency#parse(String)} (default none)</li>
+ *   <li><code>mockTokenLatency</code> - latency of token responses (default none)</li>
+ *   <li><code>mockErrorRate</code> - share of API requests failed with 503, 0 to 1 (default 0)</li>
+ *   <li><code>mockThrottleRate</code> - API requests per second served, the rest get 429, 0 - unlimited (default 0)</li>
+ *   <li><code>mockThrottleBurst</code> - API requests served at once after an idle period (default 1)</li>
+ *   <li><code>mockPayloadSize</code> - records in each API response (default 20)</li>
+ *   <li><code>mockTokenTtl</code> - lifetime of issued access tokens, seconds (default 3600)</li>
+ * </ul>
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class MockUpworkServer implements Closeable {
+    public static final int DEFAULT_THREADS = 16;
+    public static final int DEFAULT_PAYLOAD_SIZE = 20;
+    public static final int DEFAULT_TOKEN_TTL = 3600;
+
+    private static final String TOKEN_PATH = "/api/v3/oauth2/token";
+
+    private final HttpServer server;
+    private final ExecutorService threads;
+    private final MockResponses responses;
+    private final Latency latency;
+    private final Latency tokenLatency;
+    private final double errorRate;
+    private final long throttleInterval;
+    private final long throttleBurst;
+    private final long tokenTtl;
+    private final Map<String, Long> issuedTokens = new ConcurrentHashMap<String, Long>();
+    private final AtomicLong tokenSequence = new AtomicLong();
+    private long nextSlot;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder tokenRequests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    /**
+     * Start server configured by <code>mock*</code> properties
+     *
+     * @param config Config properties
+     * @throws IOException If server can not be started
+     */
+    public MockUpworkServer(Config config) throws IOException {
+        latency = Latency.parse(config.getProperty("mockLatency"));
+        tokenLatency = Latency.parse(config.getProperty("mockTokenLatency"));
+        errorRate = config.getDoubleProperty("mockErrorRate", 0);
+        double throttleRate = config.getDoubleProperty("mockThrottleRate", 0);
+        throttleInterval = (throttleRate > 0) ? (long) (TimeUnit.SECONDS.toNanos(1) / throttleRate) : 0;
+        throttleBurst = Math.max(1, config.getIntProperty("mockThrottleBurst", 1));
+        tokenTtl = config.getIntProperty("mockTokenTtl", DEFAULT_TOKEN_TTL);
+        responses = new MockResponses(config.getIntProperty("mockPayloadSize", DEFAULT_PAYLOAD_SIZE));
+
+        threads = Executors.newFixedThreadPool(config.getIntProperty("mockThreads", DEFAULT_THREADS), r -> {
+            Thread thread = new Thread(r, "upwork-mock-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", config.getIntProperty("mockPort", 0)), 0);
+        } catch (IOException e) {
+            threads.shutdown();
+            throw e;
+        }
+        server.setExecutor(threads);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Port the server listens on
+     *
+     * @return Port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Base URL of the server
+     *
+     * @return URL, e.g. <code>http://127.0.0.1:49152</code>
+     */
+    public String getUrl() {
+        return "http://127.0.0.1:" + getPort();
+    }
+
+    /**
+     * Create pooled transport with default settings, sending all requests to
+     * this server, whatever their host
+     *
+     * @return {@link HttpTransport}
+     */
+    public HttpTransport newTransport() {
+        return newTransport(new Config(null));
+    }
+
+    /**
+     * Create pooled transport configured by <code>http*</code> properties,
+     * sending all requests to this server, whatever their host
+     *
+     * @param config Config properties
+     * @return {@link HttpTransport}
+     */
+    public HttpTransport newTransport(Config config) {
+        String base = getUrl();
+        return new PooledHttpTransport.Factory(
+                url -> (HttpURLConnection) new URL(base + url.getFile()).openConnection()).create(config);
+    }
+
+    /**
+     * Number of API requests received, token requests excluded
+     *
+     * @return Requests
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Number of token requests received
+     *
+     * @return Token requests
+     */
+    public long getTokenRequestCount() {
+        return tokenRequests.sum();
+    }
+
+    /**
+     * Number of API requests failed with 503
+     *
+     * @return Errors
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * Number of API requests throttled with 429
+     *
+     * @return Throttled requests
+     */
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * Stop the server
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        threads.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            drain(exchange.getRequestBody());
+            String path = exchange.getRequestURI().getPath();
+            if (TOKEN_PATH.equals(path)) {
+                tokenRequests.increment();
+                sleep(tokenLatency);
+                issueToken(exchange);
+                return;
+            }
+            requests.increment();
+            sleep(latency);
+            if (!authorized(exchange.getRequestHeaders().getFirst("Authorization"))) {
+                sendError(exchange, 401, "Invalid or expired access token");
+                return;
+            }
+            long wait = throttle();
+            if (wait > 0) {
+                throttled.increment();
+                exchange.getResponseHeaders().set("Retry-After",
+                        Long.toString(Math.max(1, (wait + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1))));
+                sendError(exchange, 429, "Too many requests");
+                return;
+            }
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                errors.increment();
+                sendError(exchange, 503, "Service temporarily unavailable");
+                return;
+            }
+            send(exchange, 200, responses.forPath(path));
+        } catch (InterruptedException e) {
+            // server is closing
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void issueToken(HttpExchange exchange) throws IOException {
+        String accessToken = "mock-access-" + tokenSequence.incrementAndGet();
+        issuedTokens.put(accessToken, System.nanoTime() + TimeUnit.SECONDS.toNanos(tokenTtl));
+        send(exchange, 200, MockResponses.token(accessToken, "mock-refresh", tokenTtl));
+    }
+
+    private boolean authorized(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return false;
+        }
+        Long expires = issuedTokens.get(authorization.substring("Bearer ".length()));
+        return expires == null || expires - System.nanoTime() > 0;
+    }
+
+    /**
+     * Take a slot of the throttling bucket
+     *
+     * @return 0 if the request is served, otherwise time until the next free slot, nanoseconds
+     */
+    private synchronized long throttle() {
+        if (throttleInterval == 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        // an idle bucket refills up to the burst
+        long earliest = now - (throttleBurst - 1) * throttleInterval;
+        if (nextSlot - earliest < 0) {
+            nextSlot = earliest;
+        }
+        if (nextSlot - now > 0) {
+            return nextSlot - now;
+        }
+        nextSlot += throttleInterval;
+        return 0;
+    }
+
+    private static void sleep(Latency latency) throws InterruptedException {
+        long nanos = latency.sample();
+        if (nanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        exchange.getResponseHeaders().set("X-Upwork-Error-Code", Integer.toString(status));
+        exchange.getResponseHeaders().set("X-Upwork-Error-Message", message);
+        send(exchange, status, ("{\"error\": {\"code\": \"" + status + "\", \"message\": \"" + message + "\"}}")
+                .getBytes("UTF-8"));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void drain(InputStream in) throws IOException {
+        byte[] buffer = new byte[4096];
+        while (in.read(buffer) >= 0) {
+            // body is not used, read to keep the connection alive
+        }
+        in.close();
+    }
+}
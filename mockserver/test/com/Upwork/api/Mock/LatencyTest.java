@@ -0,0 +1,59 @@
+package com.Upwork.api.Mock;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyTest {
+	private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private static long[] samples(Latency latency, int count) {
+		long[] samples = new long[count];
+		for (int i = 0; i < count; i++) {
+			samples[i] = latency.sample();
+		}
+		Arrays.sort(samples);
+		return samples;
+	}
+
+	@Test public void fixed() {
+		assertEquals(20 * MS, Latency.parse("20").sample());
+		assertEquals(20 * MS, Latency.parse("fixed:20").sample());
+		assertEquals(0, Latency.parse(null).sample());
+		assertEquals(0, Latency.parse(" ").sample());
+	}
+
+	@Test public void uniform() {
+		long[] samples = samples(Latency.parse("uniform:10-50"), 1000);
+
+		assertTrue(samples[0] >= 10 * MS);
+		assertTrue(samples[samples.length - 1] <= 50 * MS);
+	}
+
+	@Test public void exponential() {
+		long[] samples = samples(Latency.parse("exponential:20"), 10000);
+		double mean = Arrays.stream(samples).average().getAsDouble();
+
+		assertEquals(20 * MS, mean, 2 * MS);
+	}
+
+	@Test public void logNormal() {
+		long[] samples = samples(Latency.parse("lognormal:20, 0.5"), 10001);
+
+		assertEquals(20 * MS, samples[5000], 2 * MS);
+		assertTrue("long tail", samples[9900] > 2 * samples[5000]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnknown() {
+		Latency.parse("pareto:1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalid() {
+		Latency.parse("uniform:50");
+	}
+}
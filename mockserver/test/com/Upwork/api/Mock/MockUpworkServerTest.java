@@ -0,0 +1,138 @@
+package com.Upwork.api.Mock;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Test;
+
+import com.Upwork.api.Config;
+import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Http.PooledHttpTransport;
+import com.Upwork.api.Http.RetryPolicy;
+import com.google.api.client.auth.oauth2.TokenResponse;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpResponse;
+
+public class MockUpworkServerTest {
+	private MockUpworkServer server;
+	private PooledHttpTransport transport;
+	private OAuthClient client;
+
+	private void start(String... settings) throws IOException {
+		Properties properties = new Properties();
+		properties.setProperty("clientId", "key");
+		properties.setProperty("clientSecret", "secret");
+		properties.setProperty("mockPayloadSize", "5");
+		for (int i = 0; i < settings.length; i += 2) {
+			properties.setProperty(settings[i], settings[i + 1]);
+		}
+		Config config = new Config(properties);
+		server = new MockUpworkServer(config);
+		transport = (PooledHttpTransport) server.newTransport(config);
+		client = new OAuthClient(config, transport);
+		client.setTokenResponse(new TokenResponse().setAccessToken("token").setExpiresInSeconds(3600L), null);
+	}
+
+	@After
+	public void tearDown() {
+		if (client != null) {
+			client.close();
+		}
+		if (server != null) {
+			server.close();
+		}
+	}
+
+	@Test public void servesRoutes() throws Exception {
+		start();
+
+		JSONObject jobs = client.get("/profiles/v2/search/jobs", new HashMap<String, String>());
+		assertEquals(5, jobs.getJSONArray("jobs").length());
+		JSONObject report = client.forEntryPoint("gds").get("/timereports/v1/companies/1234", new HashMap<String, String>());
+		assertEquals(5, report.getJSONObject("table").getJSONArray("rows").length());
+		JSONObject stories = client.get("/messages/v3/1234/rooms/room/stories", new HashMap<String, String>());
+		assertEquals(5, stories.getJSONObject("stories").getJSONArray("stories").length());
+		HashMap<String, String> query = new HashMap<String, String>();
+		query.put("query", "{ nodes { edges { node { id } } } }");
+		JSONObject graphql = client.forEntryPoint("graphql").post("", query);
+		assertEquals(5, graphql.getJSONObject("data").getJSONObject("nodes").getJSONArray("edges").length());
+
+		assertEquals(4, server.getRequestCount());
+	}
+
+	@Test public void issuesTokens() throws Exception {
+		start();
+		client.setTokenResponse(new TokenResponse().setAccessToken("old").setRefreshToken("refresh")
+				.setExpiresInSeconds(0L), null);
+
+		assertFalse(client.get("/auth/v1/info", new HashMap<String, String>()).has("error"));
+		assertEquals(1, server.getTokenRequestCount());
+	}
+
+	@Test public void rejectsUnauthorized() throws Exception {
+		start();
+		HttpResponse response = server.newTransport().createRequestFactory()
+				.buildGetRequest(new GenericUrl("https://www.upwork.com/api/auth/v1/info.json"))
+				.setThrowExceptionOnExecuteError(false)
+				.execute();
+
+		assertEquals(401, response.getStatusCode());
+		assertEquals("401", response.getHeaders().getFirstHeaderStringValue("X-Upwork-Error-Code"));
+		response.disconnect();
+	}
+
+	@Test public void throttles() throws Exception {
+		start("mockThrottleRate", "0.1");
+
+		assertFalse(client.get("/auth/v1/info", new HashMap<String, String>()).has("error"));
+		assertTrue(client.get("/auth/v1/info", new HashMap<String, String>()).has("error"));
+		assertEquals(1, server.getThrottledCount());
+	}
+
+	@Test public void injectsErrors() throws Exception {
+		start("mockErrorRate", "1");
+
+		assertTrue(client.get("/auth/v1/info", new HashMap<String, String>()).has("error"));
+		assertEquals(1, server.getErrorCount());
+	}
+
+	@Test public void addsLatency() throws Exception {
+		start("mockLatency", "100");
+
+		long start = System.nanoTime();
+		client.get("/auth/v1/info", new HashMap<String, String>());
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+	}
+
+	@Test public void servesConcurrentClients() throws Exception {
+		start("mockErrorRate", "0.05", "mockLatency", "uniform:0-5", "httpMaxConnections", "4");
+		client.setRetryPolicy(new RetryPolicy(5, 0, 0, 100));
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+			for (int i = 0; i < 200; i++) {
+				results.add(executor.submit(() -> !client.get("/hr/v2/engagements", new HashMap<String, String>()).has("error")));
+			}
+			for (Future<Boolean> result : results) {
+				assertTrue(result.get(30, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(200 + server.getErrorCount(), server.getRequestCount());
+		// every request gave its slot back to the pool, error responses too
+		assertEquals(4, transport.getAvailableConnections());
+	}
+}
@@ -69,4 +69,36 @@ public class Config {
 	public String getProperty(String key) {
 		return this.properties.getProperty(key);
 	}
+	
+	/**
+	 * Get property by name, or default value if it is not set
+	 * @param key Parameter name
+	 * @param defaultValue Default value
+	 * */
+	public String getProperty(String key, String defaultValue) {
+		String value = getProperty(key);
+		return (value == null) ? defaultValue : value;
+	}
+	
+	/**
+	 * Get integer property by name, or default value if it is not set
+	 * @param key Parameter name
+	 * @param defaultValue Default value
+	 * @throws NumberFormatException If property is not a number
+	 * */
+	public int getIntProperty(String key, int defaultValue) {
+		String value = getProperty(key);
+		return (value == null) ? defaultValue : Integer.parseInt(value.trim());
+	}
+	
+	/**
+	 * Get decimal property by name, or default value if it is not set
+	 * @param key Parameter name
+	 * @param defaultValue Default value
+	 * @throws NumberFormatException If property is not a number
+	 * */
+	public double getDoubleProperty(String key, double defaultValue) {
+		String value = getProperty(key);
+		return (value == null) ? defaultValue : Double.parseDouble(value.trim());
+	}
 }
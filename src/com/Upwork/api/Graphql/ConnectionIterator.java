@@ -0,0 +1,208 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Graphql;
+
+import com.Upwork.ClassPreamble;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterator over the nodes of a Relay connection, following
+ * <code>pageInfo.endCursor</code> while <code>pageInfo.hasNextPage</code>.
+ *
+ * The next page is requested as soon as the current one arrives, so it is
+ * fetched while the current one is consumed; at most two pages are held in
+ * memory. Nodes are read from <code>edges[].node</code>, or from
+ * <code>nodes</code> if the query selects no edges. Request errors are
+ * thrown as {@link UncheckedIOException}, GraphQL errors without data as
+ * {@link IllegalStateException}.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class ConnectionIterator implements Iterator<JSONObject>, Closeable {
+
+    /**
+     * Requests a page of the connection
+     */
+    public interface Fetcher {
+
+        /**
+         * Start request of the page
+         *
+         * @param cursor Cursor to continue after, {@code null} for the first page
+         * @return {@link CompletableFuture} with the GraphQL response
+         */
+        CompletableFuture<JSONObject> fetch(String cursor);
+    }
+
+    private final Fetcher fetcher;
+    private final String[] path;
+    private CompletableFuture<JSONObject> pending;
+    private Iterator<JSONObject> current = Collections.emptyIterator();
+
+    /**
+     * Constructor, requests the first page
+     *
+     * @param fetcher Page fetcher
+     * @param cursor  Cursor to start after, or {@code null}
+     * @param path    Field names leading from <code>data</code> to the connection
+     */
+    public ConnectionIterator(Fetcher fetcher, String cursor, String... path) {
+        if (path == null || path.length == 0) {
+            throw new IllegalArgumentException("Path to the connection must not be empty");
+        }
+        this.fetcher = fetcher;
+        this.path = path;
+        pending = fetcher.fetch(cursor);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (pending == null) {
+                return false;
+            }
+            JSONObject response;
+            try {
+                response = join(pending);
+            } catch (RuntimeException e) {
+                pending = null;
+                throw e;
+            }
+            pending = null;
+            current = read(response);
+        }
+        return true;
+    }
+
+    @Override
+    public JSONObject next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Get sequential stream over the rest of the nodes, closing the iterator on close
+     *
+     * @return {@link Stream}
+     */
+    public Stream<JSONObject> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Stop fetching; the page already requested is dropped
+     */
+    @Override
+    public void close() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        current = Collections.emptyIterator();
+    }
+
+    /**
+     * Get nodes of the page and request the next one
+     */
+    private Iterator<JSONObject> read(JSONObject response) {
+        JSONObject connection = response.optJSONObject("data");
+        for (int i = 0; connection != null && i < path.length; i++) {
+            connection = connection.optJSONObject(path[i]);
+        }
+        if (connection == null) {
+            Object errors = response.has("errors") ? response.opt("errors") : response.opt("error");
+            if (errors != null) {
+                throw new IllegalStateException("GraphQL request failed: " + errors);
+            }
+            return Collections.emptyIterator();
+        }
+
+        List<JSONObject> nodes = new ArrayList<JSONObject>();
+        JSONArray edges = connection.optJSONArray("edges");
+        if (edges != null) {
+            for (int i = 0; i < edges.length(); i++) {
+                JSONObject edge = edges.optJSONObject(i);
+                JSONObject node = (edge == null) ? null : edge.optJSONObject("node");
+                if (node != null) {
+                    nodes.add(node);
+                }
+            }
+        } else {
+            JSONArray list = connection.optJSONArray("nodes");
+            for (int i = 0; list != null && i < list.length(); i++) {
+                JSONObject node = list.optJSONObject(i);
+                if (node != null) {
+                    nodes.add(node);
+                }
+            }
+        }
+
+        JSONObject pageInfo = connection.optJSONObject("pageInfo");
+        String endCursor = (pageInfo == null || pageInfo.isNull("endCursor")) ? null : pageInfo.optString("endCursor");
+        // an empty page can not move the cursor
+        if (pageInfo != null && pageInfo.optBoolean("hasNextPage") && endCursor != null && !nodes.isEmpty()) {
+            pending = fetcher.fetch(endCursor);
+        }
+        return nodes.iterator();
+    }
+
+    private static JSONObject join(CompletableFuture<JSONObject> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("Interrupted waiting for response", e));
+        } catch (ExecutionException | CancellationException e) {
+            Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new UncheckedIOException((cause instanceof IOException)
+                    ? (IOException) cause : new IOException(cause.getMessage(), cause));
+        }
+    }
+}
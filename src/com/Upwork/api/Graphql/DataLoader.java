@@ -0,0 +1,292 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Graphql;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Routers.Graphql;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects keys requested one by one and loads them in batches, with one
+ * result memoized per key.
+ *
+ * A loader is meant for one unit of work, e.g. handling of one incoming
+ * request, and dropped after it, so its results are never stale by more
+ * than the unit of work. Queued keys are loaded on {@link #dispatch()}, or
+ * <code>window</code> milliseconds after the first of them if the window
+ * is set, and at once when <code>maxBatch</code> keys are queued.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class DataLoader<K, V> {
+
+    /**
+     * Loads a batch of keys
+     */
+    public interface BatchLoader<K, V> {
+
+        /**
+         * Start loading
+         *
+         * @param keys Distinct keys
+         * @return {@link CompletableFuture} with the values found, keys not in the map get {@code null}
+         */
+        CompletableFuture<Map<K, V>> load(List<K> keys);
+    }
+
+    private static volatile ScheduledExecutorService scheduler;
+
+    private final BatchLoader<K, V> loader;
+    private final int maxBatch;
+    private final long window;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> results = new ConcurrentHashMap<K, CompletableFuture<V>>();
+    private List<Pending<K, V>> queue = new ArrayList<Pending<K, V>>();
+    private ScheduledFuture<?> timer;
+
+    /**
+     * Constructor
+     *
+     * @param loader   Batch loader
+     * @param maxBatch Max keys per batch
+     * @param window   Time to wait for more keys, milliseconds, or -1 to wait for {@link #dispatch()}
+     */
+    public DataLoader(BatchLoader<K, V> loader, int maxBatch, long window) {
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.loader = loader;
+        this.maxBatch = maxBatch;
+        this.window = window;
+    }
+
+    /**
+     * Get loader of objects by a GraphQL query taking a list of keys, e.g.
+     * <code>query($ids: [ID!]) { contracts(ids: $ids) { id title } }</code>
+     *
+     * @param graphql      GraphQL router
+     * @param operation    Operation
+     * @param keysVariable Variable the keys are passed in
+     * @param keyField     Field of the objects holding the key
+     * @param maxBatch     Max keys per query
+     * @param window       Time to wait for more keys, milliseconds, or -1 to wait for {@link #dispatch()}
+     * @param path         Field names leading from <code>data</code> to the list of objects
+     * @return {@link DataLoader}
+     */
+    public static DataLoader<String, JSONObject> of(Graphql graphql, GraphqlOperation operation, String keysVariable,
+            String keyField, int maxBatch, long window, String... path) {
+        return new DataLoader<String, JSONObject>(keys -> graphql.ExecuteAsync(operation,
+                new GraphqlOperation.Variables().put(keysVariable, keys))
+                .thenApply(response -> index(response, keyField, path)), maxBatch, window);
+    }
+
+    /**
+     * Load value of the key; a key requested before gets the same result
+     *
+     * @param key Key
+     * @return {@link CompletableFuture} with the value, or {@code null} if it was not found
+     */
+    public CompletableFuture<V> load(K key) {
+        CompletableFuture<V> result = results.get(key);
+        if (result != null) {
+            return result;
+        }
+        CompletableFuture<V> created = new CompletableFuture<V>();
+        result = results.putIfAbsent(key, created);
+        if (result != null) {
+            return result;
+        }
+
+        List<Pending<K, V>> full = null;
+        synchronized (this) {
+            queue.add(new Pending<K, V>(key, created));
+            if (queue.size() >= maxBatch) {
+                full = take();
+            } else if (window >= 0 && timer == null) {
+                timer = scheduler().schedule(this::dispatch, window, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return created;
+    }
+
+    /**
+     * Load values of the keys
+     *
+     * @param keys Keys
+     * @return {@link CompletableFuture} with the values, in the order of the keys
+     */
+    public CompletableFuture<List<V>> loadMany(Collection<K> keys) {
+        List<CompletableFuture<V>> futures = new ArrayList<CompletableFuture<V>>(keys.size());
+        for (K key : keys) {
+            futures.add(load(key));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            List<V> values = new ArrayList<V>(futures.size());
+            for (CompletableFuture<V> future : futures) {
+                values.add(future.join());
+            }
+            return values;
+        });
+    }
+
+    /**
+     * Load the queued keys
+     */
+    public void dispatch() {
+        List<Pending<K, V>> keys;
+        synchronized (this) {
+            keys = take();
+        }
+        for (int from = 0; from < keys.size(); from += maxBatch) {
+            send(keys.subList(from, Math.min(keys.size(), from + maxBatch)));
+        }
+    }
+
+    /**
+     * Forget the result of the key, so it is loaded again
+     *
+     * @param key Key
+     */
+    public void clear(K key) {
+        results.remove(key);
+    }
+
+    /**
+     * Forget all the results
+     */
+    public void clearAll() {
+        results.clear();
+    }
+
+    private List<Pending<K, V>> take() {
+        List<Pending<K, V>> taken = queue;
+        queue = new ArrayList<Pending<K, V>>();
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+        return taken;
+    }
+
+    private void send(List<Pending<K, V>> pending) {
+        List<K> keys = new ArrayList<K>(pending.size());
+        for (Pending<K, V> item : pending) {
+            keys.add(item.key);
+        }
+        CompletableFuture<Map<K, V>> batch;
+        try {
+            batch = loader.load(keys);
+        } catch (RuntimeException e) {
+            batch = new CompletableFuture<Map<K, V>>();
+            batch.completeExceptionally(e);
+        }
+        batch.whenComplete((values, failure) -> {
+            for (Pending<K, V> item : pending) {
+                if (failure != null) {
+                    // not memoized, a later load tries again
+                    results.remove(item.key, item.result);
+                    item.result.completeExceptionally(failure);
+                } else {
+                    item.result.complete((values == null) ? null : values.get(item.key));
+                }
+            }
+        });
+    }
+
+    /**
+     * Index the objects of the response by key
+     */
+    static Map<String, JSONObject> index(JSONObject response, String keyField, String[] path) {
+        Object list = response.optJSONObject("data");
+        for (int i = 0; list instanceof JSONObject && i < path.length; i++) {
+            list = ((JSONObject) list).opt(path[i]);
+        }
+        if (!(list instanceof JSONArray)) {
+            Object errors = response.has("errors") ? response.opt("errors") : response.opt("error");
+            if (errors != null) {
+                throw new IllegalStateException("GraphQL request failed: " + errors);
+            }
+            return new HashMap<String, JSONObject>();
+        }
+        JSONArray objects = (JSONArray) list;
+        Map<String, JSONObject> values = new HashMap<String, JSONObject>(objects.length() * 2);
+        for (int i = 0; i < objects.length(); i++) {
+            JSONObject object = objects.optJSONObject(i);
+            if (object != null && object.has(keyField)) {
+                values.put(object.optString(keyField), object);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Get the daemon thread that sends batches when their window passes,
+     * shared by the loaders and {@link GraphqlBatcher}
+     *
+     * @return {@link ScheduledExecutorService}
+     */
+    static ScheduledExecutorService scheduler() {
+        ScheduledExecutorService shared = scheduler;
+        if (shared == null) {
+            synchronized (DataLoader.class) {
+                if (scheduler == null) {
+                    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                        Thread t = new Thread(r, "upwork-graphql-batches");
+                        t.setDaemon(true);
+                        return t;
+                    });
+                }
+                shared = scheduler;
+            }
+        }
+        return shared;
+    }
+
+    private static final class Pending<K, V> {
+        final K key;
+        final CompletableFuture<V> result;
+
+        Pending(K key, CompletableFuture<V> result) {
+            this.key = key;
+            this.result = result;
+        }
+    }
+}
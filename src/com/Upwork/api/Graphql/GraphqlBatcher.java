@@ -0,0 +1,229 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Graphql;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Routers.Graphql;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Collects GraphQL lookups submitted within a short window and sends them
+ * as one query, each lookup under its own alias.
+ *
+ * A lookup is a single root field with its selection, e.g.
+ * <code>user { id nid }</code> or <code>me: user { id }</code>. A batch is
+ * sent once <code>window</code> milliseconds passed since its first lookup,
+ * or once it holds <code>maxBatch</code> lookups. Each caller gets the
+ * response as if its lookup was sent alone: its field under
+ * <code>data</code>, and the <code>errors</code> of its field.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class GraphqlBatcher implements Closeable {
+    private static final Pattern FIELD = Pattern.compile("\\s*([_A-Za-z][_0-9A-Za-z]*)\\s*(:\\s*[_A-Za-z])?");
+    private static final String ALIAS_PREFIX = "b";
+
+    private final Graphql graphql;
+    private final long window;
+    private final int maxBatch;
+    private List<Lookup> batch = new ArrayList<Lookup>();
+    private ScheduledFuture<?> timer;
+    private boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param graphql  GraphQL router
+     * @param window   Time to wait for more lookups, milliseconds
+     * @param maxBatch Max lookups per query
+     */
+    public GraphqlBatcher(Graphql graphql, long window, int maxBatch) {
+        if (window < 0 || maxBatch <= 0) {
+            throw new IllegalArgumentException("Window must not be negative, batch size must be positive");
+        }
+        this.graphql = graphql;
+        this.window = window;
+        this.maxBatch = maxBatch;
+    }
+
+    /**
+     * Submit lookup
+     *
+     * @param field Root field with its selection
+     * @throws IllegalArgumentException If lookup does not start with a field name
+     * @throws IllegalStateException    If the batcher is closed
+     * @return {@link CompletableFuture} with the response of the lookup
+     */
+    public CompletableFuture<JSONObject> submit(String field) {
+        Matcher matcher = FIELD.matcher(field);
+        if (!matcher.lookingAt()) {
+            throw new IllegalArgumentException("Lookup must start with a field name: " + field);
+        }
+        // the caller's alias, if any, is replaced and restored in the response
+        String key = matcher.group(1);
+        String selection = (matcher.group(2) != null)
+                ? field.substring(matcher.end(2) - 1)
+                : field.substring(matcher.start(1));
+        Lookup lookup = new Lookup(key, selection);
+
+        List<Lookup> full = null;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Batcher is closed");
+            }
+            batch.add(lookup);
+            if (batch.size() >= maxBatch) {
+                full = take();
+            } else if (timer == null) {
+                timer = DataLoader.scheduler().schedule(this::flush, window, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return lookup.result;
+    }
+
+    /**
+     * Send the lookups collected so far without waiting for the window to pass
+     */
+    public void flush() {
+        List<Lookup> lookups;
+        synchronized (this) {
+            lookups = take();
+        }
+        if (!lookups.isEmpty()) {
+            send(lookups);
+        }
+    }
+
+    /**
+     * Send the pending lookups and reject any further ones
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        flush();
+    }
+
+    private List<Lookup> take() {
+        List<Lookup> taken = batch;
+        batch = new ArrayList<Lookup>();
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+        return taken;
+    }
+
+    private void send(List<Lookup> lookups) {
+        StringBuilder query = new StringBuilder("query {");
+        for (int i = 0; i < lookups.size(); i++) {
+            query.append(' ').append(ALIAS_PREFIX).append(i).append(": ").append(lookups.get(i).selection);
+        }
+        HashMap<String, String> params = new HashMap<String, String>();
+        params.put("query", query.append(" }").toString());
+
+        graphql.ExecuteAsync(params).whenComplete((response, failure) -> {
+            for (int i = 0; i < lookups.size(); i++) {
+                Lookup lookup = lookups.get(i);
+                if (failure != null) {
+                    lookup.result.completeExceptionally(failure);
+                    continue;
+                }
+                try {
+                    lookup.result.complete(split(response, ALIAS_PREFIX + i, lookup.key));
+                } catch (JSONException | RuntimeException e) {
+                    lookup.result.completeExceptionally(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Get response of one lookup out of the batch response
+     *
+     * @param response Batch response
+     * @param alias    Alias of the lookup in the batch
+     * @param key      Key the caller expects
+     * @return Response of the lookup, or the whole response if it holds no data
+     */
+    static JSONObject split(JSONObject response, String alias, String key) throws JSONException {
+        JSONObject data = response.optJSONObject("data");
+        if (data == null) {
+            // the request failed as a whole
+            return response;
+        }
+        JSONObject result = new JSONObject();
+        result.put("data", new JSONObject().put(key, data.has(alias) ? data.get(alias) : JSONObject.NULL));
+
+        JSONArray errors = response.optJSONArray("errors");
+        if (errors != null) {
+            JSONArray own = new JSONArray();
+            for (int i = 0; i < errors.length(); i++) {
+                JSONObject error = errors.optJSONObject(i);
+                JSONArray path = (error == null) ? null : error.optJSONArray("path");
+                if (path != null && path.length() > 0 && alias.equals(path.opt(0))) {
+                    JSONObject copy = new JSONObject(error.toString());
+                    copy.getJSONArray("path").put(0, key);
+                    own.put(copy);
+                } else if (path == null || path.length() == 0) {
+                    // query-level error, every lookup is affected
+                    own.put(error);
+                }
+            }
+            if (own.length() > 0) {
+                result.put("errors", own);
+            }
+        }
+        return result;
+    }
+
+    private static final class Lookup {
+        final String key;
+        final String selection;
+        final CompletableFuture<JSONObject> result = new CompletableFuture<JSONObject>();
+
+        Lookup(String key, String selection) {
+            this.key = key;
+            this.selection = selection;
+        }
+    }
+}
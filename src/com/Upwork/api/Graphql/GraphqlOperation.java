@@ -0,0 +1,477 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Graphql;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Http.Digests;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.api.client.http.HttpContent;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GraphQL operation: an immutable query with the constant part of its
+ * request bodies encoded once.
+ *
+ * The query header is parsed for the operation name and the declared
+ * variables. Request bodies are written as the pre-encoded prefix, then the
+ * {@link Variables} streamed straight into the request, then the closing
+ * brace, so only the variables are serialized per request. Operations are
+ * safe to share between threads and meant to be kept in constants.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class GraphqlOperation {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final String CONTENT_TYPE = "application/json; charset=UTF-8";
+    private static final Pattern HEADER = Pattern.compile(
+            "\\s*(?:query|mutation|subscription)\\b\\s*([_A-Za-z][_0-9A-Za-z]*)?\\s*(\\(([^)]*)\\))?");
+    private static final Pattern VARIABLE = Pattern.compile("\\$([_A-Za-z][_0-9A-Za-z]*)");
+
+    private final String query;
+    private final String name;
+    private final Set<String> declared;
+    private final String hash;
+    private final byte[] textPrefix;
+    private final byte[] hashPrefix;
+    private final byte[] textHashPrefix;
+
+    private GraphqlOperation(String query) {
+        this.query = query;
+        Matcher header = findHeader(query);
+        Set<String> names = new LinkedHashSet<String>();
+        if (header != null) {
+            name = header.group(1);
+            if (header.group(3) != null) {
+                Matcher variable = VARIABLE.matcher(header.group(3));
+                while (variable.find()) {
+                    names.add(variable.group(1));
+                }
+            }
+        } else {
+            name = null;
+        }
+        declared = Collections.unmodifiableSet(names);
+        hash = Digests.sha256Hex(query);
+        textPrefix = prefix(true, false);
+        hashPrefix = prefix(false, true);
+        textHashPrefix = prefix(true, true);
+    }
+
+    /**
+     * Find the header of the first operation definition in the document,
+     * which may start with fragments or comments
+     *
+     * @return Matcher of {@link #HEADER}, or {@code null} if there is none
+     */
+    private static Matcher findHeader(String document) {
+        String text = stripComments(document);
+        Matcher header = HEADER.matcher(text);
+        int depth = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                i = skipString(text, i);
+            } else if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+            } else if (depth == 0 && (i == 0 || !isNameChar(text.charAt(i - 1))) && isNameChar(c)) {
+                header.region(i, text.length());
+                if (header.lookingAt()) {
+                    return header;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Blank out <code>#</code> comments, keeping string values
+     */
+    private static String stripComments(String text) {
+        StringBuilder result = new StringBuilder(text);
+        for (int i = 0; i < result.length(); i++) {
+            char c = result.charAt(i);
+            if (c == '"') {
+                i = skipString(text, i);
+            } else if (c == '#') {
+                for (; i < result.length() && result.charAt(i) != '\n' && result.charAt(i) != '\r'; i++) {
+                    result.setCharAt(i, ' ');
+                }
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Skip string or block string value
+     *
+     * @param start Index of the opening quote
+     * @return Index of the last character of the value
+     */
+    private static int skipString(String text, int start) {
+        if (text.startsWith("\"\"\"", start)) {
+            int end = text.indexOf("\"\"\"", start + 3);
+            return (end < 0) ? text.length() : end + 2;
+        }
+        for (int i = start + 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"' || c == '\n') {
+                return i;
+            }
+        }
+        return text.length();
+    }
+
+    private static boolean isNameChar(char c) {
+        return c == '_' || c >= '0' && c <= '9' || c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z';
+    }
+
+    /**
+     * Parse operation
+     *
+     * @param query Query text
+     * @return {@link GraphqlOperation}
+     */
+    public static GraphqlOperation of(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Query must not be empty");
+        }
+        return new GraphqlOperation(query);
+    }
+
+    /**
+     * Get query text
+     *
+     * @return Query
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Get operation name
+     *
+     * @return Name, or {@code null} for an anonymous operation
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get names of the declared variables
+     *
+     * @return Names, without <code>$</code>
+     */
+    public Set<String> getVariableNames() {
+        return declared;
+    }
+
+    /**
+     * Get SHA-256 of the query text, as used by persisted queries
+     *
+     * @return Lowercase hex digest
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * Build request body sending the query text
+     *
+     * @param variables Variables, or {@code null}
+     * @throws IllegalArgumentException If a variable is not declared by the operation
+     * @return {@link HttpContent}, which may be sent more than once
+     */
+    public HttpContent content(Variables variables) {
+        return content(variables, true, false);
+    }
+
+    /**
+     * Build request body
+     *
+     * @param variables Variables, or {@code null}
+     * @param text      Whether to send the query text
+     * @param persisted Whether to send the query hash
+     * @return {@link HttpContent}
+     */
+    HttpContent content(Variables variables, boolean text, boolean persisted) {
+        if (variables != null) {
+            for (String variable : variables.names) {
+                if (!declared.contains(variable)) {
+                    throw new IllegalArgumentException("Variable $" + variable + " is not declared by the operation");
+                }
+            }
+        }
+        byte[] prefix = !persisted ? textPrefix : (text ? textHashPrefix : hashPrefix);
+        return new Body(prefix, variables);
+    }
+
+    /**
+     * Encode body up to the value of <code>variables</code>
+     */
+    private byte[] prefix(boolean text, boolean persisted) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(query.length() + 128);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            if (text) {
+                generator.writeStringField("query", query);
+            }
+            if (name != null) {
+                generator.writeStringField("operationName", name);
+            }
+            if (persisted) {
+                generator.writeObjectFieldStart("extensions");
+                generator.writeObjectFieldStart("persistedQuery");
+                generator.writeNumberField("version", 1);
+                generator.writeStringField("sha256Hash", hash);
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+            generator.writeFieldName("variables");
+            // flushed with the object left open; the colon is written with the value
+            generator.flush();
+            out.write(':');
+            return out.toByteArray();
+        } catch (IOException e) {
+            // writing to memory does not fail
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Values of operation variables, in the order they were set.
+     *
+     * Values are kept as given and serialized when the request is sent:
+     * strings, numbers, booleans, {@code null}, {@link JSONObject},
+     * {@link JSONArray}, {@link Map}s and {@link Iterable}s of those.
+     */
+    public static final class Variables {
+        private final List<String> names = new ArrayList<String>();
+        private final List<Object> values = new ArrayList<Object>();
+
+        /**
+         * Get variables of the JSON object
+         *
+         * @param json JSON object, or {@code null}
+         * @throws JSONException If object can not be read
+         * @return {@link Variables}
+         */
+        public static Variables of(JSONObject json) throws JSONException {
+            Variables variables = new Variables();
+            if (json != null) {
+                Iterator<?> keys = json.keys();
+                while (keys.hasNext()) {
+                    String key = (String) keys.next();
+                    variables.put(key, json.get(key));
+                }
+            }
+            return variables;
+        }
+
+        /**
+         * Set string variable
+         *
+         * @param name  Name, without <code>$</code>
+         * @param value Value
+         * @return This
+         */
+        public Variables put(String name, String value) {
+            return set(name, value);
+        }
+
+        /**
+         * Set integer variable
+         *
+         * @param name  Name, without <code>$</code>
+         * @param value Value
+         * @return This
+         */
+        public Variables put(String name, long value) {
+            return set(name, value);
+        }
+
+        /**
+         * Set decimal variable
+         *
+         * @param name  Name, without <code>$</code>
+         * @param value Value
+         * @return This
+         */
+        public Variables put(String name, double value) {
+            return set(name, value);
+        }
+
+        /**
+         * Set boolean variable
+         *
+         * @param name  Name, without <code>$</code>
+         * @param value Value
+         * @return This
+         */
+        public Variables put(String name, boolean value) {
+            return set(name, value);
+        }
+
+        /**
+         * Set variable of any supported type
+         *
+         * @param name  Name, without <code>$</code>
+         * @param value Value
+         * @return This
+         */
+        public Variables put(String name, Object value) {
+            return set(name, value);
+        }
+
+        /**
+         * Copy variables, values are not copied
+         *
+         * @return {@link Variables}
+         */
+        public Variables copy() {
+            Variables copy = new Variables();
+            copy.names.addAll(names);
+            copy.values.addAll(values);
+            return copy;
+        }
+
+        private Variables set(String name, Object value) {
+            int index = names.indexOf(name);
+            if (index >= 0) {
+                values.set(index, value);
+            } else {
+                names.add(name);
+                values.add(value);
+            }
+            return this;
+        }
+
+        void write(JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < names.size(); i++) {
+                generator.writeFieldName(names.get(i));
+                writeValue(generator, values.get(i));
+            }
+            generator.writeEndObject();
+        }
+
+        private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+            if (value == null || JSONObject.NULL.equals(value)) {
+                generator.writeNull();
+            } else if (value instanceof String) {
+                generator.writeString((String) value);
+            } else if (value instanceof Integer || value instanceof Long
+                    || value instanceof Short || value instanceof Byte) {
+                generator.writeNumber(((Number) value).longValue());
+            } else if (value instanceof Number) {
+                generator.writeNumber(((Number) value).doubleValue());
+            } else if (value instanceof Boolean) {
+                generator.writeBoolean((Boolean) value);
+            } else if (value instanceof JSONObject || value instanceof JSONArray) {
+                // org.json encodes its own values
+                generator.writeRawValue(value.toString());
+            } else if (value instanceof Map) {
+                generator.writeStartObject();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    generator.writeFieldName(String.valueOf(entry.getKey()));
+                    writeValue(generator, entry.getValue());
+                }
+                generator.writeEndObject();
+            } else if (value instanceof Iterable) {
+                generator.writeStartArray();
+                for (Object item : (Iterable<?>) value) {
+                    writeValue(generator, item);
+                }
+                generator.writeEndArray();
+            } else {
+                throw new IllegalArgumentException("Unsupported variable type " + value.getClass().getName());
+            }
+        }
+    }
+
+    /**
+     * Request body: the pre-encoded prefix, the variables and the closing brace
+     */
+    private static final class Body implements HttpContent {
+        private final byte[] prefix;
+        private final Variables variables;
+
+        Body(byte[] prefix, Variables variables) {
+            this.prefix = prefix;
+            this.variables = variables;
+        }
+
+        @Override
+        public long getLength() {
+            // streamed, the variables are not measured ahead
+            return -1;
+        }
+
+        @Override
+        public String getType() {
+            return CONTENT_TYPE;
+        }
+
+        @Override
+        public boolean retrySupported() {
+            return true;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            out.write(prefix);
+            if (variables == null) {
+                out.write('{');
+                out.write('}');
+            } else {
+                try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+                    variables.write(generator);
+                }
+            }
+            out.write('}');
+        }
+    }
+}
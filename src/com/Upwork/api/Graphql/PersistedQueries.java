@@ -0,0 +1,233 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Graphql;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Graphql.GraphqlOperation.Variables;
+import com.Upwork.api.OAuthClient;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends GraphQL operations as automatic persisted queries: a query is
+ * uploaded once together with its SHA-256 hash, later requests carry only
+ * the hash and the variables.
+ *
+ * Queries the server accepted are kept in a local {@link Registry}, shared
+ * by all the clients got from the same root client, see
+ * {@link OAuthClient#getPersistedQueryRegistry()}. If the server reports a
+ * registered hash unknown, e.g. after its cache was evicted, the full text is
+ * sent again; if it does not support persisted queries at all, full texts
+ * are sent from then on.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class PersistedQueries {
+    static final String NOT_FOUND = "PersistedQueryNotFound";
+    static final String NOT_SUPPORTED = "PersistedQueryNotSupported";
+    private static final String NOT_FOUND_CODE = "PERSISTED_QUERY_NOT_FOUND";
+    private static final String NOT_SUPPORTED_CODE = "PERSISTED_QUERY_NOT_SUPPORTED";
+    /** Queries built at run time should not grow the registry without bound */
+    private static final int MAX_REGISTERED = 1024;
+
+    /**
+     * Hashes of the queries the server accepted, and whether it supports
+     * persisted queries at all
+     */
+    public static final class Registry {
+        private final Set<String> registered = ConcurrentHashMap.newKeySet();
+        private final ConcurrentHashMap<String, GraphqlOperation> operations =
+                new ConcurrentHashMap<String, GraphqlOperation>();
+        private volatile boolean supported = true;
+    }
+
+    private final OAuthClient client;
+    private final Registry registry;
+
+    /**
+     * Constructor
+     *
+     * @param client Client bound to the <code>graphql</code> entry point
+     */
+    public PersistedQueries(OAuthClient client) {
+        this.client = client;
+        this.registry = client.getPersistedQueryRegistry();
+    }
+
+    /**
+     * Execute query
+     *
+     * @param query     Query text
+     * @param variables Variables, or {@code null}
+     * @throws JSONException If JSON object is invalid or request was abnormal
+     * @return {@link JSONObject}
+     */
+    public JSONObject execute(String query, JSONObject variables) throws JSONException {
+        return execute(operation(query), Variables.of(variables));
+    }
+
+    /**
+     * Execute operation
+     *
+     * @param operation Operation
+     * @param variables Variables, or {@code null}
+     * @throws JSONException If JSON object is invalid or request was abnormal
+     * @return {@link JSONObject}
+     */
+    public JSONObject execute(GraphqlOperation operation, Variables variables) throws JSONException {
+        if (registry.supported && registry.registered.contains(operation.getHash())) {
+            JSONObject response = client.post("", operation.content(variables, false, true));
+            if (!hasError(response, NOT_FOUND, NOT_FOUND_CODE)) {
+                return response;
+            }
+            registry.registered.remove(operation.getHash());
+        }
+        if (!registry.supported) {
+            return client.post("", operation.content(variables));
+        }
+        JSONObject response = client.post("", operation.content(variables, true, true));
+        if (hasError(response, NOT_SUPPORTED, NOT_SUPPORTED_CODE)) {
+            registry.supported = false;
+            return client.post("", operation.content(variables));
+        }
+        register(operation, response);
+        return response;
+    }
+
+    /**
+     * Execute query, asynchronously
+     *
+     * @param query     Query text
+     * @param variables Variables, or {@code null}
+     * @return {@link CompletableFuture} with JSON Object that contains data from response
+     */
+    public CompletableFuture<JSONObject> executeAsync(String query, JSONObject variables) {
+        try {
+            return executeAsync(operation(query), Variables.of(variables));
+        } catch (JSONException e) {
+            CompletableFuture<JSONObject> failed = new CompletableFuture<JSONObject>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    /**
+     * Execute operation, asynchronously
+     *
+     * @param operation Operation
+     * @param variables Variables, or {@code null}
+     * @return {@link CompletableFuture} with JSON Object that contains data from response
+     */
+    public CompletableFuture<JSONObject> executeAsync(GraphqlOperation operation, Variables variables) {
+        if (!registry.supported || !registry.registered.contains(operation.getHash())) {
+            return uploadAsync(operation, variables);
+        }
+        return client.postAsync("", operation.content(variables, false, true)).thenCompose(response -> {
+            if (!hasError(response, NOT_FOUND, NOT_FOUND_CODE)) {
+                return CompletableFuture.completedFuture(response);
+            }
+            registry.registered.remove(operation.getHash());
+            return uploadAsync(operation, variables);
+        });
+    }
+
+    /**
+     * Check whether the query is known to be registered on the server
+     *
+     * @param query Query text
+     * @return {@code true} if later requests send the hash only
+     */
+    public boolean isRegistered(String query) {
+        return registry.registered.contains(operation(query).getHash());
+    }
+
+    private CompletableFuture<JSONObject> uploadAsync(GraphqlOperation operation, Variables variables) {
+        if (!registry.supported) {
+            return client.postAsync("", operation.content(variables));
+        }
+        return client.postAsync("", operation.content(variables, true, true)).thenCompose(response -> {
+            if (hasError(response, NOT_SUPPORTED, NOT_SUPPORTED_CODE)) {
+                registry.supported = false;
+                return client.postAsync("", operation.content(variables));
+            }
+            register(operation, response);
+            return CompletableFuture.completedFuture(response);
+        });
+    }
+
+    private void register(GraphqlOperation operation, JSONObject response) {
+        // a failed request does not tell whether the server stored the query
+        if (!response.has("error") && registry.registered.size() < MAX_REGISTERED) {
+            registry.registered.add(operation.getHash());
+        }
+    }
+
+    /**
+     * Get operation of the query text, parsed once for the queries sent often
+     */
+    private GraphqlOperation operation(String query) {
+        GraphqlOperation operation = registry.operations.get(query);
+        if (operation == null) {
+            operation = GraphqlOperation.of(query);
+            if (registry.operations.size() < MAX_REGISTERED) {
+                registry.operations.putIfAbsent(query, operation);
+            }
+        }
+        return operation;
+    }
+
+    /**
+     * Check whether the response reports the given error
+     *
+     * @param response Response
+     * @param message  Error message
+     * @param code     Error <code>extensions.code</code>
+     * @return {@code true} if one of the errors matches
+     */
+    static boolean hasError(JSONObject response, String message, String code) {
+        JSONArray errors = response.optJSONArray("errors");
+        if (errors == null) {
+            return false;
+        }
+        for (int i = 0; i < errors.length(); i++) {
+            JSONObject error = errors.optJSONObject(i);
+            if (error == null) {
+                continue;
+            }
+            JSONObject extensions = error.optJSONObject("extensions");
+            String extensionCode = (extensions == null) ? null : extensions.optString("code", null);
+            if (message.equals(error.optString("message")) || code.equals(extensionCode)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Http;
+
+import com.Upwork.ClassPreamble;
+
+/**
+ * Receives the outcome and latency of every HTTP attempt, retries included.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public interface AttemptListener {
+
+    /**
+     * Called once an attempt got a response or failed
+     *
+     * @param method       Semantic HTTP method, e.g. <code>PUT</code> for a tunneled PUT
+     * @param route        Route of the request, see {@link RouteTemplate}
+     * @param attempt      Attempt number, 1 for the first one
+     * @param latencyNanos Time to the response headers or to the failure, nanoseconds
+     * @param statusCode   Response status code, 0 if the attempt failed with no response
+     */
+    void onAttempt(String method, String route, int attempt, long latencyNanos, int statusCode);
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Http;
+
+import com.Upwork.ClassPreamble;
+
+import java.nio.charset.Charset;
+
+/**
+ * Response body stored by {@link ResponseCache}, with the validators used
+ * to revalidate it.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class CachedResponse {
+    /** Rough per-entry bookkeeping cost, bytes */
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private final String etag;
+    private final String lastModified;
+    private final String charset;
+    private final byte[] body;
+
+    /**
+     * Constructor
+     *
+     * @param etag         ETag header, or {@code null}
+     * @param lastModified Last-Modified header, or {@code null}
+     * @param charset      Charset name of the body, or {@code null} if not declared
+     * @param body         Response body
+     */
+    public CachedResponse(String etag, String lastModified, String charset, byte[] body) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.charset = charset;
+        this.body = body;
+    }
+
+    /**
+     * @return ETag header, or {@code null}
+     */
+    public String getETag() {
+        return etag;
+    }
+
+    /**
+     * @return Last-Modified header, or {@code null}
+     */
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return Charset name of the body, or {@code null} if not declared
+     */
+    public String getCharsetName() {
+        return charset;
+    }
+
+    /**
+     * @return Charset of the body, or {@code null} if not declared
+     */
+    public Charset getCharset() {
+        return (charset == null) ? null : Charset.forName(charset);
+    }
+
+    /**
+     * @return Response body, must not be modified
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * @return Approximate memory taken by the entry, bytes
+     */
+    public long getSize() {
+        return ENTRY_OVERHEAD + body.length + 2L * (length(etag) + length(lastModified) + length(charset));
+    }
+
+    private static int length(String value) {
+        return (value == null) ? 0 : value.length();
+    }
+}
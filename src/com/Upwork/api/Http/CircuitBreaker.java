@@ -0,0 +1,296 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Http;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Config;
+import com.google.api.client.http.HttpExecuteInterceptor;
+import com.google.api.client.http.HttpRequest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breakers, one circuit per key (entry point, optionally with route
+ * template, see {@link RouteTemplate}), so a degraded backend fails fast
+ * instead of holding threads needed by the healthy ones.
+ *
+ * A circuit counts the last <code>window</code> attempts. Once the share of
+ * failed (no response or 5xx) or slow attempts reaches its threshold, the
+ * circuit opens and requests fail with {@link CircuitBreakerOpenException}.
+ * After <code>openTime</code> it is half-open and lets a few probes through:
+ * a failed probe opens it again, enough successful ones close it.
+ *
+ * Supported config properties:
+ * <ul>
+ *   <li><code>circuitBreakerWindow</code> - attempts counted per circuit, 0 - disabled (default 0)</li>
+ *   <li><code>circuitBreakerMinCalls</code> - attempts needed to judge a circuit (default 10)</li>
+ *   <li><code>circuitBreakerFailureRate</code> - failed attempts to open, percent (default 50)</li>
+ *   <li><code>circuitBreakerSlowCall</code> - latency of a slow attempt, milliseconds (default 10000)</li>
+ *   <li><code>circuitBreakerSlowCallRate</code> - slow attempts to open, percent (default 80)</li>
+ *   <li><code>circuitBreakerOpenTime</code> - time to stay open, milliseconds (default 30000)</li>
+ *   <li><code>circuitBreakerProbes</code> - successful probes to close (default 3)</li>
+ *   <li><code>circuitBreakerPerRoute</code> - whether each route has its own circuit (default false)</li>
+ * </ul>
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class CircuitBreaker {
+    public static final int DEFAULT_MIN_CALLS = 10;
+    public static final int DEFAULT_FAILURE_RATE = 50;
+    public static final int DEFAULT_SLOW_CALL = 10000;
+    public static final int DEFAULT_SLOW_CALL_RATE = 80;
+    public static final int DEFAULT_OPEN_TIME = 30000;
+    public static final int DEFAULT_PROBES = 3;
+
+    /**
+     * State of a circuit
+     */
+    public enum State {
+        /** Requests go, attempts are counted */
+        CLOSED,
+        /** Requests fail fast */
+        OPEN,
+        /** Probes go, other requests fail fast */
+        HALF_OPEN
+    }
+
+    private final int window;
+    private final int minCalls;
+    private final int failureRate;
+    private final long slowCall;
+    private final int slowCallRate;
+    private final long openTime;
+    private final int probes;
+    private final boolean perRoute;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<String, Circuit>();
+
+    /**
+     * Create circuit breakers configured by <code>circuitBreaker*</code> properties
+     *
+     * @param config Config properties
+     * @return {@link CircuitBreaker}, or {@code null} if circuit breaking is disabled
+     */
+    public static CircuitBreaker create(Config config) {
+        int window = config.getIntProperty("circuitBreakerWindow", 0);
+        if (window <= 0) {
+            return null;
+        }
+        return new CircuitBreaker(window,
+                config.getIntProperty("circuitBreakerMinCalls", DEFAULT_MIN_CALLS),
+                config.getIntProperty("circuitBreakerFailureRate", DEFAULT_FAILURE_RATE),
+                config.getIntProperty("circuitBreakerSlowCall", DEFAULT_SLOW_CALL),
+                config.getIntProperty("circuitBreakerSlowCallRate", DEFAULT_SLOW_CALL_RATE),
+                config.getIntProperty("circuitBreakerOpenTime", DEFAULT_OPEN_TIME),
+                config.getIntProperty("circuitBreakerProbes", DEFAULT_PROBES),
+                Boolean.parseBoolean(config.getProperty("circuitBreakerPerRoute", "false")));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param window       Attempts counted per circuit
+     * @param minCalls     Attempts needed to judge a circuit
+     * @param failureRate  Failed attempts to open, percent
+     * @param slowCall     Latency of a slow attempt, milliseconds
+     * @param slowCallRate Slow attempts to open, percent
+     * @param openTime     Time to stay open, milliseconds
+     * @param probes       Successful probes to close
+     * @param perRoute     Whether each route has its own circuit
+     */
+    public CircuitBreaker(int window, int minCalls, int failureRate, long slowCall, int slowCallRate,
+            long openTime, int probes, boolean perRoute) {
+        if (window <= 0 || minCalls <= 0 || minCalls > window || probes <= 0) {
+            throw new IllegalArgumentException("Invalid circuit breaker settings");
+        }
+        this.window = window;
+        this.minCalls = minCalls;
+        this.failureRate = failureRate;
+        this.slowCall = TimeUnit.MILLISECONDS.toNanos(slowCall);
+        this.slowCallRate = slowCallRate;
+        this.openTime = TimeUnit.MILLISECONDS.toNanos(openTime);
+        this.probes = probes;
+        this.perRoute = perRoute;
+    }
+
+    /**
+     * Get circuit of the request, failing fast if it is open
+     *
+     * @param entryPoint Entry point
+     * @param route      Route template
+     * @throws CircuitBreakerOpenException If the circuit is open
+     * @return Circuit, to be set as the request interceptor and attempt listener
+     */
+    public Circuit check(String entryPoint, String route) throws CircuitBreakerOpenException {
+        String key = perRoute ? (entryPoint + " " + route) : entryPoint;
+        Circuit circuit = circuits.computeIfAbsent(key, Circuit::new);
+        circuit.check(System.nanoTime());
+        return circuit;
+    }
+
+    /**
+     * Get state of the circuit
+     *
+     * @param key Entry point, or entry point and route template separated by space
+     * @return State, {@link State#CLOSED} if there were no requests
+     */
+    public State getState(String key) {
+        Circuit circuit = circuits.get(key);
+        return (circuit == null) ? State.CLOSED : circuit.getState();
+    }
+
+    /**
+     * Get states of all the circuits, for monitoring
+     *
+     * @return States by circuit key
+     */
+    public Map<String, State> getStates() {
+        Map<String, State> states = new TreeMap<String, State>();
+        for (Circuit circuit : circuits.values()) {
+            states.put(circuit.key, circuit.getState());
+        }
+        return states;
+    }
+
+    /**
+     * Circuit of one key. Each attempt asks it for a permit as the request
+     * interceptor, and reports its outcome as the attempt listener.
+     */
+    public final class Circuit implements HttpExecuteInterceptor, AttemptListener {
+        private final String key;
+        /** Ring of the last attempts, bit 1 - failed, bit 2 - slow */
+        private final byte[] outcomes = new byte[window];
+        private int position;
+        private int calls;
+        private int failures;
+        private int slowCalls;
+        private State state = State.CLOSED;
+        private long openedAt;
+        private int probesIssued;
+        private int probesPassed;
+
+        Circuit(String key) {
+            this.key = key;
+        }
+
+        synchronized State getState() {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openTime) {
+                return State.HALF_OPEN;
+            }
+            return state;
+        }
+
+        /**
+         * Fail fast if open, without taking a probe
+         */
+        synchronized void check(long now) throws CircuitBreakerOpenException {
+            if (state == State.OPEN && now - openedAt < openTime) {
+                throw new CircuitBreakerOpenException(key);
+            }
+        }
+
+        @Override
+        public synchronized void intercept(HttpRequest request) throws CircuitBreakerOpenException {
+            long now = System.nanoTime();
+            if (state == State.OPEN) {
+                if (now - openedAt < openTime) {
+                    throw new CircuitBreakerOpenException(key);
+                }
+                state = State.HALF_OPEN;
+                openedAt = now;
+                probesIssued = 0;
+                probesPassed = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                // probes lost without an outcome are reissued after another open time
+                if (probesIssued >= probes && now - openedAt < openTime) {
+                    throw new CircuitBreakerOpenException(key);
+                }
+                if (probesIssued >= probes) {
+                    openedAt = now;
+                    probesIssued = probesPassed;
+                }
+                probesIssued++;
+            }
+        }
+
+        @Override
+        public synchronized void onAttempt(String method, String route, int attempt, long latencyNanos,
+                int statusCode) {
+            boolean failed = statusCode == 0 || statusCode >= 500;
+            boolean slow = latencyNanos >= slowCall;
+            switch (state) {
+                case CLOSED:
+                    count(failed, slow);
+                    if (calls >= minCalls
+                            && (failures * 100 >= failureRate * calls || slowCalls * 100 >= slowCallRate * calls)) {
+                        open();
+                    }
+                    break;
+                case HALF_OPEN:
+                    if (failed || slow) {
+                        open();
+                    } else if (++probesPassed >= probes) {
+                        close();
+                    }
+                    break;
+                default:
+                    // attempts let through before the circuit opened
+                    break;
+            }
+        }
+
+        private void count(boolean failed, boolean slow) {
+            int outcome = (failed ? 1 : 0) | (slow ? 2 : 0);
+            if (calls == window) {
+                byte oldest = outcomes[position];
+                failures -= oldest & 1;
+                slowCalls -= (oldest >> 1) & 1;
+            } else {
+                calls++;
+            }
+            outcomes[position] = (byte) outcome;
+            position = (position + 1) % window;
+            failures += outcome & 1;
+            slowCalls += (outcome >> 1) & 1;
+        }
+
+        private void open() {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+
+        private void close() {
+            state = State.CLOSED;
+            position = 0;
+            calls = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+    }
+}
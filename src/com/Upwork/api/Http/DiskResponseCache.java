@@ -0,0 +1,194 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Http;
+
+import com.Upwork.ClassPreamble;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * {@link ResponseCache} keeping responses in files of a directory, one
+ * file per key, so they survive restarts. The directory is bounded by the
+ * total size of the files, evicting least recently used ones first.
+ *
+ * Files are written to a temporary name and renamed into place, so
+ * concurrent readers never see a partial entry.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class DiskResponseCache implements ResponseCache {
+    private static final int FORMAT_VERSION = 1;
+    private static final String SUFFIX = ".cache";
+
+    private final File directory;
+    private final long maxSize;
+    private long size;
+
+    /**
+     * Constructor
+     *
+     * @param directory Cache directory, created if missing
+     * @param maxSize   Max total size of cache files, bytes
+     * @throws IOException If directory can not be created
+     */
+    public DiskResponseCache(File directory, long maxSize) throws IOException {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Can not create cache directory " + directory);
+        }
+        this.directory = directory;
+        this.maxSize = maxSize;
+        for (File file : listFiles()) {
+            size += file.length();
+        }
+    }
+
+    @Override
+    public CachedResponse get(String key) {
+        File file = file(key);
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION || !key.equals(in.readUTF())) {
+                return null;
+            }
+            String etag = readNullable(in);
+            String lastModified = readNullable(in);
+            String charset = readNullable(in);
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            // mark as recently used for eviction
+            file.setLastModified(System.currentTimeMillis());
+            return new CachedResponse(etag, lastModified, charset, body);
+        } catch (IOException e) {
+            // unreadable or removed meanwhile, treat as miss
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, CachedResponse response) {
+        if (response.getBody().length > maxSize) {
+            return;
+        }
+        File file = file(key);
+        File temp = null;
+        try {
+            temp = File.createTempFile("entry", ".tmp", directory);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(key);
+                writeNullable(out, response.getETag());
+                writeNullable(out, response.getLastModified());
+                writeNullable(out, response.getCharsetName());
+                out.writeInt(response.getBody().length);
+                out.write(response.getBody());
+            }
+            long added = temp.length();
+            long removed;
+            synchronized (this) {
+                removed = file.length();
+                try {
+                    Files.move(temp.toPath(), file.toPath(),
+                            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+                size += added - removed;
+                if (size > maxSize) {
+                    trim();
+                }
+            }
+        } catch (IOException e) {
+            // best effort, the response just is not cached
+            if (temp != null) {
+                temp.delete();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        File file = file(key);
+        long length = file.length();
+        if (file.delete()) {
+            size -= length;
+        }
+    }
+
+    /**
+     * @return Total size of cache files, bytes
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    private void trim() {
+        File[] files = listFiles();
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < files.length && size > maxSize; i++) {
+            long length = files[i].length();
+            if (files[i].delete()) {
+                size -= length;
+            }
+        }
+    }
+
+    private File[] listFiles() {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(SUFFIX));
+        return (files == null) ? new File[0] : files;
+    }
+
+    private File file(String key) {
+        return new File(directory, Digests.sha256Hex(key) + SUFFIX);
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Http;
+
+import com.Upwork.ClassPreamble;
+import com.google.api.client.http.HttpExecuteInterceptor;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpResponseInterceptor;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable ordered list of {@link RequestInterceptor}s. Adding or removing
+ * one makes a new chain, so requests read the chain without locking.
+ *
+ * {@link #install} does nothing for the empty chain, so requests do not
+ * pay for interception unless an interceptor is registered.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class InterceptorChain {
+    public static final InterceptorChain EMPTY = new InterceptorChain(new RequestInterceptor[0]);
+
+    private final RequestInterceptor[] interceptors;
+
+    private InterceptorChain(RequestInterceptor[] interceptors) {
+        this.interceptors = interceptors;
+    }
+
+    /**
+     * Get chain with the interceptor added last
+     *
+     * @param interceptor Interceptor
+     * @return {@link InterceptorChain}
+     */
+    public InterceptorChain with(RequestInterceptor interceptor) {
+        if (interceptor == null) {
+            throw new IllegalArgumentException("Interceptor must not be null");
+        }
+        RequestInterceptor[] added = Arrays.copyOf(interceptors, interceptors.length + 1);
+        added[interceptors.length] = interceptor;
+        return new InterceptorChain(added);
+    }
+
+    /**
+     * Get chain without the interceptor
+     *
+     * @param interceptor Interceptor
+     * @return {@link InterceptorChain}, this one if the interceptor is not in it
+     */
+    public InterceptorChain without(RequestInterceptor interceptor) {
+        for (int i = 0; i < interceptors.length; i++) {
+            if (interceptors[i] == interceptor) {
+                if (interceptors.length == 1) {
+                    return EMPTY;
+                }
+                RequestInterceptor[] removed = new RequestInterceptor[interceptors.length - 1];
+                System.arraycopy(interceptors, 0, removed, 0, i);
+                System.arraycopy(interceptors, i + 1, removed, i, interceptors.length - i - 1);
+                return new InterceptorChain(removed);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Get the interceptors
+     *
+     * @return Interceptors, in the order of registration
+     */
+    public List<RequestInterceptor> getInterceptors() {
+        return Collections.unmodifiableList(Arrays.asList(interceptors));
+    }
+
+    /**
+     * Install the chain on the request, around its current interceptors
+     *
+     * @param request    HTTP request
+     * @param entryPoint Entry point
+     * @param route      Route template
+     */
+    public void install(HttpRequest request, String entryPoint, String route) {
+        if (interceptors.length == 0) {
+            return;
+        }
+        Hooks hooks = new Hooks(interceptors, entryPoint, route, request);
+        request.setInterceptor(hooks);
+        request.setResponseInterceptor(hooks);
+    }
+
+    /**
+     * Calls the chain for one request
+     */
+    private static final class Hooks implements HttpExecuteInterceptor, HttpResponseInterceptor {
+        private final RequestInterceptor[] interceptors;
+        private final String entryPoint;
+        private final String route;
+        private final HttpExecuteInterceptor nextExecute;
+        private final HttpResponseInterceptor nextResponse;
+
+        Hooks(RequestInterceptor[] interceptors, String entryPoint, String route, HttpRequest request) {
+            this.interceptors = interceptors;
+            this.entryPoint = entryPoint;
+            this.route = route;
+            this.nextExecute = request.getInterceptor();
+            this.nextResponse = request.getResponseInterceptor();
+        }
+
+        @Override
+        public void intercept(HttpRequest request) throws IOException {
+            if (nextExecute != null) {
+                nextExecute.intercept(request);
+            }
+            for (RequestInterceptor interceptor : interceptors) {
+                interceptor.interceptRequest(entryPoint, route, request);
+            }
+        }
+
+        @Override
+        public void interceptResponse(HttpResponse response) throws IOException {
+            for (int i = interceptors.length - 1; i >= 0; i--) {
+                interceptors[i].interceptResponse(entryPoint, route, response);
+            }
+            if (nextResponse != null) {
+                nextResponse.interceptResponse(response);
+            }
+        }
+    }
+}
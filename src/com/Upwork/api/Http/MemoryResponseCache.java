@@ -0,0 +1,133 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Http;
+
+import com.Upwork.ClassPreamble;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-memory {@link ResponseCache} bounded by the total size of stored
+ * responses, evicting least recently used ones first.
+ *
+ * An optional second tier, e.g. {@link DiskResponseCache}, receives every
+ * stored response and is looked up on memory misses.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class MemoryResponseCache implements ResponseCache {
+    private final long maxSize;
+    private final ResponseCache secondTier;
+    private final LinkedHashMap<String, CachedResponse> entries =
+            new LinkedHashMap<String, CachedResponse>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * Constructor
+     *
+     * @param maxSize Max total size of stored responses, bytes
+     */
+    public MemoryResponseCache(long maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxSize    Max total size of stored responses, bytes
+     * @param secondTier Cache looked up on misses, or {@code null}
+     */
+    public MemoryResponseCache(long maxSize, ResponseCache secondTier) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.secondTier = secondTier;
+    }
+
+    @Override
+    public CachedResponse get(String key) {
+        CachedResponse response;
+        synchronized (this) {
+            response = entries.get(key);
+        }
+        if (response == null && secondTier != null) {
+            response = secondTier.get(key);
+            if (response != null) {
+                store(key, response);
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public void put(String key, CachedResponse response) {
+        store(key, response);
+        if (secondTier != null) {
+            secondTier.put(key, response);
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        synchronized (this) {
+            CachedResponse removed = entries.remove(key);
+            if (removed != null) {
+                size -= removed.getSize();
+            }
+        }
+        if (secondTier != null) {
+            secondTier.remove(key);
+        }
+    }
+
+    /**
+     * @return Total size of responses held in memory, bytes
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    private synchronized void store(String key, CachedResponse response) {
+        CachedResponse previous = entries.remove(key);
+        if (previous != null) {
+            size -= previous.getSize();
+        }
+        if (response.getSize() > maxSize) {
+            return;
+        }
+        entries.put(key, response);
+        size += response.getSize();
+
+        Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+        while (size > maxSize) {
+            size -= eldest.next().getValue().getSize();
+            eldest.remove();
+        }
+    }
+}
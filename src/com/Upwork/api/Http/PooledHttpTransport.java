@@ -0,0 +1,528 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api.Http;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Config;
+import com.Upwork.api.Metrics.ConnectionWaitEvent;
+import com.Upwork.api.Metrics.JfrEvents;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.http.javanet.ConnectionFactory;
+import com.google.api.client.http.javanet.DefaultConnectionFactory;
+import com.google.api.client.util.StreamingContent;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP/1.1 transport that keeps connections to Upwork hosts alive and bounds
+ * how many requests are in flight.
+ *
+ * Connections are leased per request and returned to the keep-alive pool
+ * once the response body is closed, so sustained traffic reuses warm
+ * TCP+TLS connections instead of doing a new handshake per call. Connections
+ * older than the keep-alive TTL are retired by asking the server to close them.
+ *
+ * Supported config properties:
+ * <ul>
+ *   <li><code>httpMaxConnections</code> - max requests in flight, all hosts (default 64)</li>
+ *   <li><code>httpMaxConnectionsPerHost</code> - max requests in flight per host (default 32)</li>
+ *   <li><code>httpKeepAliveTtl</code> - max lifetime of a pooled connection, seconds, 0 - unlimited (default 300)</li>
+ *   <li><code>httpIdleTimeout</code> - JVM-wide idle eviction hint, seconds (default JVM setting)</li>
+ *   <li><code>httpPoolTimeout</code> - max wait for a free request slot, milliseconds, 0 - wait forever (default 0)</li>
+ * </ul>
+ *
+ * A request holds its slot until the response body is closed, so the limits
+ * above cap in-flight requests rather than open sockets.
+ *
+ * The idle pool itself is the JVM-wide keep-alive cache of
+ * {@link HttpURLConnection}, which this class does not own. It only sets the
+ * standard system properties as hints, and only if the application has not
+ * set them already:
+ * <ul>
+ *   <li><code>http.maxConnections</code> (idle sockets kept per host) is read
+ *   once, when the keep-alive cache is first used, so it has no effect if
+ *   {@link HttpURLConnection} was used before the first transport was created</li>
+ *   <li><code>http.keepAlive.time.server</code> (from <code>httpIdleTimeout</code>)
+ *   is only honored by JDK 20 and later, older JVMs keep their built-in idle timeout</li>
+ * </ul>
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class PooledHttpTransport extends HttpTransport {
+    public static final int DEFAULT_MAX_CONNECTIONS = 64;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 32;
+    public static final int DEFAULT_KEEP_ALIVE_TTL = 300;
+
+    private static final String[] SUPPORTED_METHODS = {
+            "DELETE", "GET", "HEAD", "OPTIONS", "POST", "PUT", "TRACE" };
+
+    static {
+        Arrays.sort(SUPPORTED_METHODS);
+    }
+
+    /**
+     * Default {@link TransportFactory}, reads pool settings from {@link Config}
+     */
+    public static final class Factory implements TransportFactory {
+        private final ConnectionFactory connectionFactory;
+
+        /**
+         * Constructor
+         */
+        public Factory() {
+            this(null);
+        }
+
+        /**
+         * Constructor
+         *
+         * @param connectionFactory Opens connections for request URLs, {@code null} - default
+         */
+        public Factory(ConnectionFactory connectionFactory) {
+            this.connectionFactory = connectionFactory;
+        }
+
+        @Override
+        public HttpTransport create(Config config) {
+            return new PooledHttpTransport(
+                    config.getIntProperty("httpMaxConnections", DEFAULT_MAX_CONNECTIONS),
+                    config.getIntProperty("httpMaxConnectionsPerHost", DEFAULT_MAX_CONNECTIONS_PER_HOST),
+                    TimeUnit.SECONDS.toMillis(config.getIntProperty("httpKeepAliveTtl", DEFAULT_KEEP_ALIVE_TTL)),
+                    TimeUnit.SECONDS.toMillis(config.getIntProperty("httpIdleTimeout", 0)),
+                    config.getIntProperty("httpPoolTimeout", 0),
+                    connectionFactory);
+        }
+    }
+
+    private final ConnectionFactory connectionFactory;
+    private final Semaphore connections;
+    private final int maxConnectionsPerHost;
+    private final long keepAliveTtl;
+    private final long poolTimeout;
+    private final ConcurrentHashMap<String, HostPool> hosts = new ConcurrentHashMap<String, HostPool>();
+
+    /**
+     * Constructor
+     *
+     * @param maxConnections        Max requests in flight, all hosts
+     * @param maxConnectionsPerHost Max requests in flight per host
+     * @param keepAliveTtl          Max lifetime of a pooled connection, ms, 0 - unlimited
+     * @param idleTimeout           JVM-wide idle eviction hint, ms, JDK 20+ only, 0 - keep JVM setting
+     * @param poolTimeout           Max wait for a free request slot, ms, 0 - wait forever
+     */
+    public PooledHttpTransport(int maxConnections, int maxConnectionsPerHost, long keepAliveTtl,
+            long idleTimeout, long poolTimeout) {
+        this(maxConnections, maxConnectionsPerHost, keepAliveTtl, idleTimeout, poolTimeout, null);
+    }
+
+    /**
+     * Constructor with a custom connection factory, e.g. to send requests
+     * to a proxy or a test server. Limits apply to the hosts of request URLs.
+     *
+     * @param maxConnections        Max requests in flight, all hosts
+     * @param maxConnectionsPerHost Max requests in flight per host
+     * @param keepAliveTtl          Max lifetime of a pooled connection, ms, 0 - unlimited
+     * @param idleTimeout           JVM-wide idle eviction hint, ms, JDK 20+ only, 0 - keep JVM setting
+     * @param poolTimeout           Max wait for a free request slot, ms, 0 - wait forever
+     * @param connectionFactory     Opens connections for request URLs, {@code null} - default
+     */
+    public PooledHttpTransport(int maxConnections, int maxConnectionsPerHost, long keepAliveTtl,
+            long idleTimeout, long poolTimeout, ConnectionFactory connectionFactory) {
+        if (maxConnections <= 0 || maxConnectionsPerHost <= 0) {
+            throw new IllegalArgumentException("Connection limits must be positive");
+        }
+        this.connectionFactory = (connectionFactory != null) ? connectionFactory : new DefaultConnectionFactory();
+        this.connections = new Semaphore(maxConnections, true);
+        this.maxConnectionsPerHost = Math.min(maxConnections, maxConnectionsPerHost);
+        this.keepAliveTtl = keepAliveTtl;
+        this.poolTimeout = poolTimeout;
+
+        setDefaultProperty("http.keepAlive", "true");
+        setDefaultProperty("http.maxConnections", Integer.toString(this.maxConnectionsPerHost));
+        if (idleTimeout > 0) {
+            setDefaultProperty("http.keepAlive.time.server",
+                    Long.toString(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(idleTimeout))));
+        }
+    }
+
+    /**
+     * Number of requests that can start right now, all hosts
+     *
+     * @return Available request slots
+     */
+    public int getAvailableConnections() {
+        return connections.availablePermits();
+    }
+
+    @Override
+    public boolean supportsMethod(String method) {
+        return Arrays.binarySearch(SUPPORTED_METHODS, method) >= 0;
+    }
+
+    @Override
+    protected LowLevelHttpRequest buildRequest(String method, String url) throws IOException {
+        if (!supportsMethod(method)) {
+            throw new IllegalArgumentException("Unsupported HTTP method " + method);
+        }
+        URL connUrl = new URL(url);
+        HttpURLConnection connection = connectionFactory.openConnection(connUrl);
+        connection.setRequestMethod(method);
+        connection.setInstanceFollowRedirects(false);
+
+        return new PooledRequest(connection, hostPool(connUrl));
+    }
+
+    private HostPool hostPool(URL url) {
+        String key = url.getProtocol() + "://" + url.getHost() + ":" + url.getPort();
+        return hosts.computeIfAbsent(key, HostPool::new);
+    }
+
+    /**
+     * Sets a JVM-wide system property unless the application already did
+     */
+    private static void setDefaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    /**
+     * Leases and keep-alive generations of a single host
+     */
+    private final class HostPool {
+        private final String host;
+        private final Semaphore permits = new Semaphore(maxConnectionsPerHost, true);
+        private final AtomicLong generationStart = new AtomicLong(System.currentTimeMillis());
+        private final AtomicInteger toRetire = new AtomicInteger();
+
+        HostPool(String host) {
+            this.host = host;
+        }
+
+        Lease acquire() throws IOException {
+            ConnectionWaitEvent event = (JfrEvents.AVAILABLE && ConnectionWaitEvent.enabled())
+                    ? new ConnectionWaitEvent(host) : null;
+            if (event != null) {
+                event.begin();
+            }
+            boolean acquired = false;
+            try {
+                lease();
+                acquired = true;
+            } finally {
+                if (event != null) {
+                    event.finish(acquired);
+                }
+            }
+            return new Lease(this, shouldRetire());
+        }
+
+        private void lease() throws IOException {
+            try {
+                if (poolTimeout > 0) {
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(poolTimeout);
+                    if (!connections.tryAcquire(poolTimeout, TimeUnit.MILLISECONDS)) {
+                        throw new IOException("Timeout waiting for connection from pool");
+                    }
+                    long left = deadline - System.nanoTime();
+                    if (!permits.tryAcquire(Math.max(0, left), TimeUnit.NANOSECONDS)) {
+                        connections.release();
+                        throw new IOException("Timeout waiting for connection from pool");
+                    }
+                } else {
+                    connections.acquire();
+                    try {
+                        permits.acquire();
+                    } catch (InterruptedException e) {
+                        connections.release();
+                        throw e;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for connection from pool");
+            }
+        }
+
+        /**
+         * Once the TTL of the current generation is over, the next requests ask
+         * the server to close their connections, so every pooled socket gets
+         * replaced by a fresh one.
+         */
+        private boolean shouldRetire() {
+            if (keepAliveTtl > 0) {
+                long start = generationStart.get();
+                long now = System.currentTimeMillis();
+                if (now - start >= keepAliveTtl && generationStart.compareAndSet(start, now)) {
+                    toRetire.set(maxConnectionsPerHost);
+                }
+            }
+            int left;
+            do {
+                left = toRetire.get();
+                if (left <= 0) {
+                    return false;
+                }
+            } while (!toRetire.compareAndSet(left, left - 1));
+            return true;
+        }
+
+        void release() {
+            permits.release();
+            connections.release();
+        }
+    }
+
+    /**
+     * A connection leased by one request, released exactly once
+     */
+    private static final class Lease {
+        private final HostPool pool;
+        private final boolean retire;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Lease(HostPool pool, boolean retire) {
+            this.pool = pool;
+            this.retire = retire;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                pool.release();
+            }
+        }
+    }
+
+    private static final class PooledRequest extends LowLevelHttpRequest {
+        private final HttpURLConnection connection;
+        private final HostPool pool;
+
+        PooledRequest(HttpURLConnection connection, HostPool pool) {
+            this.connection = connection;
+            this.pool = pool;
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            connection.addRequestProperty(name, value);
+        }
+
+        @Override
+        public void setTimeout(int connectTimeout, int readTimeout) {
+            connection.setConnectTimeout(connectTimeout);
+            connection.setReadTimeout(readTimeout);
+        }
+
+        @Override
+        public LowLevelHttpResponse execute() throws IOException {
+            Lease lease = pool.acquire();
+            boolean executed = false;
+            try {
+                if (lease.retire) {
+                    connection.setRequestProperty("Connection", "close");
+                }
+                writeContent();
+                connection.connect();
+                PooledResponse response = new PooledResponse(connection, lease);
+                executed = true;
+                return response;
+            } finally {
+                if (!executed) {
+                    connection.disconnect();
+                    lease.release();
+                }
+            }
+        }
+
+        private void writeContent() throws IOException {
+            StreamingContent content = getStreamingContent();
+            if (content == null) {
+                return;
+            }
+            String contentType = getContentType();
+            if (contentType != null) {
+                addHeader("Content-Type", contentType);
+            }
+            String contentEncoding = getContentEncoding();
+            if (contentEncoding != null) {
+                addHeader("Content-Encoding", contentEncoding);
+            }
+            long contentLength = getContentLength();
+            if (contentLength >= 0) {
+                connection.setRequestProperty("Content-Length", Long.toString(contentLength));
+            }
+
+            String method = connection.getRequestMethod();
+            if ("POST".equals(method) || "PUT".equals(method)) {
+                connection.setDoOutput(true);
+                if (contentLength >= 0 && contentLength <= Integer.MAX_VALUE) {
+                    connection.setFixedLengthStreamingMode((int) contentLength);
+                } else {
+                    connection.setChunkedStreamingMode(0);
+                }
+                OutputStream out = connection.getOutputStream();
+                try {
+                    content.writeTo(out);
+                } finally {
+                    out.close();
+                }
+            } else if (contentLength != 0) {
+                throw new IllegalArgumentException(method + " with non-zero content length is not supported");
+            }
+        }
+    }
+
+    private static final class PooledResponse extends LowLevelHttpResponse {
+        private final HttpURLConnection connection;
+        private final Lease lease;
+        private final int statusCode;
+        private final String reasonPhrase;
+        private final List<String> headerNames = new ArrayList<String>();
+        private final List<String> headerValues = new ArrayList<String>();
+        private InputStream content;
+
+        PooledResponse(HttpURLConnection connection, Lease lease) throws IOException {
+            this.connection = connection;
+            this.lease = lease;
+            int code = connection.getResponseCode();
+            this.statusCode = code == -1 ? 0 : code;
+            this.reasonPhrase = connection.getResponseMessage();
+            for (Map.Entry<String, List<String>> entry : connection.getHeaderFields().entrySet()) {
+                if (entry.getKey() != null) {
+                    for (String value : entry.getValue()) {
+                        if (value != null) {
+                            headerNames.add(entry.getKey());
+                            headerValues.add(value);
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public synchronized InputStream getContent() throws IOException {
+            if (content == null) {
+                InputStream in;
+                try {
+                    in = connection.getInputStream();
+                } catch (IOException e) {
+                    in = connection.getErrorStream();
+                }
+                if (in == null) {
+                    lease.release();
+                    return null;
+                }
+                content = new FilterInputStream(in) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            lease.release();
+                        }
+                    }
+                };
+            }
+            return content;
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return connection.getContentEncoding();
+        }
+
+        @Override
+        public long getContentLength() {
+            String length = connection.getHeaderField("Content-Length");
+            return length == null ? -1 : Long.parseLong(length);
+        }
+
+        @Override
+        public String getContentType() {
+            return connection.getHeaderField("Content-Type");
+        }
+
+        @Override
+        public String getStatusLine() {
+            String result = connection.getHeaderField(0);
+            return result != null && result.startsWith("HTTP/1.") ? result : null;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getReasonPhrase() {
+            return reasonPhrase;
+        }
+
+        @Override
+        public int getHeaderCount() {
+            return headerNames.size();
+        }
+
+        @Override
+        public String getHeaderName(int index) {
+            return headerNames.get(index);
+        }
+
+        @Override
+        public String getHeaderValue(int index) {
+            return headerValues.get(index);
+        }
+
+        /**
+         * Returns the connection to the keep-alive pool instead of closing the
+         * socket, the body is drained by the JVM on close.
+         */
+        @Override
+        public void disconnect() throws IOException {
+            InputStream in = getContent();
+            if (in != null) {
+                in.close();
+            }
+        }
+    }
+}
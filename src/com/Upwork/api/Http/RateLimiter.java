@@ -0,0 +1,267 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Http;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Config;
+import com.google.api.client.http.HttpExecuteInterceptor;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpResponseInterceptor;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side token-bucket rate limiter, one bucket per key (tenant, entry
+ * point and route template, see {@link RouteTemplate}).
+ *
+ * Each caller reserves the next free slot of its bucket and sleeps until
+ * then, so callers are served in order at the configured rate without
+ * spinning. A 429 response, or any response with <code>Retry-After</code>,
+ * pauses the bucket for the requested time; callers already waiting then
+ * take new slots, so they restart one interval apart.
+ *
+ * Requests set up with {@link #apply(HttpRequest, String)} also take a new
+ * slot before each retry, so a request retried after a 429 waits out the
+ * pause like any other caller.
+ *
+ * Supported config properties:
+ * <ul>
+ *   <li><code>rateLimit</code> - requests per second per key, 0 - disabled (default 0)</li>
+ *   <li><code>rateLimitBurst</code> - requests allowed at once after an idle period (default 1)</li>
+ *   <li><code>rateLimitMaxWait</code> - max time to wait for a slot, milliseconds, 0 - wait forever (default 60000)</li>
+ * </ul>
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class RateLimiter {
+    public static final int DEFAULT_BURST = 1;
+    public static final int DEFAULT_MAX_WAIT = 60000;
+
+    /** Pause on 429 without Retry-After, milliseconds */
+    static final long DEFAULT_PAUSE = 1000;
+
+    private final long interval;
+    private final long burst;
+    private final long maxWait;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<String, Bucket>();
+
+    /**
+     * Create limiter configured by <code>rateLimit*</code> properties
+     *
+     * @param config Config properties
+     * @return {@link RateLimiter}, or {@code null} if rate limiting is disabled
+     */
+    public static RateLimiter create(Config config) {
+        double rate = config.getDoubleProperty("rateLimit", 0);
+        if (rate <= 0) {
+            return null;
+        }
+        return new RateLimiter(rate,
+                config.getIntProperty("rateLimitBurst", DEFAULT_BURST),
+                config.getIntProperty("rateLimitMaxWait", DEFAULT_MAX_WAIT));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param rate    Requests per second per key
+     * @param burst   Requests allowed at once after an idle period
+     * @param maxWait Max time to wait for a slot, milliseconds, 0 - wait forever
+     */
+    public RateLimiter(double rate, int burst, long maxWait) {
+        if (rate <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        this.burst = burst;
+        this.maxWait = TimeUnit.MILLISECONDS.toNanos(maxWait);
+    }
+
+    /**
+     * Wait for a slot of the key's bucket
+     *
+     * @param key Bucket key
+     * @throws IOException If the slot is further than max wait, or waiting was interrupted
+     * @return Interceptor pausing the bucket on 429 and <code>Retry-After</code>,
+     *         to be set on the request
+     */
+    public HttpResponseInterceptor acquire(String key) throws IOException {
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket());
+        take(bucket);
+        return bucket;
+    }
+
+    /**
+     * Wait for a slot of the key's bucket and install rate limiting on the
+     * request: a slot is taken before each retry, and 429 and
+     * <code>Retry-After</code> pause the bucket. Execute and response
+     * interceptors already set on the request are kept.
+     *
+     * @param request HTTP request
+     * @param key     Bucket key
+     * @throws IOException If the slot is further than max wait, or waiting was interrupted
+     */
+    public void apply(HttpRequest request, String key) throws IOException {
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket());
+        take(bucket);
+        Slots slots = new Slots(bucket, request);
+        request.setInterceptor(slots);
+        request.setResponseInterceptor(slots);
+    }
+
+    /**
+     * Wait for a slot of the bucket
+     */
+    private void take(Bucket bucket) throws IOException {
+        long pauses = bucket.getPauses();
+        long wait = bucket.reserve(System.nanoTime());
+        while (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for rate limit");
+            }
+            // a pause while waiting voids the slot, queued callers take new
+            // ones after it and restart one interval apart, not all at once
+            long current = bucket.getPauses();
+            if (current == pauses) {
+                break;
+            }
+            pauses = current;
+            wait = bucket.reserve(System.nanoTime());
+        }
+    }
+
+    /**
+     * Parse <code>Retry-After</code> header value
+     *
+     * @param value Delay in seconds or HTTP date
+     * @param now   Current time, milliseconds since epoch
+     * @return Delay, milliseconds, or -1 if value can not be parsed
+     */
+    static long parseRetryAfter(String value, long now) {
+        String trimmed = value.trim();
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(trimmed));
+        } catch (NumberFormatException e) {
+            SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+            format.setTimeZone(TimeZone.getTimeZone("GMT"));
+            Date date = format.parse(trimmed, new ParsePosition(0));
+            return (date == null) ? -1 : Math.max(0, date.getTime() - now);
+        }
+    }
+
+    private final class Bucket implements HttpResponseInterceptor {
+        /** Time the next request may go, tokens are the slots before it */
+        private long next = System.nanoTime() - interval * burst;
+        private long resume = next;
+        private long pauses;
+
+        synchronized long reserve(long now) throws IOException {
+            // no more than burst slots accumulate while idle
+            long slot = Math.max(next, now - interval * (burst - 1));
+            long wait = slot - now;
+            if (maxWait > 0 && wait > maxWait) {
+                throw new IOException("Rate limit wait of " + TimeUnit.NANOSECONDS.toMillis(wait)
+                        + " ms exceeds " + TimeUnit.NANOSECONDS.toMillis(maxWait) + " ms");
+            }
+            next = slot + interval;
+            return wait;
+        }
+
+        synchronized long getPauses() {
+            return pauses;
+        }
+
+        synchronized void pause(long millis) {
+            long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+            if (until - resume > 0) {
+                resume = until;
+            }
+            // slots reserved so far are void, requests restart one interval apart
+            next = resume;
+            pauses++;
+        }
+
+        @Override
+        public void interceptResponse(HttpResponse response) {
+            String retryAfter = response.getHeaders().getFirstHeaderStringValue("Retry-After");
+            long delay = (retryAfter == null) ? -1 : parseRetryAfter(retryAfter, System.currentTimeMillis());
+            if (delay < 0 && response.getStatusCode() == 429) {
+                delay = DEFAULT_PAUSE;
+            }
+            if (delay >= 0) {
+                pause(delay);
+            }
+        }
+    }
+
+    /**
+     * Rate limiting of one request, the first attempt uses the slot taken on apply
+     */
+    private final class Slots implements HttpExecuteInterceptor, HttpResponseInterceptor {
+        private final Bucket bucket;
+        private final HttpExecuteInterceptor nextInterceptor;
+        private final HttpResponseInterceptor nextResponseInterceptor;
+        private boolean retry;
+
+        Slots(Bucket bucket, HttpRequest request) {
+            this.bucket = bucket;
+            this.nextInterceptor = request.getInterceptor();
+            this.nextResponseInterceptor = request.getResponseInterceptor();
+        }
+
+        @Override
+        public void intercept(HttpRequest request) throws IOException {
+            if (retry) {
+                take(bucket);
+            }
+            retry = true;
+            if (nextInterceptor != null) {
+                nextInterceptor.intercept(request);
+            }
+        }
+
+        @Override
+        public void interceptResponse(HttpResponse response) throws IOException {
+            bucket.interceptResponse(response);
+            if (nextResponseInterceptor != null) {
+                nextResponseInterceptor.interceptResponse(response);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Http;
+
+import com.Upwork.ClassPreamble;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Hook around request execution, registered on the client with
+ * {@link com.Upwork.api.OAuthClient#addInterceptor(RequestInterceptor)},
+ * e.g. for tracing headers, compression or throttling.
+ *
+ * Interceptors run on the thread executing the request, which is an async
+ * executor thread for <code>*Async</code> calls. Both methods are called
+ * for each attempt, so a retried request passes through them again.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public interface RequestInterceptor {
+
+    /**
+     * Called before the request is sent, in the order of registration
+     *
+     * @param entryPoint Entry point
+     * @param route      Route template
+     * @param request    Signed HTTP request
+     * @throws IOException To fail the attempt
+     */
+    default void interceptRequest(String entryPoint, String route, HttpRequest request) throws IOException {
+    }
+
+    /**
+     * Called with the response headers, before the body is read, in the
+     * reverse order of registration. Not called if no response was received.
+     *
+     * @param entryPoint Entry point
+     * @param route      Route template
+     * @param response   HTTP response
+     * @throws IOException To fail the request
+     */
+    default void interceptResponse(String entryPoint, String route, HttpResponse response) throws IOException {
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Http;
+
+import com.Upwork.ClassPreamble;
+
+/**
+ * Store of GET responses revalidated with <code>If-None-Match</code> and
+ * <code>If-Modified-Since</code>.
+ *
+ * Caching is best effort: implementations must not throw on storage
+ * failures, a failed lookup is just a miss. They must be thread safe.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public interface ResponseCache {
+
+    /**
+     * Get stored response
+     *
+     * @param key Cache key
+     * @return {@link CachedResponse}, or {@code null} if there is none
+     */
+    CachedResponse get(String key);
+
+    /**
+     * Store response
+     *
+     * @param key      Cache key
+     * @param response Response
+     */
+    void put(String key, CachedResponse response);
+
+    /**
+     * Remove stored response
+     *
+     * @param key Cache key
+     */
+    void remove(String key);
+}
@@ -0,0 +1,309 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Http;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Config;
+import com.google.api.client.http.HttpExecuteInterceptor;
+import com.google.api.client.http.HttpIOExceptionHandler;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpResponseInterceptor;
+import com.google.api.client.http.HttpUnsuccessfulResponseHandler;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retries failed idempotent requests with exponential backoff and full
+ * jitter: attempt <i>n</i> waits a random time between 0 and
+ * <code>min(maxDelay, baseDelay * 2^n)</code>, or <code>Retry-After</code>
+ * if the server asks for longer.
+ *
+ * Connection failures and 408, 429, 500, 502, 503 and 504 responses are
+ * retried. Retries are limited by a budget shared by all requests: each
+ * request adds <code>budget</code> percent of a retry to it, so retries stay
+ * within that share of the traffic once the initial reserve is spent.
+ * If the request is rate limited, see {@link RateLimiter#apply}, each retry
+ * also takes a new slot. After a 429, retries therefore wait out the pause of
+ * the bucket, not only their own backoff.
+ *
+ * Retries are opt-in: {@link #create(Config)} returns a policy only when
+ * <code>retryMaxAttempts</code> is above 1.
+ *
+ * Supported config properties:
+ * <ul>
+ *   <li><code>retryMaxAttempts</code> - attempts per request, 1 - no retries (default 1)</li>
+ *   <li><code>retryBaseDelay</code> - backoff of the first retry, milliseconds (default 100)</li>
+ *   <li><code>retryMaxDelay</code> - max backoff, longer <code>Retry-After</code> is not waited for, milliseconds (default 10000)</li>
+ *   <li><code>retryBudget</code> - retries allowed, percent of requests (default 10)</li>
+ * </ul>
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class RetryPolicy {
+    public static final int DEFAULT_BASE_DELAY = 100;
+    public static final int DEFAULT_MAX_DELAY = 10000;
+    public static final int DEFAULT_BUDGET = 10;
+
+    /** Retries allowed before the budget is earned, also the most it may save */
+    static final int BUDGET_RESERVE = 10;
+    /** Budget units per retry, a request deposits <code>budget</code> units */
+    private static final long RETRY_COST = 100;
+
+    private final int maxAttempts;
+    private final long baseDelay;
+    private final long maxDelay;
+    private final long deposit;
+    private final AtomicLong balance = new AtomicLong(BUDGET_RESERVE * RETRY_COST);
+    private volatile AttemptListener listener;
+
+    /**
+     * Create policy configured by <code>retry*</code> properties
+     *
+     * @param config Config properties
+     * @return {@link RetryPolicy}, or {@code null} if retries are not enabled
+     */
+    public static RetryPolicy create(Config config) {
+        int maxAttempts = config.getIntProperty("retryMaxAttempts", 1);
+        if (maxAttempts <= 1) {
+            return null;
+        }
+        return new RetryPolicy(maxAttempts,
+                config.getIntProperty("retryBaseDelay", DEFAULT_BASE_DELAY),
+                config.getIntProperty("retryMaxDelay", DEFAULT_MAX_DELAY),
+                config.getIntProperty("retryBudget", DEFAULT_BUDGET));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxAttempts Attempts per request, 1 - no retries
+     * @param baseDelay   Backoff of the first retry, milliseconds
+     * @param maxDelay    Max backoff, milliseconds
+     * @param budget      Retries allowed, percent of requests
+     */
+    public RetryPolicy(int maxAttempts, long baseDelay, long maxDelay, int budget) {
+        if (maxAttempts < 1 || baseDelay < 0 || maxDelay < baseDelay || budget < 0) {
+            throw new IllegalArgumentException("Invalid retry policy");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.deposit = budget;
+    }
+
+    /**
+     * Set listener of attempts of all requests using this policy
+     *
+     * @param listener Listener, or {@code null} to stop recording
+     */
+    public void setAttemptListener(AttemptListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Install retry handling and attempt recording on the request. Response
+     * interceptor already set on the request is kept.
+     *
+     * @param request    HTTP request
+     * @param method     Semantic HTTP method, for the listener
+     * @param route      Route of the request, for the listener
+     * @param idempotent Whether the request may be retried
+     */
+    public void apply(HttpRequest request, String method, String route, boolean idempotent) {
+        apply(request, method, route, idempotent, null);
+    }
+
+    /**
+     * Install retry handling and attempt recording on the request. Execute
+     * and response interceptors already set on the request are kept.
+     *
+     * @param request    HTTP request
+     * @param method     Semantic HTTP method, for the listeners
+     * @param route      Route of the request, for the listeners
+     * @param idempotent Whether the request may be retried
+     * @param observer   Listener of the attempts of this request only, or {@code null}
+     */
+    public void apply(HttpRequest request, String method, String route, boolean idempotent,
+            AttemptListener observer) {
+        balance.getAndUpdate(b -> Math.min(b + deposit, BUDGET_RESERVE * RETRY_COST));
+        Attempts attempts = new Attempts(request, method, route, idempotent, observer);
+        request.setInterceptor(attempts);
+        request.setResponseInterceptor(attempts);
+        request.setIOExceptionHandler(attempts);
+        request.setUnsuccessfulResponseHandler(attempts);
+        request.setNumberOfRetries(idempotent ? maxAttempts - 1 : 0);
+    }
+
+    /**
+     * Get backoff before the retry
+     *
+     * @param retry Retry number, 1 for the first one
+     * @return Random delay, milliseconds
+     */
+    long backoff(int retry) {
+        int shift = Math.min(retry - 1, 30);
+        long cap = Math.min(maxDelay, baseDelay << shift);
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    /**
+     * Take a retry from the budget
+     *
+     * @return Whether the budget allows a retry
+     */
+    boolean spendRetry() {
+        long b;
+        do {
+            b = balance.get();
+            if (b < RETRY_COST) {
+                return false;
+            }
+        } while (!balance.compareAndSet(b, b - RETRY_COST));
+        return true;
+    }
+
+    static boolean isRetryable(int statusCode) {
+        switch (statusCode) {
+            case 408:
+            case 429:
+            case 500:
+            case 502:
+            case 503:
+            case 504:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * State of one request: times attempts and decides on retries
+     */
+    private final class Attempts implements HttpExecuteInterceptor, HttpResponseInterceptor,
+            HttpIOExceptionHandler, HttpUnsuccessfulResponseHandler {
+        private final HttpExecuteInterceptor nextInterceptor;
+        private final HttpResponseInterceptor nextResponseInterceptor;
+        private final String method;
+        private final String route;
+        private final boolean idempotent;
+        private final AttemptListener observer;
+        private int attempt;
+        private int seen;
+        private long start;
+
+        Attempts(HttpRequest request, String method, String route, boolean idempotent, AttemptListener observer) {
+            this.nextInterceptor = request.getInterceptor();
+            this.nextResponseInterceptor = request.getResponseInterceptor();
+            this.method = method;
+            this.route = route;
+            this.idempotent = idempotent;
+            this.observer = observer;
+        }
+
+        @Override
+        public void intercept(HttpRequest request) throws IOException {
+            if (nextInterceptor != null) {
+                nextInterceptor.intercept(request);
+            }
+            attempt++;
+            start = System.nanoTime();
+        }
+
+        /**
+         * Called for the final response only, unless it was seen as unsuccessful
+         */
+        @Override
+        public void interceptResponse(HttpResponse response) throws IOException {
+            if (seen != attempt) {
+                see(response);
+            }
+        }
+
+        /**
+         * Record response of the attempt and pass it to the next interceptor,
+         * so e.g. the rate limiter sees a 429 even if it is retried
+         */
+        private void see(HttpResponse response) throws IOException {
+            seen = attempt;
+            record(response.getStatusCode());
+            if (nextResponseInterceptor != null) {
+                nextResponseInterceptor.interceptResponse(response);
+            }
+        }
+
+        @Override
+        public boolean handleIOException(HttpRequest request, boolean supportsRetry) throws IOException {
+            record(0);
+            return supportsRetry && idempotent && retryAfter(0);
+        }
+
+        @Override
+        public boolean handleResponse(HttpRequest request, HttpResponse response, boolean supportsRetry)
+                throws IOException {
+            see(response);
+            if (!supportsRetry || !idempotent || !isRetryable(response.getStatusCode())) {
+                return false;
+            }
+            String retryAfter = response.getHeaders().getFirstHeaderStringValue("Retry-After");
+            long delay = (retryAfter == null) ? 0 : RateLimiter.parseRetryAfter(retryAfter, System.currentTimeMillis());
+            return delay <= maxDelay && retryAfter(Math.max(delay, 0));
+        }
+
+        private void record(int statusCode) {
+            long latency = System.nanoTime() - start;
+            if (observer != null) {
+                observer.onAttempt(method, route, attempt, latency, statusCode);
+            }
+            AttemptListener l = listener;
+            if (l != null) {
+                l.onAttempt(method, route, attempt, latency, statusCode);
+            }
+        }
+
+        /**
+         * Wait before the retry
+         *
+         * @param minDelay Delay asked by the server, milliseconds
+         * @return Whether to retry
+         */
+        private boolean retryAfter(long minDelay) {
+            if (!spendRetry()) {
+                return false;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(Math.max(minDelay, backoff(attempt)));
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
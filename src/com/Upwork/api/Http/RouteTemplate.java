@@ -0,0 +1,111 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Http;
+
+import com.Upwork.ClassPreamble;
+
+/**
+ * Turns request paths into route templates by replacing identifiers with
+ * <code>{id}</code>, e.g. <code>/hr/v2/engagements/12345</code> becomes
+ * <code>/hr/v2/engagements/{id}</code>, so per-route state stays bounded.
+ *
+ * A path segment is an identifier if it starts with <code>~</code>, holds
+ * a digit (API versions like <code>v2</code> excepted) or one of <code>:@.</code>,
+ * or is longer than 24 characters.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class RouteTemplate {
+    private static final String ID = "{id}";
+    private static final int MAX_NAME_LENGTH = 24;
+
+    private RouteTemplate() {
+    }
+
+    /**
+     * Get route template of the path
+     *
+     * @param path Request path, query string is dropped
+     * @return Route template
+     */
+    public static String of(String path) {
+        int end = path.indexOf('?');
+        if (end < 0) {
+            end = path.length();
+        }
+
+        StringBuilder template = null;
+        int start = 0;
+        while (start < end) {
+            int slash = path.indexOf('/', start);
+            int segmentEnd = (slash < 0 || slash > end) ? end : slash;
+            if (isId(path, start, segmentEnd)) {
+                if (template == null) {
+                    template = new StringBuilder(end).append(path, 0, start);
+                }
+                template.append(ID);
+            } else if (template != null) {
+                template.append(path, start, segmentEnd);
+            }
+            if (segmentEnd < end) {
+                if (template != null) {
+                    template.append('/');
+                }
+            }
+            start = segmentEnd + 1;
+        }
+        if (template != null) {
+            return template.toString();
+        }
+        // common case, nothing to replace
+        return (end == path.length()) ? path : path.substring(0, end);
+    }
+
+    private static boolean isId(String path, int start, int end) {
+        int length = end - start;
+        if (length == 0) {
+            return false;
+        }
+        if (path.charAt(start) == '~' || length > MAX_NAME_LENGTH) {
+            return true;
+        }
+        boolean version = path.charAt(start) == 'v' && length > 1;
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            if (c == ':' || c == '@' || c == '.') {
+                return true;
+            }
+            if (c >= '0' && c <= '9') {
+                if (!version) {
+                    return true;
+                }
+            } else if (i > start) {
+                version = false;
+            }
+        }
+        return false;
+    }
+}
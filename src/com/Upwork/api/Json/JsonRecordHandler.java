@@ -0,0 +1,46 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api.Json;
+
+import com.Upwork.ClassPreamble;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Callback receiving the records of a large response array one by one,
+ * while the response is still being read.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public interface JsonRecordHandler {
+
+    /**
+     * Called for each record, in the order of the response
+     *
+     * @param record Record, not referenced by the reader after the call
+     * @throws JSONException To stop reading the response
+     */
+    void onRecord(JSONObject record) throws JSONException;
+}
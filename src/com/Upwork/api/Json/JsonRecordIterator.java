@@ -0,0 +1,125 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api.Json;
+
+import com.Upwork.ClassPreamble;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over the records of a response array, reading the response as
+ * records are requested.
+ *
+ * It must be closed to release the response, unless it was read to the end.
+ * Read errors are thrown as {@link UncheckedIOException}, records which are
+ * not JSON objects as {@link IllegalStateException}.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class JsonRecordIterator implements Iterator<JSONObject>, Closeable {
+    private final JsonParser parser;
+    private final Closeable resource;
+    private boolean done;
+    private JSONObject next;
+
+    /**
+     * Constructor
+     *
+     * @param parser   Parser positioned at the start of the array
+     * @param found    Whether the array was found, empty iterator otherwise
+     * @param resource Resource closed together with the iterator, or {@code null}
+     */
+    JsonRecordIterator(JsonParser parser, boolean found, Closeable resource) throws IOException {
+        this.parser = parser;
+        this.resource = resource;
+        if (!found) {
+            close();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            try {
+                if (parser.nextToken() == JsonToken.END_ARRAY) {
+                    close();
+                } else {
+                    next = JsonStreamReader.readRecord(parser);
+                }
+            } catch (IOException e) {
+                closeQuietly();
+                throw new UncheckedIOException(e);
+            } catch (JSONException e) {
+                closeQuietly();
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public JSONObject next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        JSONObject record = next;
+        next = null;
+        return record;
+    }
+
+    /**
+     * Stop reading and release the response
+     */
+    @Override
+    public void close() throws IOException {
+        if (done) {
+            return;
+        }
+        done = true;
+        try {
+            parser.close();
+        } finally {
+            if (resource != null) {
+                resource.close();
+            }
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {
+            // the original failure is more relevant
+        }
+    }
+}
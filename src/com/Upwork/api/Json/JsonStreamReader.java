@@ -0,0 +1,260 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api.Json;
+
+import com.Upwork.ClassPreamble;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes JSON responses straight from the response stream with Jackson,
+ * without reading the body into a string first.
+ *
+ * Values are decoded to the same types as {@link JSONObject#JSONObject(String)}
+ * does: {@link Integer}, {@link Long} or {@link Double} for numbers, numbers
+ * beyond <code>long</code> are kept as strings, and {@link JSONObject#NULL} for nulls.
+ *
+ * Large arrays can be read record by record, either pushed to a
+ * {@link JsonRecordHandler} or pulled from a {@link JsonRecordIterator}, so
+ * only one record is held in memory at a time. The array is addressed by
+ * the path of field names leading to it, e.g. <code>"table", "rows"</code>
+ * for GDS reports.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class JsonStreamReader {
+    /** Jackson core factory, the one {@link com.google.api.client.json.jackson2.JacksonFactory} is built on. */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private JsonStreamReader() {
+    }
+
+    /**
+     * Read JSON object
+     *
+     * @param in      Input stream
+     * @param charset Charset, or {@code null} to detect it
+     * @throws IOException   If stream can not be read or is not a valid JSON
+     * @throws JSONException If JSON is not an object
+     * @return {@link JSONObject}
+     */
+    public static JSONObject readObject(InputStream in, Charset charset) throws IOException, JSONException {
+        try (JsonParser parser = createParser(in, charset)) {
+            expectObject(parser);
+            return readObject(parser, null, -1, null);
+        }
+    }
+
+    /**
+     * Read JSON object, passing the records of the array found at the given
+     * path to the handler as they are read
+     *
+     * @param in      Input stream
+     * @param charset Charset, or {@code null} to detect it
+     * @param handler Record handler
+     * @param path    Field names leading to the array
+     * @throws IOException   If stream can not be read or is not a valid JSON
+     * @throws JSONException If JSON is not an object, a record is not an object or handler failed
+     * @return {@link JSONObject} Rest of the object, with the array left empty
+     */
+    public static JSONObject readObject(InputStream in, Charset charset, JsonRecordHandler handler, String... path)
+            throws IOException, JSONException {
+        checkPath(path);
+        try (JsonParser parser = createParser(in, charset)) {
+            expectObject(parser);
+            return readObject(parser, path, 0, handler);
+        }
+    }
+
+    /**
+     * Iterate over the records of the array found at the given path. Fields
+     * outside of the array are skipped.
+     *
+     * @param in       Input stream
+     * @param charset  Charset, or {@code null} to detect it
+     * @param resource Resource closed together with the iterator, or {@code null}
+     * @param path     Field names leading to the array
+     * @throws IOException   If stream can not be read or is not a valid JSON
+     * @throws JSONException If JSON is not an object
+     * @return {@link JsonRecordIterator}, empty if there is no array at the path
+     */
+    public static JsonRecordIterator iterate(InputStream in, Charset charset, Closeable resource, String... path)
+            throws IOException, JSONException {
+        checkPath(path);
+        JsonParser parser = createParser(in, charset);
+        boolean found = false;
+        try {
+            expectObject(parser);
+            found = seek(parser, path);
+            return new JsonRecordIterator(parser, found, resource);
+        } finally {
+            if (!found) {
+                parser.close();
+            }
+        }
+    }
+
+    /**
+     * Create Jackson parser over the stream
+     *
+     * @param in      Input stream
+     * @param charset Charset, or {@code null} to detect it
+     * @throws IOException If stream can not be read
+     * @return {@link JsonParser}
+     */
+    public static JsonParser createParser(InputStream in, Charset charset) throws IOException {
+        // byte input lets Jackson detect UTF-8/16/32 and skip a reader
+        if (charset == null || StandardCharsets.UTF_8.equals(charset)) {
+            return JSON_FACTORY.createParser(in);
+        }
+        return JSON_FACTORY.createParser(new InputStreamReader(in, charset));
+    }
+
+    private static void checkPath(String[] path) {
+        if (path == null || path.length == 0) {
+            throw new IllegalArgumentException("Path to the array must not be empty");
+        }
+    }
+
+    private static void expectObject(JsonParser parser) throws IOException, JSONException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JSONException("A JSONObject text must begin with '{'");
+        }
+    }
+
+    /**
+     * Move parser to the start of the array at the path
+     *
+     * @return Whether the array was found
+     */
+    private static boolean seek(JsonParser parser, String[] path) throws IOException {
+        int depth = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (name.equals(path[depth])) {
+                if (depth == path.length - 1 && token == JsonToken.START_ARRAY) {
+                    return true;
+                }
+                if (depth < path.length - 1 && token == JsonToken.START_OBJECT) {
+                    depth++;
+                    continue;
+                }
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * Read object, the parser is right after its start
+     *
+     * @param depth Number of path names matched by this object, -1 if it is off the path
+     */
+    private static JSONObject readObject(JsonParser parser, String[] path, int depth, JsonRecordHandler handler)
+            throws IOException, JSONException {
+        JSONObject object = new JSONObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (depth >= 0 && name.equals(path[depth])) {
+                if (depth == path.length - 1 && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        handler.onRecord(readRecord(parser));
+                    }
+                    object.put(name, new JSONArray());
+                    continue;
+                }
+                if (depth < path.length - 1 && token == JsonToken.START_OBJECT) {
+                    object.put(name, readObject(parser, path, depth + 1, handler));
+                    continue;
+                }
+            }
+            object.put(name, readValue(parser, token));
+        }
+        return object;
+    }
+
+    /**
+     * Read array record, the parser is at its first token
+     */
+    static JSONObject readRecord(JsonParser parser) throws IOException, JSONException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JSONException("Record is not a JSONObject: " + parser.getCurrentToken());
+        }
+        return readObject(parser, null, -1, null);
+    }
+
+    private static JSONArray readArray(JsonParser parser) throws IOException, JSONException {
+        JSONArray array = new JSONArray();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            array.put(readValue(parser, token));
+        }
+        return array;
+    }
+
+    private static Object readValue(JsonParser parser, JsonToken token) throws IOException, JSONException {
+        switch (token) {
+            case START_OBJECT:
+                return readObject(parser, null, -1, null);
+            case START_ARRAY:
+                return readArray(parser);
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return parser.getIntValue();
+                    case LONG:
+                        return parser.getLongValue();
+                    default:
+                        // org.json keeps numbers beyond long as strings
+                        return parser.getText();
+                }
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return JSONObject.NULL;
+            default:
+                throw new JSONException("Unexpected token " + token);
+        }
+    }
+}
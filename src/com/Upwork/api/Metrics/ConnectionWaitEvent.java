@@ -0,0 +1,89 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api.Metrics;
+
+import com.Upwork.ClassPreamble;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event of a request waiting for a free connection of
+ * {@link com.Upwork.api.Http.PooledHttpTransport}. Only waits longer than
+ * the threshold, 10 ms by default, are recorded.
+ *
+ * Check {@link JfrEvents#AVAILABLE} before touching this class.
+ */
+@Name("com.Upwork.api.ConnectionWait")
+@Label("Upwork API Connection Wait")
+@Category("Upwork API")
+@Description("Wait for a free connection of the pool")
+@Threshold("10 ms")
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class ConnectionWaitEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(ConnectionWaitEvent.class);
+
+    @Label("Host")
+    private final String host;
+
+    @Label("Acquired")
+    @Description("Whether a connection was leased, false on timeout or interrupt")
+    private boolean acquired;
+
+    /**
+     * Constructor
+     *
+     * @param host Host, as <code>protocol://host:port</code>
+     */
+    public ConnectionWaitEvent(String host) {
+        this.host = host;
+    }
+
+    /**
+     * Whether a recording has the event enabled
+     *
+     * @return {@code true} if the event is recorded
+     */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+
+    /**
+     * End the event and commit it, if the wait is over the threshold
+     *
+     * @param acquired Whether a connection was leased
+     */
+    public void finish(boolean acquired) {
+        end();
+        if (shouldCommit()) {
+            this.acquired = acquired;
+            commit();
+        }
+    }
+}
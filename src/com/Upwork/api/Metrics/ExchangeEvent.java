@@ -0,0 +1,117 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api.Metrics;
+
+import com.Upwork.ClassPreamble;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event of one API request, from the first attempt to the
+ * end of the response body, retries included.
+ *
+ * Check {@link JfrEvents#AVAILABLE} before touching this class.
+ */
+@Name("com.Upwork.api.Exchange")
+@Label("Upwork API Exchange")
+@Category("Upwork API")
+@Description("API request from the first attempt to the end of the response body")
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class ExchangeEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(ExchangeEvent.class);
+
+    @Label("Entry Point")
+    private final String entryPoint;
+
+    @Label("Route")
+    @Description("Route template, e.g. /hr/v2/engagements/{id}")
+    private final String route;
+
+    @Label("Method")
+    private final String method;
+
+    @Label("Status")
+    @Description("HTTP status of the last attempt, 0 if there was no response")
+    private int statusCode;
+
+    @Label("Body Bytes")
+    @DataAmount
+    private long bodyBytes;
+
+    @Label("Attempts")
+    private int attempts;
+
+    @Label("Time to First Byte")
+    @Description("Time from the start of the last attempt to the response headers")
+    @Timespan
+    private long timeToFirstByte;
+
+    /**
+     * Constructor
+     *
+     * @param entryPoint Entry point
+     * @param route      Route template
+     * @param method     HTTP method
+     */
+    public ExchangeEvent(String entryPoint, String route, String method) {
+        this.entryPoint = entryPoint;
+        this.route = route;
+        this.method = method;
+    }
+
+    /**
+     * Whether a recording has the event enabled
+     *
+     * @return {@code true} if the event is recorded
+     */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+
+    /**
+     * End the event and commit it
+     *
+     * @param statusCode      HTTP status, 0 if there was no response
+     * @param bodyBytes       Response body bytes read
+     * @param attempts        Number of attempts
+     * @param timeToFirstByte Time to the response headers, nanoseconds, 0 if there was no response
+     */
+    public void finish(int statusCode, long bodyBytes, int attempts, long timeToFirstByte) {
+        end();
+        if (shouldCommit()) {
+            this.statusCode = statusCode;
+            this.bodyBytes = bodyBytes;
+            this.attempts = attempts;
+            this.timeToFirstByte = timeToFirstByte;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Metrics;
+
+import com.Upwork.ClassPreamble;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Default {@link MetricsRecorder}, keeping a {@link Histogram} per metric,
+ * entry point, route template and status class.
+ *
+ * Histograms are created on the first value, so only the combinations seen
+ * take memory; recording a value of a known combination does not allocate.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class HistogramRecorder implements MetricsRecorder {
+    /** 0 for no response, 1 to 5 for 1xx to 5xx */
+    private static final int STATUS_CLASSES = 6;
+    private static final Metric[] METRICS = Metric.values();
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, AtomicReferenceArray<Histogram>>> entryPoints =
+            new ConcurrentHashMap<String, ConcurrentHashMap<String, AtomicReferenceArray<Histogram>>>();
+
+    @Override
+    public void record(Metric metric, String entryPoint, String route, int statusCode, long value) {
+        ConcurrentHashMap<String, AtomicReferenceArray<Histogram>> routes = entryPoints.get(entryPoint);
+        if (routes == null) {
+            routes = entryPoints.computeIfAbsent(entryPoint,
+                    ep -> new ConcurrentHashMap<String, AtomicReferenceArray<Histogram>>());
+        }
+        AtomicReferenceArray<Histogram> histograms = routes.get(route);
+        if (histograms == null) {
+            histograms = routes.computeIfAbsent(route,
+                    r -> new AtomicReferenceArray<Histogram>(METRICS.length * STATUS_CLASSES));
+        }
+        int slot = metric.ordinal() * STATUS_CLASSES + statusClass(statusCode);
+        Histogram histogram = histograms.get(slot);
+        if (histogram == null) {
+            histograms.compareAndSet(slot, null, new Histogram());
+            histogram = histograms.get(slot);
+        }
+        histogram.record(value);
+    }
+
+    /**
+     * Get histogram
+     *
+     * @param metric      Metric
+     * @param entryPoint  Entry point
+     * @param route       Route template
+     * @param statusClass Status class, 2 for 2xx etc., 0 for requests without response
+     * @return {@link Histogram}, or {@code null} if nothing was recorded
+     */
+    public Histogram getHistogram(Metric metric, String entryPoint, String route, int statusClass) {
+        if (statusClass < 0 || statusClass >= STATUS_CLASSES) {
+            throw new IllegalArgumentException("Status class must be between 0 and 5");
+        }
+        Map<String, AtomicReferenceArray<Histogram>> routes = entryPoints.get(entryPoint);
+        AtomicReferenceArray<Histogram> histograms = (routes == null) ? null : routes.get(route);
+        return (histograms == null) ? null : histograms.get(metric.ordinal() * STATUS_CLASSES + statusClass);
+    }
+
+    /**
+     * Get all histograms, e.g. to export them
+     *
+     * @return Histograms keyed by <code>metric entryPoint route status</code>,
+     *         e.g. <code>latency api /hr/v2/engagements 2xx</code>
+     */
+    public Map<String, Histogram> getHistograms() {
+        Map<String, Histogram> all = new TreeMap<String, Histogram>();
+        for (Map.Entry<String, ConcurrentHashMap<String, AtomicReferenceArray<Histogram>>> ep : entryPoints.entrySet()) {
+            for (Map.Entry<String, AtomicReferenceArray<Histogram>> route : ep.getValue().entrySet()) {
+                for (int slot = 0; slot < route.getValue().length(); slot++) {
+                    Histogram histogram = route.getValue().get(slot);
+                    if (histogram != null) {
+                        int status = slot % STATUS_CLASSES;
+                        all.put(METRICS[slot / STATUS_CLASSES].name().toLowerCase(Locale.ROOT) + " " + ep.getKey()
+                                + " " + route.getKey() + " " + ((status == 0) ? "none" : status + "xx"), histogram);
+                    }
+                }
+            }
+        }
+        return all;
+    }
+
+    private static int statusClass(int statusCode) {
+        int statusClass = statusCode / 100;
+        return (statusClass > 0 && statusClass < STATUS_CLASSES) ? statusClass : 0;
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api.Metrics;
+
+import com.Upwork.ClassPreamble;
+
+/**
+ * Java Flight Recorder events of the client: {@link ExchangeEvent},
+ * {@link TokenRefreshEvent} and {@link ConnectionWaitEvent}.
+ *
+ * The events are emitted only while a recording has them enabled, and cost
+ * a flag check otherwise. On runtimes without the <code>jdk.jfr</code> API
+ * (Java 8 before update 262) they are never touched.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class JfrEvents {
+    /** Whether the runtime has the Flight Recorder API */
+    public static final boolean AVAILABLE = available();
+
+    private JfrEvents() {
+    }
+
+    private static boolean available() {
+        try {
+            Class.forName("jdk.jfr.Event", false, JfrEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Metrics;
+
+import com.Upwork.ClassPreamble;
+
+/**
+ * Client-side measurements passed to {@link MetricsRecorder}.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public enum Metric {
+    /** Time from the first attempt to the end of the response body, nanoseconds, retries included */
+    LATENCY,
+    /** Time from the start of the last attempt to the response headers, nanoseconds */
+    TIME_TO_FIRST_BYTE,
+    /** Response body bytes read */
+    BODY_BYTES,
+    /** Retries of the request, recorded for every request */
+    RETRIES,
+    /** Time an async request waited for a thread, nanoseconds */
+    QUEUE_WAIT,
+    /** Time of the token request, nanoseconds */
+    TOKEN_REFRESH
+}
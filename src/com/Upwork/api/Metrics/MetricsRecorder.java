@@ -0,0 +1,51 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Metrics;
+
+import com.Upwork.ClassPreamble;
+
+/**
+ * Receives client-side measurements, e.g. to export them to a monitoring
+ * system. {@link HistogramRecorder} keeps them in memory.
+ *
+ * It is called on the request threads, so it must be thread safe and
+ * should not block.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public interface MetricsRecorder {
+
+    /**
+     * Record measurement
+     *
+     * @param metric     Metric
+     * @param entryPoint Entry point, e.g. <code>api</code>, <code>oauth2</code> for token requests
+     * @param route      Route template, e.g. <code>/hr/v2/engagements</code>
+     * @param statusCode HTTP status of the response, 0 if there was none or it does not apply
+     * @param value      Value in the unit of the metric
+     */
+    void record(Metric metric, String entryPoint, String route, int statusCode, long value);
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api.Metrics;
+
+import com.Upwork.ClassPreamble;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of one access token request made by the client.
+ *
+ * Check {@link JfrEvents#AVAILABLE} before touching this class.
+ */
+@Name("com.Upwork.api.TokenRefresh")
+@Label("Upwork API Token Refresh")
+@Category("Upwork API")
+@Description("Access token request of the client")
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class TokenRefreshEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(TokenRefreshEvent.class);
+
+    @Label("Grant Type")
+    private final String grantType;
+
+    @Label("Status")
+    @Description("HTTP status of the token response, 0 if there was none")
+    private int statusCode;
+
+    /**
+     * Constructor
+     *
+     * @param grantType Grant type, <code>refresh_token</code> or <code>client_credentials</code>
+     */
+    public TokenRefreshEvent(String grantType) {
+        this.grantType = grantType;
+    }
+
+    /**
+     * Whether a recording has the event enabled
+     *
+     * @return {@code true} if the event is recorded
+     */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+
+    /**
+     * End the event and commit it
+     *
+     * @param statusCode HTTP status, 0 if there was no response
+     */
+    public void finish(int statusCode) {
+        end();
+        if (shouldCommit()) {
+            this.statusCode = statusCode;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Job application, as returned by Applications API of clients and freelancers
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class Application {
+    /** Reads Application object */
+    public static final ModelReader<Application> READER = parser -> {
+        Application application = new Application();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "reference":
+                case "id":
+                    application.reference = ModelParser.text(parser);
+                    break;
+                case "job__reference":
+                case "job_posting_ref":
+                    application.jobReference = ModelParser.text(parser);
+                    break;
+                case "provider__reference":
+                case "contractor_reference":
+                    application.providerReference = ModelParser.text(parser);
+                    break;
+                case "status":
+                    application.status = ModelParser.text(parser);
+                    break;
+                case "cover_letter":
+                    application.coverLetter = ModelParser.text(parser);
+                    break;
+                case "charge_rate":
+                case "hourly_charge_rate":
+                    application.chargeRate = ModelParser.number(parser);
+                    break;
+                case "created_time":
+                case "created_ts":
+                    application.createdTime = ModelParser.text(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return application;
+    };
+
+    private String reference;
+    private String jobReference;
+    private String providerReference;
+    private String status;
+    private String coverLetter;
+    private Double chargeRate;
+    private String createdTime;
+
+    /**
+     * @return Application reference
+     */
+    public String getReference() {
+        return reference;
+    }
+
+    /**
+     * @return Job posting reference
+     */
+    public String getJobReference() {
+        return jobReference;
+    }
+
+    /**
+     * @return Freelancer reference
+     */
+    public String getProviderReference() {
+        return providerReference;
+    }
+
+    /**
+     * @return Status
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * @return Cover letter
+     */
+    public String getCoverLetter() {
+        return coverLetter;
+    }
+
+    /**
+     * @return Proposed rate, or {@code null} if not set
+     */
+    public Double getChargeRate() {
+        return chargeRate;
+    }
+
+    /**
+     * @return Creation time
+     */
+    public String getCreatedTime() {
+        return createdTime;
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Engagement, as returned by Engagements API
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class Engagement {
+    /** Reads Engagement object */
+    public static final ModelReader<Engagement> READER = parser -> {
+        Engagement engagement = new Engagement();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "reference":
+                    engagement.reference = ModelParser.text(parser);
+                    break;
+                case "engagement_title":
+                    engagement.title = ModelParser.text(parser);
+                    break;
+                case "status":
+                    engagement.status = ModelParser.text(parser);
+                    break;
+                case "engagement_job_type":
+                case "job_type":
+                    engagement.jobType = ModelParser.text(parser);
+                    break;
+                case "job__reference":
+                    engagement.jobReference = ModelParser.text(parser);
+                    break;
+                case "provider__id":
+                    engagement.providerId = ModelParser.text(parser);
+                    break;
+                case "provider__reference":
+                    engagement.providerReference = ModelParser.text(parser);
+                    break;
+                case "buyer_team__reference":
+                    engagement.buyerTeamReference = ModelParser.text(parser);
+                    break;
+                case "hourly_charge_rate":
+                    engagement.hourlyChargeRate = ModelParser.number(parser);
+                    break;
+                case "engagement_start_date":
+                    engagement.startDate = ModelParser.text(parser);
+                    break;
+                case "engagement_end_date":
+                    engagement.endDate = ModelParser.text(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return engagement;
+    };
+
+    private String reference;
+    private String title;
+    private String status;
+    private String jobType;
+    private String jobReference;
+    private String providerId;
+    private String providerReference;
+    private String buyerTeamReference;
+    private Double hourlyChargeRate;
+    private String startDate;
+    private String endDate;
+
+    /**
+     * @return Engagement reference
+     */
+    public String getReference() {
+        return reference;
+    }
+
+    /**
+     * @return Engagement title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @return Status
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * @return Job type, hourly or fixed-price
+     */
+    public String getJobType() {
+        return jobType;
+    }
+
+    /**
+     * @return Job reference
+     */
+    public String getJobReference() {
+        return jobReference;
+    }
+
+    /**
+     * @return Freelancer ID
+     */
+    public String getProviderId() {
+        return providerId;
+    }
+
+    /**
+     * @return Freelancer reference
+     */
+    public String getProviderReference() {
+        return providerReference;
+    }
+
+    /**
+     * @return Client team reference
+     */
+    public String getBuyerTeamReference() {
+        return buyerTeamReference;
+    }
+
+    /**
+     * @return Hourly rate, or {@code null} if not set
+     */
+    public Double getHourlyChargeRate() {
+        return hourlyChargeRate;
+    }
+
+    /**
+     * @return Start date
+     */
+    public String getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * @return End date
+     */
+    public String getEndDate() {
+        return endDate;
+    }
+}
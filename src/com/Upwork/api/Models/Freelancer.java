@@ -0,0 +1,153 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Freelancer, as returned by Freelancers Search API
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class Freelancer {
+    /** Reads Freelancer object */
+    public static final ModelReader<Freelancer> READER = parser -> {
+        Freelancer freelancer = new Freelancer();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "id":
+                    freelancer.id = ModelParser.text(parser);
+                    break;
+                case "name":
+                    freelancer.name = ModelParser.text(parser);
+                    break;
+                case "title":
+                    freelancer.title = ModelParser.text(parser);
+                    break;
+                case "description":
+                    freelancer.description = ModelParser.text(parser);
+                    break;
+                case "country":
+                    freelancer.country = ModelParser.text(parser);
+                    break;
+                case "rate":
+                    freelancer.rate = ModelParser.number(parser);
+                    break;
+                case "feedback":
+                    freelancer.feedback = ModelParser.number(parser);
+                    break;
+                case "skills":
+                    freelancer.skills = ModelParser.stringList(parser);
+                    break;
+                case "portrait_50":
+                    freelancer.portraitUrl = ModelParser.text(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return freelancer;
+    };
+
+    private String id;
+    private String name;
+    private String title;
+    private String description;
+    private String country;
+    private Double rate;
+    private Double feedback;
+    private List<String> skills = Collections.emptyList();
+    private String portraitUrl;
+
+    /**
+     * @return Freelancer ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return Name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Profile title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @return Profile description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return Country
+     */
+    public String getCountry() {
+        return country;
+    }
+
+    /**
+     * @return Hourly rate, or {@code null} if not set
+     */
+    public Double getRate() {
+        return rate;
+    }
+
+    /**
+     * @return Feedback score, or {@code null} if there is none
+     */
+    public Double getFeedback() {
+        return feedback;
+    }
+
+    /**
+     * @return Skills
+     */
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    /**
+     * @return Portrait URL
+     */
+    public String getPortraitUrl() {
+        return portraitUrl;
+    }
+}
@@ -0,0 +1,257 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled GDS query (<code>tq</code> parameter of GDS reports).
+ *
+ * A query is a template built once and reused: its fixed parts are rendered
+ * on {@link Builder#compile()}, only the values of {@link #PARAM}
+ * placeholders are quoted and spliced in per call. URL encoding is left to
+ * the request URL, like for any other parameter. Compiled queries are
+ * immutable and can be shared between threads.
+ *
+ * <pre>
+ * GdsQuery query = GdsQuery.select("worked_on", "assignment_ref", "hours")
+ *         .whereBetween("worked_on", GdsQuery.PARAM, GdsQuery.PARAM)
+ *         .orderBy("worked_on")
+ *         .compile();
+ * timeReports.getByCompanyTable(company, query.params(from, till));
+ * </pre>
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class GdsQuery {
+    /** Placeholder of a value given on each use of the query */
+    public static final Object PARAM = new Object() {
+        @Override
+        public String toString() {
+            return "?";
+        }
+    };
+
+    private static final Pattern COLUMN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    /**
+     * Comparison operator
+     */
+    public enum Operator {
+        EQ("="), NE("!="), LT("<"), LE("<="), GT(">"), GE(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+    }
+
+    /** Text between placeholders, one more than placeholders */
+    private final String[] text;
+
+    private GdsQuery(List<String> segments) {
+        text = segments.toArray(new String[segments.size()]);
+    }
+
+    /**
+     * Start query
+     *
+     * @param columns Columns to select
+     * @return {@link Builder}
+     */
+    public static Builder select(String... columns) {
+        return new Builder(columns);
+    }
+
+    /**
+     * @return Number of placeholders
+     */
+    public int getParamCount() {
+        return text.length - 1;
+    }
+
+    /**
+     * Render query text
+     *
+     * @param values Values of the placeholders, in order: {@link LocalDate}, {@link Number} or {@link String}
+     * @throws IllegalArgumentException If number of values does not match, or a value can not be quoted
+     * @return Query text
+     */
+    public String toText(Object... values) {
+        int count = (values == null) ? 0 : values.length;
+        if (count != text.length - 1) {
+            throw new IllegalArgumentException("Query takes " + (text.length - 1) + " values, got " + count);
+        }
+        if (count == 0) {
+            return text[0];
+        }
+        StringBuilder result = new StringBuilder(text[0]);
+        for (int i = 0; i < count; i++) {
+            result.append(literal(values[i])).append(text[i + 1]);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Get request parameters with the query
+     *
+     * @param values Values of the placeholders
+     * @throws IllegalArgumentException If number of values does not match, or a value can not be quoted
+     * @return Parameters holding <code>tq</code>, to be passed to report routers
+     */
+    public HashMap<String, String> params(Object... values) {
+        HashMap<String, String> params = new HashMap<String, String>();
+        params.put("tq", toText(values));
+        return params;
+    }
+
+    @Override
+    public String toString() {
+        return String.join("?", text);
+    }
+
+    /**
+     * Render value as literal
+     */
+    static String literal(Object value) {
+        if (value instanceof Number) {
+            return value.toString();
+        }
+        if (value instanceof LocalDate || value instanceof String) {
+            String text = value.toString();
+            if (text.indexOf('\'') < 0) {
+                return "'" + text + "'";
+            }
+            if (text.indexOf('"') < 0) {
+                return "\"" + text + "\"";
+            }
+            throw new IllegalArgumentException("Value can not hold both quote kinds: " + text);
+        }
+        throw new IllegalArgumentException("Unsupported value " + value);
+    }
+
+    private static String column(String name) {
+        if (name == null || !COLUMN.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid column name: " + name);
+        }
+        return name;
+    }
+
+    /**
+     * Builder of {@link GdsQuery}
+     */
+    public static final class Builder {
+        private final List<String> segments = new ArrayList<String>();
+        private final StringBuilder current = new StringBuilder("SELECT ");
+        private boolean where;
+        private boolean ordered;
+
+        private Builder(String[] columns) {
+            if (columns.length == 0) {
+                throw new IllegalArgumentException("No columns selected");
+            }
+            for (int i = 0; i < columns.length; i++) {
+                current.append(i == 0 ? "" : ", ").append(column(columns[i]));
+            }
+        }
+
+        /**
+         * Add condition, conditions are joined with AND
+         *
+         * @param column   Column
+         * @param operator Operator
+         * @param value    {@link LocalDate}, {@link Number}, {@link String} or {@link #PARAM}
+         * @return This builder
+         */
+        public Builder where(String column, Operator operator, Object value) {
+            if (ordered) {
+                throw new IllegalStateException("Conditions must precede ORDER BY");
+            }
+            current.append(where ? " AND " : " WHERE ").append(column(column)).append(' ')
+                    .append(operator.symbol).append(' ');
+            where = true;
+            if (value == PARAM) {
+                segments.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(literal(value));
+            }
+            return this;
+        }
+
+        /**
+         * Add condition on a closed interval
+         *
+         * @param column Column
+         * @param from   First value, or {@link #PARAM}
+         * @param till   Last value, or {@link #PARAM}
+         * @return This builder
+         */
+        public Builder whereBetween(String column, Object from, Object till) {
+            return where(column, Operator.GE, from).where(column, Operator.LE, till);
+        }
+
+        /**
+         * Order by column, ascending
+         *
+         * @param column Column
+         * @return This builder
+         */
+        public Builder orderBy(String column) {
+            return orderBy(column, false);
+        }
+
+        /**
+         * Order by column
+         *
+         * @param column     Column
+         * @param descending Whether to order descending
+         * @return This builder
+         */
+        public Builder orderBy(String column, boolean descending) {
+            current.append(ordered ? ", " : " ORDER BY ").append(column(column)).append(descending ? " DESC" : "");
+            ordered = true;
+            return this;
+        }
+
+        /**
+         * Render the fixed parts of the query
+         *
+         * @return {@link GdsQuery}
+         */
+        public GdsQuery compile() {
+            List<String> all = new ArrayList<String>(segments);
+            all.add(current.toString());
+            return new GdsQuery(all);
+        }
+    }
+}
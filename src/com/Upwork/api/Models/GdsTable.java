@@ -0,0 +1,459 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table returned by GDS reports (Time Reports, Financial Reports), decoded
+ * into a primitive array per column.
+ *
+ * Cells of <code>number</code> columns are kept as <code>double</code>s,
+ * {@link Double#NaN} if empty; of <code>date</code> columns as epoch days,
+ * {@link #NO_DATE} if empty; of other columns as codes of a per-column
+ * dictionary of distinct values, -1 if empty. References and names repeat a
+ * lot in reports, so the dictionary holds a few strings for many rows.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class GdsTable {
+    /** Epoch day of an empty date cell */
+    public static final long NO_DATE = Long.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Type of column values
+     */
+    public enum Type {
+        NUMBER, DATE, STRING
+    }
+
+    private static final ModelReader<GdsTable> TABLE_READER = parser -> {
+        GdsTable table = new GdsTable();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "cols":
+                    table.columns = ModelParser.list(parser, Column::readHeader);
+                    break;
+                case "rows":
+                    table.readRows(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        for (Column column : table.columns) {
+            column.trim(table.rowCount);
+        }
+        return table;
+    };
+
+    private static final ModelReader<GdsTable> RESPONSE_READER = ModelParser.nested(TABLE_READER, "table");
+
+    /** Reads GDS response holding the <code>table</code> object, empty table if there is none */
+    public static final ModelReader<GdsTable> READER = parser -> {
+        GdsTable table = RESPONSE_READER.read(parser);
+        return (table != null) ? table : new GdsTable();
+    };
+
+    private List<Column> columns = Collections.emptyList();
+    private int rowCount;
+
+    private void readRows(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            // an empty report may come without columns, rows may not
+            if (columns.isEmpty()) {
+                throw new JsonParseException(parser, "Table columns must precede rows");
+            }
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            int filled = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && field.equals("c")) {
+                    filled = readCells(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            // short rows are padded with empty cells
+            for (int i = filled; i < columns.size(); i++) {
+                columns.get(i).addEmpty(rowCount);
+            }
+            rowCount++;
+        }
+    }
+
+    /**
+     * Read cells of the row, the parser is at the start of the array
+     *
+     * @return Number of columns filled
+     */
+    private int readCells(JsonParser parser) throws IOException {
+        int index = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (index >= columns.size()) {
+                parser.skipChildren();
+                continue;
+            }
+            Column column = columns.get(index++);
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                column.addEmpty(rowCount);
+                continue;
+            }
+            boolean filled = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (field.equals("v") && !filled) {
+                    column.add(rowCount, parser);
+                    filled = true;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (!filled) {
+                column.addEmpty(rowCount);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @return Number of rows
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return Columns, in the order of the response
+     */
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Get column by label
+     *
+     * @param label Column label
+     * @return {@link Column}, or {@code null} if there is no such column
+     */
+    public Column getColumn(String label) {
+        for (Column column : columns) {
+            if (column.label.equals(label)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Column of the table; only the array matching its type is set
+     */
+    public static final class Column {
+        private final String label;
+        private final Type type;
+        private double[] numbers;
+        private long[] dates;
+        private int[] codes;
+        private List<String> dictionary;
+        private Map<String, Integer> index;
+
+        private Column(String label, Type type) {
+            this.label = label;
+            this.type = type;
+            switch (type) {
+                case NUMBER:
+                    numbers = new double[INITIAL_CAPACITY];
+                    break;
+                case DATE:
+                    dates = new long[INITIAL_CAPACITY];
+                    break;
+                default:
+                    codes = new int[INITIAL_CAPACITY];
+                    dictionary = new ArrayList<String>();
+                    index = new HashMap<String, Integer>();
+            }
+        }
+
+        private static Column readHeader(JsonParser parser) throws IOException {
+            String label = "";
+            Type type = Type.STRING;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (field.equals("label")) {
+                    String value = ModelParser.text(parser);
+                    label = (value != null) ? value : "";
+                } else if (field.equals("type")) {
+                    String value = ModelParser.text(parser);
+                    type = "number".equals(value) ? Type.NUMBER : "date".equals(value) ? Type.DATE : Type.STRING;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new Column(label, type);
+        }
+
+        private void add(int row, JsonParser parser) throws IOException {
+            JsonToken token = parser.getCurrentToken();
+            if (type == Type.NUMBER && token.isNumeric()) {
+                ensureCapacity(row);
+                numbers[row] = parser.getDoubleValue();
+                return;
+            }
+            String value = ModelParser.text(parser);
+            if (value == null || value.isEmpty()) {
+                addEmpty(row);
+                return;
+            }
+            ensureCapacity(row);
+            switch (type) {
+                case NUMBER:
+                    numbers[row] = parseNumber(value);
+                    break;
+                case DATE:
+                    dates[row] = parseDate(value);
+                    break;
+                default:
+                    Integer code = index.get(value);
+                    if (code == null) {
+                        code = dictionary.size();
+                        dictionary.add(value);
+                        index.put(value, code);
+                    }
+                    codes[row] = code;
+            }
+        }
+
+        private void addEmpty(int row) {
+            ensureCapacity(row);
+            switch (type) {
+                case NUMBER:
+                    numbers[row] = Double.NaN;
+                    break;
+                case DATE:
+                    dates[row] = NO_DATE;
+                    break;
+                default:
+                    codes[row] = -1;
+            }
+        }
+
+        private void ensureCapacity(int row) {
+            int capacity = (numbers != null) ? numbers.length : (dates != null) ? dates.length : codes.length;
+            if (row < capacity) {
+                return;
+            }
+            int grown = Math.max(row + 1, capacity * 2);
+            if (numbers != null) {
+                numbers = Arrays.copyOf(numbers, grown);
+            } else if (dates != null) {
+                dates = Arrays.copyOf(dates, grown);
+            } else {
+                codes = Arrays.copyOf(codes, grown);
+            }
+        }
+
+        private void trim(int rows) {
+            if (numbers != null) {
+                numbers = Arrays.copyOf(numbers, rows);
+            } else if (dates != null) {
+                dates = Arrays.copyOf(dates, rows);
+            } else {
+                codes = Arrays.copyOf(codes, rows);
+                dictionary = Collections.unmodifiableList(dictionary);
+                // only needed while decoding
+                index = null;
+            }
+        }
+
+        private static double parseNumber(String value) {
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+
+        /**
+         * Parse date, <code>yyyyMMdd</code> or <code>yyyy-MM-dd</code>
+         */
+        static long parseDate(String value) {
+            boolean dashed = value.length() == 10 && value.charAt(4) == '-' && value.charAt(7) == '-';
+            if (value.length() != 8 && !dashed) {
+                return NO_DATE;
+            }
+            int offset = dashed ? 1 : 0;
+            int year = digits(value, 0, 4);
+            int month = digits(value, 4 + offset, 2);
+            int day = digits(value, 6 + 2 * offset, 2);
+            if (year < 0 || month < 0 || day < 0) {
+                return NO_DATE;
+            }
+            try {
+                return LocalDate.of(year, month, day).toEpochDay();
+            } catch (DateTimeException e) {
+                return NO_DATE;
+            }
+        }
+
+        private static int digits(String value, int start, int length) {
+            int result = 0;
+            for (int i = start; i < start + length; i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return -1;
+                }
+                result = result * 10 + (c - '0');
+            }
+            return result;
+        }
+
+        /**
+         * @return Column label
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * @return Type of values
+         */
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * Get values of a <code>number</code> column
+         *
+         * @throws IllegalStateException If column is of other type
+         * @return Value per row, {@link Double#NaN} for empty cells; not to be modified
+         */
+        public double[] getNumbers() {
+            check(Type.NUMBER);
+            return numbers;
+        }
+
+        /**
+         * Get values of a <code>date</code> column
+         *
+         * @throws IllegalStateException If column is of other type
+         * @return Epoch day per row, {@link #NO_DATE} for empty cells; not to be modified
+         */
+        public long[] getEpochDays() {
+            check(Type.DATE);
+            return dates;
+        }
+
+        /**
+         * Get values of a string column, as codes of {@link #getDictionary()}
+         *
+         * @throws IllegalStateException If column is of other type
+         * @return Dictionary index per row, -1 for empty cells; not to be modified
+         */
+        public int[] getCodes() {
+            check(Type.STRING);
+            return codes;
+        }
+
+        /**
+         * Get distinct values of a string column
+         *
+         * @throws IllegalStateException If column is of other type
+         * @return Values, in the order of first appearance
+         */
+        public List<String> getDictionary() {
+            check(Type.STRING);
+            return dictionary;
+        }
+
+        /**
+         * Sum values of a <code>number</code> column, skipping empty cells
+         *
+         * @throws IllegalStateException If column is of other type
+         * @return Sum
+         */
+        public double sum() {
+            double sum = 0;
+            for (double value : getNumbers()) {
+                if (!Double.isNaN(value)) {
+                    sum += value;
+                }
+            }
+            return sum;
+        }
+
+        /**
+         * Get value of the cell as text
+         *
+         * @param row Row index
+         * @return Number, date as <code>yyyy-MM-dd</code>, or string; {@code null} if empty
+         */
+        public String getText(int row) {
+            switch (type) {
+                case NUMBER:
+                    return Double.isNaN(numbers[row]) ? null : Double.toString(numbers[row]);
+                case DATE:
+                    return (dates[row] == NO_DATE) ? null : LocalDate.ofEpochDay(dates[row]).toString();
+                default:
+                    return (codes[row] < 0) ? null : dictionary.get(codes[row]);
+            }
+        }
+
+        private void check(Type expected) {
+            if (type != expected) {
+                throw new IllegalStateException("Column " + label + " is " + type + ", not " + expected);
+            }
+        }
+    }
+}
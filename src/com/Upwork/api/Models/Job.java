@@ -0,0 +1,199 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Job, as returned by Jobs Search API
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class Job {
+    /** Reads Job object */
+    public static final ModelReader<Job> READER = parser -> {
+        Job job = new Job();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "id":
+                    job.id = ModelParser.text(parser);
+                    break;
+                case "title":
+                    job.title = ModelParser.text(parser);
+                    break;
+                case "snippet":
+                    job.snippet = ModelParser.text(parser);
+                    break;
+                case "category2":
+                case "category":
+                    job.category = ModelParser.text(parser);
+                    break;
+                case "subcategory2":
+                case "subcategory":
+                    job.subcategory = ModelParser.text(parser);
+                    break;
+                case "skills":
+                    job.skills = ModelParser.stringList(parser);
+                    break;
+                case "job_type":
+                    job.jobType = ModelParser.text(parser);
+                    break;
+                case "budget":
+                    job.budget = ModelParser.number(parser);
+                    break;
+                case "duration":
+                    job.duration = ModelParser.text(parser);
+                    break;
+                case "workload":
+                    job.workload = ModelParser.text(parser);
+                    break;
+                case "job_status":
+                    job.status = ModelParser.text(parser);
+                    break;
+                case "date_created":
+                    job.dateCreated = ModelParser.text(parser);
+                    break;
+                case "url":
+                    job.url = ModelParser.text(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return job;
+    };
+
+    private String id;
+    private String title;
+    private String snippet;
+    private String category;
+    private String subcategory;
+    private List<String> skills = Collections.emptyList();
+    private String jobType;
+    private Double budget;
+    private String duration;
+    private String workload;
+    private String status;
+    private String dateCreated;
+    private String url;
+
+    /**
+     * @return Job ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return Title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @return Beginning of the description
+     */
+    public String getSnippet() {
+        return snippet;
+    }
+
+    /**
+     * @return Category
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * @return Subcategory
+     */
+    public String getSubcategory() {
+        return subcategory;
+    }
+
+    /**
+     * @return Required skills
+     */
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    /**
+     * @return Job type, hourly or fixed-price
+     */
+    public String getJobType() {
+        return jobType;
+    }
+
+    /**
+     * @return Budget of fixed-price job, or {@code null} if not set
+     */
+    public Double getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return Expected duration
+     */
+    public String getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return Expected workload
+     */
+    public String getWorkload() {
+        return workload;
+    }
+
+    /**
+     * @return Status
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * @return Creation date
+     */
+    public String getDateCreated() {
+        return dateCreated;
+    }
+
+    /**
+     * @return Job URL
+     */
+    public String getUrl() {
+        return url;
+    }
+}
@@ -0,0 +1,230 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Json.JsonStreamReader;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Helpers for {@link ModelReader}s.
+ *
+ * Upwork API is not strict about value types: numbers may come as strings,
+ * and a list of one element may come as the element itself. The helpers
+ * accept both forms, and skip values of unexpected shape instead of failing.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class ModelParser {
+
+    private ModelParser() {
+    }
+
+    /**
+     * Read model from the stream
+     *
+     * @param in      Input stream
+     * @param charset Charset, or {@code null} to detect it
+     * @param reader  Model reader
+     * @throws IOException If stream can not be read or is not a JSON object
+     * @return Model
+     */
+    public static <T> T parse(InputStream in, Charset charset, ModelReader<T> reader) throws IOException {
+        try (JsonParser parser = JsonStreamReader.createParser(in, charset)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "A JSON object expected");
+            }
+            return reader.read(parser);
+        }
+    }
+
+    /**
+     * Get reader of the object found at the given path
+     *
+     * @param reader Reader of the nested object
+     * @param path   Field names leading to the object
+     * @return {@link ModelReader}, reading {@code null} if there is no object at the path
+     */
+    public static <T> ModelReader<T> nested(ModelReader<T> reader, String... path) {
+        return parser -> readNested(parser, reader, path, 0);
+    }
+
+    private static <T> T readNested(JsonParser parser, ModelReader<T> reader, String[] path, int depth)
+            throws IOException {
+        T result = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            if (parser.nextToken() == JsonToken.START_OBJECT && result == null && name.equals(path[depth])) {
+                result = (depth == path.length - 1)
+                        ? reader.read(parser)
+                        : readNested(parser, reader, path, depth + 1);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read the current value as object
+     *
+     * @param parser Parser at the value
+     * @param reader Model reader
+     * @throws IOException If JSON can not be read
+     * @return Model, or {@code null} if the value is not an object
+     */
+    public static <T> T object(JsonParser parser, ModelReader<T> reader) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        return reader.read(parser);
+    }
+
+    /**
+     * Read the current value as list of objects
+     *
+     * @param parser Parser at the value
+     * @param reader Model reader
+     * @throws IOException If JSON can not be read
+     * @return List of models, a single object is read as list of one
+     */
+    public static <T> List<T> list(JsonParser parser, ModelReader<T> reader) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return Collections.singletonList(reader.read(parser));
+        }
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return Collections.emptyList();
+        }
+        List<T> items = new ArrayList<T>();
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                items.add(reader.read(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Read the current value as list of strings
+     *
+     * @param parser Parser at the value
+     * @throws IOException If JSON can not be read
+     * @return List of strings, a single value is read as list of one
+     */
+    public static List<String> stringList(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token != JsonToken.START_ARRAY) {
+            String value = text(parser);
+            return (value == null) ? Collections.<String>emptyList() : Collections.singletonList(value);
+        }
+        List<String> items = new ArrayList<String>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String value = text(parser);
+            if (value != null) {
+                items.add(value);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Read the current value as text
+     *
+     * @param parser Parser at the value
+     * @throws IOException If JSON can not be read
+     * @return Text of a string, number or boolean, {@code null} otherwise
+     */
+    public static String text(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken().isScalarValue() && parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    /**
+     * Read the current value as number
+     *
+     * @param parser Parser at the value
+     * @throws IOException If JSON can not be read
+     * @return Value of a number or a numeric string, {@code null} otherwise
+     */
+    public static Double number(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token.isNumeric()) {
+            return parser.getDoubleValue();
+        }
+        String value = text(parser);
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Read the current value as integer
+     *
+     * @param parser Parser at the value
+     * @throws IOException If JSON can not be read
+     * @return Value of an integer or an integer string, {@code null} otherwise
+     */
+    public static Long integer(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        Double value = number(parser);
+        return (value == null) ? null : Long.valueOf(value.longValue());
+    }
+
+    /**
+     * Read the current value as boolean
+     *
+     * @param parser Parser at the value
+     * @throws IOException If JSON can not be read
+     * @return {@code true} for <code>true</code>, <code>"true"</code> and <code>"1"</code>
+     */
+    public static boolean bool(JsonParser parser) throws IOException {
+        String value = text(parser);
+        return "true".equals(value) || "1".equals(value);
+    }
+}
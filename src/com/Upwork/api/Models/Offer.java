@@ -0,0 +1,144 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Offer, as returned by Offers API of clients and freelancers
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class Offer {
+    /** Reads Offer object */
+    public static final ModelReader<Offer> READER = parser -> {
+        Offer offer = new Offer();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "reference":
+                case "rid":
+                    offer.reference = ModelParser.text(parser);
+                    break;
+                case "title":
+                    offer.title = ModelParser.text(parser);
+                    break;
+                case "status":
+                    offer.status = ModelParser.text(parser);
+                    break;
+                case "type":
+                case "job_type":
+                    offer.type = ModelParser.text(parser);
+                    break;
+                case "job_posting_ref":
+                case "job__reference":
+                    offer.jobReference = ModelParser.text(parser);
+                    break;
+                case "provider__reference":
+                case "contractor_reference":
+                    offer.providerReference = ModelParser.text(parser);
+                    break;
+                case "charge_rate":
+                case "hourly_charge_rate":
+                    offer.chargeRate = ModelParser.number(parser);
+                    break;
+                case "created_time":
+                    offer.createdTime = ModelParser.text(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return offer;
+    };
+
+    private String reference;
+    private String title;
+    private String status;
+    private String type;
+    private String jobReference;
+    private String providerReference;
+    private Double chargeRate;
+    private String createdTime;
+
+    /**
+     * @return Offer reference
+     */
+    public String getReference() {
+        return reference;
+    }
+
+    /**
+     * @return Offer title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @return Status
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * @return Contract type, hourly or fixed-price
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @return Job posting reference
+     */
+    public String getJobReference() {
+        return jobReference;
+    }
+
+    /**
+     * @return Freelancer reference
+     */
+    public String getProviderReference() {
+        return providerReference;
+    }
+
+    /**
+     * @return Offered rate, or {@code null} if not set
+     */
+    public Double getChargeRate() {
+        return chargeRate;
+    }
+
+    /**
+     * @return Creation time
+     */
+    public String getCreatedTime() {
+        return createdTime;
+    }
+}
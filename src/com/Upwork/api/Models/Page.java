@@ -0,0 +1,96 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Page of a list response
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class Page<T> {
+    private List<T> items = Collections.emptyList();
+    private Paging paging;
+
+    /**
+     * Get reader of the list found at the given path. Paging info is taken
+     * from the <code>paging</code> or <code>lister</code> object met on the way.
+     *
+     * @param itemReader Reader of list items
+     * @param path       Field names leading to the list
+     * @return {@link ModelReader}
+     */
+    public static <T> ModelReader<Page<T>> reader(ModelReader<T> itemReader, String... path) {
+        return parser -> {
+            Page<T> page = new Page<T>();
+            page.read(parser, itemReader, path, 0);
+            return page;
+        };
+    }
+
+    private void read(JsonParser parser, ModelReader<T> itemReader, String[] path, int depth) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (field.equals(path[depth])) {
+                if (depth == path.length - 1) {
+                    items = ModelParser.list(parser, itemReader);
+                    continue;
+                }
+                if (token == JsonToken.START_OBJECT) {
+                    read(parser, itemReader, path, depth + 1);
+                    continue;
+                }
+            }
+            if ((field.equals("paging") || field.equals("lister")) && token == JsonToken.START_OBJECT) {
+                paging = Paging.READER.read(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * @return Items of the page
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * @return Paging info, or {@code null} if response has none
+     */
+    public Paging getPaging() {
+        return paging;
+    }
+}
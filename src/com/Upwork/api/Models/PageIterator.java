@@ -0,0 +1,210 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterator over the items of all pages of a list, fetching the next pages
+ * while the current one is consumed.
+ *
+ * Up to <code>readAhead</code> pages are requested ahead, so no more than
+ * <code>readAhead + 1</code> pages are held in memory. Pages past the total
+ * reported by the first page are not requested; iteration also ends on a
+ * page shorter than the page size. Request errors are thrown as
+ * {@link UncheckedIOException}.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class PageIterator<T> implements Iterator<T>, Closeable {
+
+    /**
+     * Requests a page of the list
+     */
+    public interface Fetcher<T> {
+
+        /**
+         * Start request of the page
+         *
+         * @param offset Offset of the first item
+         * @param count  Page size
+         * @return {@link CompletableFuture} with the page
+         */
+        CompletableFuture<Page<T>> fetch(long offset, int count);
+    }
+
+    private final Fetcher<T> fetcher;
+    private final int pageSize;
+    private final int readAhead;
+    private final Deque<CompletableFuture<Page<T>>> pending = new ArrayDeque<CompletableFuture<Page<T>>>();
+    private long nextOffset;
+    /** Total reported by the first page, -1 if unknown */
+    private long total = -1;
+    private boolean last;
+    private Iterator<T> current = Collections.emptyIterator();
+
+    /**
+     * Constructor, requests the first page
+     *
+     * @param fetcher   Page fetcher
+     * @param offset    Offset of the first item
+     * @param pageSize  Page size
+     * @param readAhead Pages requested ahead of the one being consumed
+     */
+    public PageIterator(Fetcher<T> fetcher, long offset, int pageSize, int readAhead) {
+        if (pageSize <= 0 || readAhead < 0) {
+            throw new IllegalArgumentException("Page size must be positive, read ahead not negative");
+        }
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+        this.readAhead = readAhead;
+        this.nextOffset = offset;
+        // the rest waits for the total, so short lists take one request
+        request();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (pending.isEmpty()) {
+                if (last) {
+                    return false;
+                }
+                request();
+            }
+            List<T> items = await(pending.poll());
+            if (items.size() < pageSize) {
+                close();
+            }
+            fill();
+            current = items.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Get sequential stream over the rest of the items, closing the iterator on close
+     *
+     * @return {@link Stream}
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Stop fetching; pages already requested are dropped
+     */
+    @Override
+    public void close() {
+        last = true;
+        for (CompletableFuture<Page<T>> page : pending) {
+            page.cancel(false);
+        }
+        pending.clear();
+    }
+
+    private void request() {
+        if (total >= 0 && nextOffset >= total) {
+            last = true;
+            return;
+        }
+        pending.add(fetcher.fetch(nextOffset, pageSize));
+        nextOffset += pageSize;
+    }
+
+    private void fill() {
+        while (!last && pending.size() < readAhead) {
+            request();
+        }
+    }
+
+    private List<T> await(CompletableFuture<Page<T>> future) {
+        if (future == null) {
+            return Collections.emptyList();
+        }
+        Page<T> page;
+        try {
+            page = join(future);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        if (total < 0 && page.getPaging() != null && page.getPaging().getTotal() > 0) {
+            total = page.getPaging().getTotal();
+        }
+        return page.getItems();
+    }
+
+    /**
+     * Wait for the request
+     *
+     * @param future Request
+     * @throws UncheckedIOException If request failed or waiting was interrupted
+     * @return Result
+     */
+    static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("Interrupted waiting for response", e));
+        } catch (ExecutionException | CancellationException e) {
+            Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new UncheckedIOException((cause instanceof IOException)
+                    ? (IOException) cause : new IOException(cause.getMessage(), cause));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Paging info of a list response, read from both the <code>paging</code>
+ * object of search responses and the <code>lister</code> object of HR lists.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class Paging {
+    /** Reads <code>paging</code> and <code>lister</code> objects */
+    public static final ModelReader<Paging> READER = parser -> {
+        Paging paging = new Paging();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "offset":
+                    paging.offset = orZero(ModelParser.integer(parser));
+                    break;
+                case "count":
+                    paging.count = orZero(ModelParser.integer(parser));
+                    break;
+                case "total":
+                case "total_items":
+                case "total_count":
+                    paging.total = orZero(ModelParser.integer(parser));
+                    break;
+                case "paging":
+                    // lister keeps the request paging as "offset;count"
+                    String value = ModelParser.text(parser);
+                    int separator = (value == null) ? -1 : value.indexOf(';');
+                    if (separator > 0 && paging.count == 0) {
+                        try {
+                            paging.count = Long.parseLong(value.substring(separator + 1).trim());
+                        } catch (NumberFormatException ignored) {
+                            // leave it unknown
+                        }
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return paging;
+    };
+
+    private long offset;
+    private long count;
+    private long total;
+
+    private static long orZero(Long value) {
+        return (value == null) ? 0 : value;
+    }
+
+    /**
+     * @return Offset of the first item of the page
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return Requested page size
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return Total number of items, all pages
+     */
+    public long getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.json.JSONObject;
+
+/**
+ * Iterator over the responses for a date interval split into chunks of
+ * a few days, fetching up to <code>concurrency</code> chunks at once.
+ *
+ * Responses come in date order, each chunk is requested as soon as there
+ * is room in the window, so no more than <code>concurrency</code> responses
+ * are held in memory. Request errors are thrown as {@link UncheckedIOException};
+ * JSON requests report them as <code>{error: ...}</code> responses, which
+ * {@link #checked(CompletableFuture)} turns into exceptions.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class RangeIterator<T> implements Iterator<T>, Closeable {
+    private final BiFunction<String, String, CompletableFuture<T>> fetcher;
+    private final DateTimeFormatter format;
+    private final LocalDate till;
+    private final int chunkDays;
+    private final int concurrency;
+    private final Deque<CompletableFuture<T>> pending = new ArrayDeque<CompletableFuture<T>>();
+    private LocalDate next;
+
+    /**
+     * Constructor, requests the first chunks
+     *
+     * @param fromDate    First date, <code>yyyyMMdd</code> or <code>yyyy-MM-dd</code>
+     * @param tillDate    Last date, in the same format
+     * @param chunkDays   Days per request
+     * @param concurrency Max requests at once
+     * @param fetcher     Starts request of the chunk, given its first and last dates in the format of the range
+     */
+    public RangeIterator(String fromDate, String tillDate, int chunkDays, int concurrency,
+            BiFunction<String, String, CompletableFuture<T>> fetcher) {
+        if (chunkDays <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("Chunk days and concurrency must be positive");
+        }
+        this.format = (fromDate.length() == 8) ? DateTimeFormatter.BASIC_ISO_DATE : DateTimeFormatter.ISO_LOCAL_DATE;
+        try {
+            this.next = LocalDate.parse(fromDate, format);
+            this.till = LocalDate.parse(tillDate, format);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Dates must be yyyyMMdd or yyyy-MM-dd: " + e.getMessage(), e);
+        }
+        this.chunkDays = chunkDays;
+        this.concurrency = concurrency;
+        this.fetcher = fetcher;
+        fill();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !pending.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        CompletableFuture<T> future = pending.poll();
+        if (future == null) {
+            throw new NoSuchElementException();
+        }
+        T result;
+        try {
+            result = PageIterator.join(future);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        fill();
+        return result;
+    }
+
+    /**
+     * Get sequential stream over the rest of the responses, closing the iterator on close
+     *
+     * @return {@link Stream}
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Stop fetching; chunks already requested are dropped
+     */
+    @Override
+    public void close() {
+        next = till.plusDays(1);
+        for (CompletableFuture<T> chunk : pending) {
+            chunk.cancel(false);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Fail the response of a JSON request if it is an <code>{error: ...}</code> object
+     *
+     * @param response Response of the chunk
+     * @return {@link CompletableFuture} completed with the response, or
+     *         with {@link UncheckedIOException} if the request failed
+     */
+    public static CompletableFuture<JSONObject> checked(CompletableFuture<JSONObject> response) {
+        return response.thenApply(json -> {
+            if (json.has("error")) {
+                throw new UncheckedIOException(new IOException("Request failed: " + json.opt("error")));
+            }
+            return json;
+        });
+    }
+
+    private void fill() {
+        while (pending.size() < concurrency && !next.isAfter(till)) {
+            LocalDate last = next.plusDays(chunkDays - 1);
+            if (last.isAfter(till)) {
+                last = till;
+            }
+            pending.add(fetcher.apply(next.format(format), last.format(format)));
+            next = last.plusDays(1);
+        }
+    }
+}
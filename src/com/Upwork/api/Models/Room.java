@@ -0,0 +1,139 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Messages room, as returned by Messages API
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class Room {
+    /** Reads Room object */
+    public static final ModelReader<Room> READER = parser -> {
+        Room room = new Room();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "roomId":
+                    room.id = ModelParser.text(parser);
+                    break;
+                case "roomName":
+                    room.name = ModelParser.text(parser);
+                    break;
+                case "roomType":
+                    room.type = ModelParser.text(parser);
+                    break;
+                case "topic":
+                    room.topic = ModelParser.text(parser);
+                    break;
+                case "owner":
+                    room.owner = ModelParser.text(parser);
+                    break;
+                case "numUnread":
+                    room.numUnread = ModelParser.integer(parser);
+                    break;
+                case "readOnly":
+                    room.readOnly = ModelParser.bool(parser);
+                    break;
+                case "recentTimestamp":
+                    room.recentTimestamp = ModelParser.integer(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return room;
+    };
+
+    private String id;
+    private String name;
+    private String type;
+    private String topic;
+    private String owner;
+    private Long numUnread;
+    private boolean readOnly;
+    private Long recentTimestamp;
+
+    /**
+     * @return Room ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return Room name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Room type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @return Topic
+     */
+    public String getTopic() {
+        return topic;
+    }
+
+    /**
+     * @return Owner
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * @return Number of unread stories, or {@code null} if unknown
+     */
+    public Long getNumUnread() {
+        return numUnread;
+    }
+
+    /**
+     * @return Whether the room is read only
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @return Time of the latest story, or {@code null} if unknown
+     */
+    public Long getRecentTimestamp() {
+        return recentTimestamp;
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api.Models;
+
+import com.Upwork.ClassPreamble;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Time report, as returned by GDS Time Reports API: column labels and rows
+ * of cell values, in the order of the columns.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public final class TimeReport {
+    private static final ModelReader<TimeReport> TABLE_READER = parser -> {
+        TimeReport report = new TimeReport();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "cols":
+                    report.columns = ModelParser.list(parser, TimeReport::readColumn);
+                    break;
+                case "rows":
+                    report.rows = ModelParser.list(parser, TimeReport::readRow);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return report;
+    };
+
+    private static final ModelReader<TimeReport> RESPONSE_READER = ModelParser.nested(TABLE_READER, "table");
+
+    /** Reads GDS response holding the <code>table</code> object, empty report if there is none */
+    public static final ModelReader<TimeReport> READER = parser -> {
+        TimeReport report = RESPONSE_READER.read(parser);
+        return (report != null) ? report : new TimeReport();
+    };
+
+    private List<String> columns = Collections.emptyList();
+    private List<String[]> rows = Collections.emptyList();
+
+    private static String readColumn(JsonParser parser) throws IOException {
+        String label = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (field.equals("label")) {
+                label = ModelParser.text(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return label;
+    }
+
+    private static String[] readRow(JsonParser parser) throws IOException {
+        List<String> cells = Collections.emptyList();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (field.equals("c")) {
+                cells = ModelParser.list(parser, TimeReport::readCell);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return cells.toArray(new String[cells.size()]);
+    }
+
+    private static String readCell(JsonParser parser) throws IOException {
+        String value = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (field.equals("v")) {
+                value = ModelParser.text(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return Column labels
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return Rows, each holding cell values in the order of {@link #getColumns()}
+     */
+    public List<String[]> getRows() {
+        return rows;
+    }
+
+    /**
+     * Get index of the column
+     *
+     * @param label Column label
+     * @return Column index, or -1 if there is no such column
+     */
+    public int getColumnIndex(String label) {
+        return columns.indexOf(label);
+    }
+}
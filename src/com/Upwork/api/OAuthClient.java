@@ -19,53 +19,120 @@
 package com.Upwork.api;
 
 import com.Upwork.ClassPreamble;
+import com.Upwork.api.Graphql.PersistedQueries;
+import com.Upwork.api.Http.CircuitBreaker;
+import com.Upwork.api.Http.Digests;
+import com.Upwork.api.Http.DiskResponseCache;
+import com.Upwork.api.Http.InterceptorChain;
+import com.Upwork.api.Http.MemoryResponseCache;
+import com.Upwork.api.Http.PooledHttpTransport;
+import com.Upwork.api.Http.RateLimiter;
+import com.Upwork.api.Http.RequestInterceptor;
+import com.Upwork.api.Http.ResponseCache;
+import com.Upwork.api.Http.RetryPolicy;
+import com.Upwork.api.Http.RouteTemplate;
+import com.Upwork.api.Http.TransportFactory;
+import com.Upwork.api.Json.JsonRecordHandler;
+import com.Upwork.api.Json.JsonRecordIterator;
+import com.Upwork.api.Metrics.JfrEvents;
+import com.Upwork.api.Metrics.Metric;
+import com.Upwork.api.Metrics.MetricsRecorder;
+import com.Upwork.api.Metrics.TokenRefreshEvent;
+import com.Upwork.api.Models.ModelReader;
 import com.google.api.client.auth.oauth2.*;
 import com.google.api.client.http.*;
-import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.http.json.JsonHttpContent;
 import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.jackson2.JacksonFactory;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @ClassPreamble(author = "Maksym Novozhylov <mnovozhilov@upwork.com>", date = "10/31/2018", currentRevision = 1, lastModified = "11/01/2018", lastModifiedBy = "Maksym Novozhylov", reviewers = {
         "Yiota Tsakiri" })
-public class OAuthClient {
+public class OAuthClient implements Closeable {
     private static final int METHOD_GET = 1;
     private static final int METHOD_POST = 2;
     private static final int METHOD_PUT = 3;
     private static final int METHOD_DELETE = 4;
 
     private static final String OVERLOAD_PARAM = "http_method";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
     private static final String DATA_FORMAT = "json";
     private static final String UPWORK_BASE_URL = "https://www.upwork.com/";
     private static final String UPWORK_GQL_ENDPOINT = "https://api.upwork.com/graphql";
 
     private static final String UPWORK_LIBRARY_USER_AGENT = "Github Upwork API Java Client";
 
+    private static final int DEFAULT_ASYNC_THREADS = 64;
+    private static final int DEFAULT_ASYNC_QUEUE_SIZE = 1024;
+    private static final int DEFAULT_TOKEN_REFRESH_AHEAD = 300;
+    private static final int DEFAULT_TOKEN_REFRESH_RETRY = 30;
+    private static final int DEFAULT_HTTP_CACHE_DIR_SIZE = 64 * 1024 * 1024;
+
     private static final String TOKEN_SERVER_URL = UPWORK_BASE_URL + "api/v3/oauth2/token";
     private static final String AUTHORIZATION_SERVER_URL = UPWORK_BASE_URL + "ab/account-security/oauth2/authorize";
 
-    /** Global instance of the HTTP transport. */
-    private static final HttpTransport HTTP_TRANSPORT = new NetHttpTransport();
     private static final JsonFactory JSON_FACTORY = new JacksonFactory();
-    private static final HttpRequestFactory HTTP_REQUEST_FACTORY = HTTP_TRANSPORT.createRequestFactory();
+    /** Records attempts for the circuit breaker when retries are disabled */
+    private static final RetryPolicy NO_RETRY = new RetryPolicy(1, 0, 0, 0);
+
+    private final String clientId;
+    private final String clientSecret;
+    private final String grantType;
+    private final String redirectUri;
+
+    /** Client created from config, its views share its transport, tokens and executor. */
+    private final OAuthClient root;
+    private volatile String entryPoint = "api";
+    private volatile String tenantId;
 
-    private static String clientId = null;
-    private static String clientSecret = null;
-    private static String grantType = "code_authorization";
-    private static String redirectUri = null;
-    private static String entryPoint = "api";
-    private static String tenantId = null;
+    /** HTTP transport, shared by all requests of this client. */
+    private final HttpTransport httpTransport;
+    private final HttpRequestFactory httpRequestFactory;
 
-    private AuthorizationCodeFlow authorizationCodeFlow = null;
-    private ClientCredentialsTokenRequest clientCredentialsTokenRequest = null;
-    private volatile Credential credential;
+    /** Executor of async requests, created on first use unless set explicitly. */
+    private final int asyncThreads;
+    private final int asyncQueueSize;
+    private volatile Executor asyncExecutor;
+    private ExecutorService ownAsyncExecutor;
+
+    private final AuthorizationCodeFlow authorizationCodeFlow;
+    private final ClientCredentialsTokenRequest clientCredentialsTokenRequest;
+    private final TokenRefresher tokenRefresher;
+
+    /** Cache of GET responses, {@code null} if disabled; used through the root client. */
+    private volatile ResponseCache responseCache;
+    /** Identifies the owner of the tokens in cache keys, survives access token refresh. */
+    private volatile String tokenSubject;
+    /** Client-side rate limiter, {@code null} if disabled; used through the root client. */
+    private volatile RateLimiter rateLimiter;
+    /** Retry policy, {@code null} if disabled; used through the root client. */
+    private volatile RetryPolicy retryPolicy;
+    /** Circuit breakers, {@code null} if disabled; used through the root client. */
+    private volatile CircuitBreaker circuitBreaker;
+    /** Metrics recorder, {@code null} if disabled; used through the root client. */
+    private volatile MetricsRecorder metricsRecorder;
+    /** Request interceptors; used through the root client. */
+    private volatile InterceptorChain interceptors = InterceptorChain.EMPTY;
+    /** GraphQL queries persisted on the server, shared with the root client. */
+    private final PersistedQueries.Registry persistedQueries;
 
     /**
      * Constructor
@@ -73,26 +140,54 @@ public class OAuthClient {
      * @param properties Config properties
      */
     public OAuthClient(Config properties) {
+        this(properties, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param properties Config properties
+     * @param transport  HTTP transport, or {@code null} to create one from
+     *                   the <code>transportFactory</code> config property
+     */
+    public OAuthClient(Config properties, HttpTransport transport) {
         if (properties == null) {
             properties = new Config(null);
         }
 
+        httpTransport = (transport != null) ? transport : createTransport(properties);
+        httpRequestFactory = httpTransport.createRequestFactory();
+        asyncThreads = properties.getIntProperty("asyncThreads", DEFAULT_ASYNC_THREADS);
+        asyncQueueSize = properties.getIntProperty("asyncQueueSize", DEFAULT_ASYNC_QUEUE_SIZE);
+        tokenRefresher = new TokenRefresher(this::fetchToken,
+                properties.getIntProperty("tokenRefreshAhead", DEFAULT_TOKEN_REFRESH_AHEAD),
+                properties.getIntProperty("tokenRefreshRetry", DEFAULT_TOKEN_REFRESH_RETRY));
+        responseCache = createResponseCache(properties);
+        rateLimiter = RateLimiter.create(properties);
+        retryPolicy = RetryPolicy.create(properties);
+        circuitBreaker = CircuitBreaker.create(properties);
+        persistedQueries = new PersistedQueries.Registry();
+
+        root = this;
         clientId = properties.getProperty("clientId");
         clientSecret = properties.getProperty("clientSecret");
-        grantType = properties.getProperty("grantType");
+        grantType = properties.getProperty("grantType", "code_authorization");
 
         if (grantType.equals("client_credentials")) {
+            redirectUri = null;
+            authorizationCodeFlow = null;
             clientCredentialsTokenRequest = new ClientCredentialsTokenRequest(
-                    HTTP_TRANSPORT,
+                    httpTransport,
                     JSON_FACTORY,
                     new GenericUrl(TOKEN_SERVER_URL))
                     .setClientAuthentication(new ClientParametersAuthentication(clientId, clientSecret));
         } else {
+            clientCredentialsTokenRequest = null;
             redirectUri = properties.getProperty("redirectUri");
 
             authorizationCodeFlow = new AuthorizationCodeFlow(
                     BearerToken.authorizationHeaderAccessMethod(),
-                    HTTP_TRANSPORT,
+                    httpTransport,
                     JSON_FACTORY,
                     new GenericUrl(TOKEN_SERVER_URL),
                     new ClientParametersAuthentication(clientId, clientSecret),
@@ -101,6 +196,79 @@ public class OAuthClient {
         }
     }
 
+    /**
+     * Constructor of a view sharing everything but the entry point and the
+     * tenant with the root client
+     *
+     * @param root       Root client
+     * @param entryPoint Entry point
+     * @param tenantId   Organization UID, or {@code null} to use the one of the root client
+     */
+    private OAuthClient(OAuthClient root, String entryPoint, String tenantId) {
+        this.root = root;
+        this.entryPoint = entryPoint;
+        this.tenantId = tenantId;
+        clientId = root.clientId;
+        clientSecret = root.clientSecret;
+        grantType = root.grantType;
+        redirectUri = root.redirectUri;
+        httpTransport = root.httpTransport;
+        httpRequestFactory = root.httpRequestFactory;
+        asyncThreads = root.asyncThreads;
+        asyncQueueSize = root.asyncQueueSize;
+        authorizationCodeFlow = root.authorizationCodeFlow;
+        clientCredentialsTokenRequest = root.clientCredentialsTokenRequest;
+        tokenRefresher = root.tokenRefresher;
+        persistedQueries = root.persistedQueries;
+    }
+
+    /**
+     * Create HTTP transport using the factory set in config, pooled one by default
+     *
+     * @param properties Config properties
+     * @return {@link HttpTransport}
+     */
+    private static HttpTransport createTransport(Config properties) {
+        String factoryClass = properties.getProperty("transportFactory");
+        if (factoryClass == null) {
+            return new PooledHttpTransport.Factory().create(properties);
+        }
+
+        try {
+            TransportFactory factory = Class.forName(factoryClass)
+                    .asSubclass(TransportFactory.class).getDeclaredConstructor().newInstance();
+            return factory.create(properties);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("Can not create transport factory " + factoryClass, e);
+        }
+    }
+
+    /**
+     * Create response cache configured by <code>httpCacheSize</code> (bytes, memory tier),
+     * <code>httpCacheDir</code> and <code>httpCacheDirSize</code> (bytes, optional disk tier)
+     *
+     * @param properties Config properties
+     * @return {@link ResponseCache}, or {@code null} if caching is not enabled
+     */
+    private static ResponseCache createResponseCache(Config properties) {
+        int memorySize = properties.getIntProperty("httpCacheSize", 0);
+        String directory = properties.getProperty("httpCacheDir");
+        if (memorySize <= 0 && directory == null) {
+            return null;
+        }
+
+        ResponseCache disk = null;
+        if (directory != null) {
+            try {
+                disk = new DiskResponseCache(new File(directory),
+                        properties.getIntProperty("httpCacheDirSize", DEFAULT_HTTP_CACHE_DIR_SIZE));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Can not use cache directory " + directory, e);
+            }
+        }
+        return (memorySize > 0) ? new MemoryResponseCache(memorySize, disk) : disk;
+    }
+
     /**
      * Returns authorization URL.
      *
@@ -166,30 +334,104 @@ public class OAuthClient {
      */
     public TokenResponse getTokenResponseByRefreshToken(String refreshToken, CredentialRefreshListener refreshListener)
             throws TokenResponseException, IOException {
-        TokenResponse tokenResponse = new RefreshTokenRequest(HTTP_TRANSPORT, JSON_FACTORY,
-                new GenericUrl(TOKEN_SERVER_URL), refreshToken)
-                .setClientAuthentication(new ClientParametersAuthentication(clientId, clientSecret))
-                .setRequestInitializer(httpRequest -> httpRequest.getHeaders().setUserAgent(UPWORK_LIBRARY_USER_AGENT))
-                .execute();
+        TokenResponse tokenResponse = newRefreshTokenRequest(refreshToken).execute();
         setTokenResponse(tokenResponse, refreshListener);
         return tokenResponse;
     }
 
+    /**
+     * Build refresh token request
+     *
+     * @param refreshToken Refresh token used to obtain new access token
+     * @return {@link RefreshTokenRequest}
+     */
+    private RefreshTokenRequest newRefreshTokenRequest(String refreshToken) {
+        return new RefreshTokenRequest(httpTransport, JSON_FACTORY,
+                new GenericUrl(TOKEN_SERVER_URL), refreshToken)
+                .setClientAuthentication(new ClientParametersAuthentication(clientId, clientSecret))
+                .setRequestInitializer(httpRequest -> httpRequest.getHeaders().setUserAgent(UPWORK_LIBRARY_USER_AGENT));
+    }
+
+    /**
+     * Request new access token for the current credential, using its refresh
+     * token or, for Client Credentials Grant, a new client credentials request
+     *
+     * @param current Current credential
+     * @return TokenResponse, or {@code null} if the token can not be refreshed
+     * @throws IOException In case tokens cannot be obtained
+     */
+    private TokenResponse fetchToken(Credential current) throws IOException {
+        if (current.getRefreshToken() == null && clientCredentialsTokenRequest == null) {
+            // no token request to make, so nothing to measure
+            return null;
+        }
+        MetricsRecorder recorder = metricsRecorder;
+        TokenRefreshEvent event = (JfrEvents.AVAILABLE && TokenRefreshEvent.enabled())
+                ? new TokenRefreshEvent((current.getRefreshToken() != null) ? "refresh_token" : "client_credentials")
+                : null;
+        if (recorder == null && event == null) {
+            return requestToken(current);
+        }
+        long start = System.nanoTime();
+        if (event != null) {
+            event.begin();
+        }
+        int statusCode = 0;
+        try {
+            TokenResponse response = requestToken(current);
+            statusCode = 200;
+            return response;
+        } catch (TokenResponseException e) {
+            statusCode = e.getStatusCode();
+            throw e;
+        } finally {
+            if (event != null) {
+                event.finish(statusCode);
+            }
+            if (recorder != null) {
+                recorder.record(Metric.TOKEN_REFRESH, "oauth2", "/token", statusCode, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Send token request
+     *
+     * @param current Credential holding the current token
+     * @throws IOException If token request failed
+     * @return {@link TokenResponse}, or {@code null} if the token can not be refreshed
+     */
+    private TokenResponse requestToken(Credential current) throws IOException {
+        if (current.getRefreshToken() != null) {
+            return newRefreshTokenRequest(current.getRefreshToken()).execute();
+        }
+        if (clientCredentialsTokenRequest != null) {
+            return clientCredentialsTokenRequest
+                    .setRequestInitializer(httpRequest -> httpRequest.getHeaders().setUserAgent(UPWORK_LIBRARY_USER_AGENT))
+                    .execute();
+        }
+        return null;
+    }
+
     /**
      * Sets up access and refresh tokens to be used for requests with this client.
-     * If refresh token is provided, it will be used to automatically refresh access
-     * tokens when requests are made
-     * if they are expired or will expire soon (in less than 1 minute).
+     * If refresh token is provided (or Client Credentials Grant is used), access
+     * tokens are refreshed automatically in background, <code>tokenRefreshAhead</code>
+     * seconds (default 300) before they expire; a failed refresh is retried after
+     * <code>tokenRefreshRetry</code> seconds (default 30) while requests keep using
+     * the old token. Tokens which are expired or will expire soon (in less than
+     * 1 minute) are refreshed right away.
      *
      * @param tokenResponse   TokenResponse contains access and refresh tokens and
      *                        access token expiry time
      * @param refreshListener CredentialRefreshListener which is called when tokens
-     *                        are automatically refreshed
+     *                        are automatically refreshed, pass {@link TokenRefreshListener}
+     *                        to also get refresh latency and failures
      */
     public void setTokenResponse(TokenResponse tokenResponse, CredentialRefreshListener refreshListener)
             throws IOException {
         Credential.Builder builder = new Credential.Builder(BearerToken.authorizationHeaderAccessMethod())
-                .setTransport(HTTP_TRANSPORT)
+                .setTransport(httpTransport)
                 .setJsonFactory(JSON_FACTORY)
                 .setTokenServerUrl(new GenericUrl(TOKEN_SERVER_URL))
                 .setClientAuthentication(new ClientParametersAuthentication(clientId, clientSecret));
@@ -200,32 +442,57 @@ public class OAuthClient {
         Credential credential = builder.build();
         credential.setFromTokenResponse(tokenResponse);
 
-        Long expiresIn = credential.getExpiresInSeconds();
-        // check if token will expire in a minute
-        if (credential.getAccessToken() == null || expiresIn != null && expiresIn <= 60) {
-            credential.refreshToken();
-        }
+        String grant = (tokenResponse.getRefreshToken() != null)
+                ? tokenResponse.getRefreshToken() : tokenResponse.getAccessToken();
+        root.tokenSubject = Digests.sha256Hex(clientId + ":" + grant);
+
+        tokenRefresher.install(credential);
+    }
+
+    /**
+     * Get client sending requests to the given entry point. The returned
+     * client shares transport, tokens and async executor with this one,
+     * so it is cheap to create and safe to use concurrently with it.
+     *
+     * @param ep Entry point
+     * @return {@link OAuthClient}
+     */
+    public OAuthClient forEntryPoint(String ep) {
+        // the root client's tenant is looked up on each request, a view's own one is kept
+        return new OAuthClient(root, ep, (root == this) ? null : tenantId);
+    }
 
-        this.credential = credential;
+    /**
+     * Get client sending X-Upwork-API-TenantId header with the given
+     * organization UID, sharing everything else with this one
+     *
+     * @param uid Organization UID (aka Tenant ID)
+     * @return {@link OAuthClient}
+     */
+    public OAuthClient withTenant(String uid) {
+        return new OAuthClient(root, entryPoint, uid);
     }
 
     /**
      * Setup entry point for the request(s)
      *
      * @param ep Entry point
+     * @deprecated Changes the entry point of every caller sharing this client,
+     *             use {@link #forEntryPoint(String)} instead
      */
+    @Deprecated
     public final void setEntryPoint(String ep) {
         entryPoint = ep;
     }
 
     /**
-     * + Setup X-Upwork-API-TenantId header
-     * +
-     * + @param uid Organization UID (aka Tenant ID)
-     * +
+     * Setup default X-Upwork-API-TenantId header, used by this client and
+     * all the clients got from it unless they set their own with {@link #withTenant(String)}
+     *
+     * @param uid Organization UID (aka Tenant ID)
      */
     public final void setOrgUidHeader(String uid) {
-        tenantId = uid;
+        root.tenantId = uid;
     }
 
     /**
@@ -251,6 +518,58 @@ public class OAuthClient {
         return sendGetRequest(url, METHOD_GET, params);
     }
 
+    /**
+     * Send signed OAuth GET request and bind the response to a typed model
+     *
+     * @param url    Relative URL
+     * @param params Hash of parameters
+     * @param reader Model reader
+     * @throws IOException If request failed or response can not be read
+     * @return Model
+     */
+    public <T> T get(String url, HashMap<String, String> params, ModelReader<T> reader) throws IOException {
+        return UpworkRestClient.executeRequest(buildGetRequest(url, params), reader);
+    }
+
+    /**
+     * Send signed OAuth GET request, passing the records of the array found
+     * at the given path to the handler while the response is being read, so
+     * large responses are processed with bounded memory
+     *
+     * @param url     Relative URL
+     * @param params  Hash of parameters
+     * @param handler Record handler
+     * @param path    Field names leading to the array, e.g. <code>"table", "rows"</code>
+     * @throws JSONException If JSON object is invalid or request was abnormal
+     * @return {@link JSONObject} JSON Object that contains the rest of the response,
+     *         with the array left empty
+     */
+    public JSONObject getRecords(String url, HashMap<String, String> params, JsonRecordHandler handler,
+            String... path) throws JSONException {
+        try {
+            return UpworkRestClient.executeRequest(buildGetRequest(url, params), handler, path);
+        } catch (IOException e) {
+            return UpworkRestClient.genIOError(e);
+        }
+    }
+
+    /**
+     * Send signed OAuth GET request and iterate over the records of the array
+     * found at the given path while the response is being read. The iterator
+     * must be closed, unless it was read to the end.
+     *
+     * @param url    Relative URL
+     * @param params Hash of parameters
+     * @param path   Field names leading to the array, e.g. <code>"table", "rows"</code>
+     * @throws IOException   If request failed or response can not be read
+     * @throws JSONException If response is not a JSON object
+     * @return {@link JsonRecordIterator}
+     */
+    public JsonRecordIterator iterateRecords(String url, HashMap<String, String> params, String... path)
+            throws IOException, JSONException {
+        return UpworkRestClient.openRecords(buildGetRequest(url, params), path);
+    }
+
     /**
      * Send signed OAuth POST request
      *
@@ -260,7 +579,33 @@ public class OAuthClient {
      * @return {@link JSONObject} JSON Object that contains data from response
      */
     public JSONObject post(String url, HashMap<String, String> params) throws JSONException {
-        return sendPostRequest(url, METHOD_POST, params);
+        return sendPostRequest(url, METHOD_POST, params, null);
+    }
+
+    /**
+     * Send signed OAuth POST request, which may be retried as the server
+     * recognizes repeated requests by the idempotency key
+     *
+     * @param url            Relative URL
+     * @param params         Hash of parameters
+     * @param idempotencyKey Unique key of the operation, sent as <code>Idempotency-Key</code> header
+     * @throws JSONException If JSON object is invalid or request was abnormal
+     * @return {@link JSONObject} JSON Object that contains data from response
+     */
+    public JSONObject post(String url, HashMap<String, String> params, String idempotencyKey) throws JSONException {
+        return sendPostRequest(url, METHOD_POST, params, idempotencyKey);
+    }
+
+    /**
+     * Send signed OAuth POST request with a prepared body
+     *
+     * @param url     Relative URL
+     * @param content Request body
+     * @throws JSONException If JSON object is invalid or request was abnormal
+     * @return {@link JSONObject} JSON Object that contains data from response
+     */
+    public JSONObject post(String url, HttpContent content) throws JSONException {
+        return sendPostContent(url, METHOD_POST, content, null);
     }
 
     /**
@@ -271,7 +616,7 @@ public class OAuthClient {
      * @return {@link JSONObject} JSON Object that contains data from response
      */
     public JSONObject put(String url) throws JSONException {
-        return sendPostRequest(url, METHOD_PUT, new HashMap<String, String>());
+        return sendPostRequest(url, METHOD_PUT, new HashMap<String, String>(), null);
     }
 
     /**
@@ -283,7 +628,7 @@ public class OAuthClient {
      * @return {@link JSONObject} JSON Object that contains data from response
      */
     public JSONObject put(String url, HashMap<String, String> params) throws JSONException {
-        return sendPostRequest(url, METHOD_PUT, params);
+        return sendPostRequest(url, METHOD_PUT, params, null);
     }
 
     /**
@@ -294,7 +639,7 @@ public class OAuthClient {
      * @return {@link JSONObject} JSON Object that contains data from response
      */
     public JSONObject delete(String url) throws JSONException {
-        return sendPostRequest(url, METHOD_DELETE, null);
+        return sendPostRequest(url, METHOD_DELETE, null, null);
     }
 
     /**
@@ -306,7 +651,273 @@ public class OAuthClient {
      * @return {@link JSONObject} JSON Object that contains data from response
      */
     public JSONObject delete(String url, HashMap<String, String> params) throws JSONException {
-        return sendPostRequest(url, METHOD_DELETE, params);
+        return sendPostRequest(url, METHOD_DELETE, params, null);
+    }
+
+    /**
+     * Send signed OAuth GET request without parameters, asynchronously
+     *
+     * @param url Relative URL
+     * @return {@link CompletableFuture} with JSON Object that contains data from response
+     */
+    public CompletableFuture<JSONObject> getAsync(String url) {
+        return sendAsync(url, () -> get(url));
+    }
+
+    /**
+     * Send signed OAuth GET request, asynchronously
+     *
+     * @param url    Relative URL
+     * @param params Hash of parameters
+     * @return {@link CompletableFuture} with JSON Object that contains data from response
+     */
+    public CompletableFuture<JSONObject> getAsync(String url, HashMap<String, String> params) {
+        return sendAsync(url, () -> get(url, params));
+    }
+
+    /**
+     * Send signed OAuth GET request and read the response as model, asynchronously
+     *
+     * @param url    Relative URL
+     * @param params Hash of parameters
+     * @param reader Model reader
+     * @return {@link CompletableFuture} with the model, completed exceptionally if request failed
+     */
+    public <T> CompletableFuture<T> getAsync(String url, HashMap<String, String> params, ModelReader<T> reader) {
+        return sendAsync(url, () -> get(url, params, reader));
+    }
+
+    /**
+     * Send signed OAuth POST request, asynchronously
+     *
+     * @param url    Relative URL
+     * @param params Hash of parameters
+     * @return {@link CompletableFuture} with JSON Object that contains data from response
+     */
+    public CompletableFuture<JSONObject> postAsync(String url, HashMap<String, String> params) {
+        return sendAsync(url, () -> post(url, params));
+    }
+
+    /**
+     * Send signed OAuth POST request with idempotency key, asynchronously
+     *
+     * @param url            Relative URL
+     * @param params         Hash of parameters
+     * @param idempotencyKey Unique key of the operation, sent as <code>Idempotency-Key</code> header
+     * @return {@link CompletableFuture} with JSON Object that contains data from response
+     */
+    public CompletableFuture<JSONObject> postAsync(String url, HashMap<String, String> params, String idempotencyKey) {
+        return sendAsync(url, () -> post(url, params, idempotencyKey));
+    }
+
+    /**
+     * Send signed OAuth POST request with a prepared body, asynchronously
+     *
+     * @param url     Relative URL
+     * @param content Request body
+     * @return {@link CompletableFuture} with JSON Object that contains data from response
+     */
+    public CompletableFuture<JSONObject> postAsync(String url, HttpContent content) {
+        return sendAsync(url, () -> post(url, content));
+    }
+
+    /**
+     * Send signed OAuth PUT request, asynchronously
+     *
+     * @param url Relative URL
+     * @return {@link CompletableFuture} with JSON Object that contains data from response
+     */
+    public CompletableFuture<JSONObject> putAsync(String url) {
+        return sendAsync(url, () -> put(url));
+    }
+
+    /**
+     * Send signed OAuth PUT request, asynchronously
+     *
+     * @param url    Relative URL
+     * @param params Hash of parameters
+     * @return {@link CompletableFuture} with JSON Object that contains data from response
+     */
+    public CompletableFuture<JSONObject> putAsync(String url, HashMap<String, String> params) {
+        return sendAsync(url, () -> put(url, params));
+    }
+
+    /**
+     * Send signed OAuth DELETE request without parameters, asynchronously
+     *
+     * @param url Relative URL
+     * @return {@link CompletableFuture} with JSON Object that contains data from response
+     */
+    public CompletableFuture<JSONObject> deleteAsync(String url) {
+        return sendAsync(url, () -> delete(url));
+    }
+
+    /**
+     * Send signed OAuth DELETE request, asynchronously
+     *
+     * @param url    Relative URL
+     * @param params Hash of parameters
+     * @return {@link CompletableFuture} with JSON Object that contains data from response
+     */
+    public CompletableFuture<JSONObject> deleteAsync(String url, HashMap<String, String> params) {
+        return sendAsync(url, () -> delete(url, params));
+    }
+
+    /**
+     * Setup executor for async requests. By default a bounded pool of
+     * <code>asyncThreads</code> threads with a queue of <code>asyncQueueSize</code>
+     * requests is used; requests over the queue limit fail with
+     * {@link RejectedExecutionException}.
+     *
+     * @param executor Executor
+     */
+    public final void setAsyncExecutor(Executor executor) {
+        root.asyncExecutor = executor;
+    }
+
+    /**
+     * Set cache of GET responses, shared with all the clients got from this
+     * one. Cached responses are revalidated with <code>If-None-Match</code>
+     * and <code>If-Modified-Since</code> and served on 304 Not Modified.
+     *
+     * @param cache Response cache, or {@code null} to disable caching
+     */
+    public final void setResponseCache(ResponseCache cache) {
+        root.responseCache = cache;
+    }
+
+    /**
+     * Set client-side rate limiter, shared with all the clients got from
+     * this one. Requests are paced per tenant, entry point and route.
+     *
+     * @param limiter Rate limiter, or {@code null} to disable rate limiting
+     */
+    public final void setRateLimiter(RateLimiter limiter) {
+        root.rateLimiter = limiter;
+    }
+
+    /**
+     * Set retry policy, shared with all the clients got from this one. GET,
+     * PUT and DELETE requests are retried, POST requests only if sent with
+     * an idempotency key.
+     *
+     * @param policy Retry policy, or {@code null} to disable retries
+     */
+    public final void setRetryPolicy(RetryPolicy policy) {
+        root.retryPolicy = policy;
+    }
+
+    /**
+     * Get retry policy
+     *
+     * @return {@link RetryPolicy}, or {@code null} if retries are disabled
+     */
+    public final RetryPolicy getRetryPolicy() {
+        return root.retryPolicy;
+    }
+
+    /**
+     * Set circuit breakers, shared with all the clients got from this one.
+     * Circuits are kept per entry point, or per entry point and route.
+     *
+     * @param breaker Circuit breakers, or {@code null} to disable circuit breaking
+     */
+    public final void setCircuitBreaker(CircuitBreaker breaker) {
+        root.circuitBreaker = breaker;
+    }
+
+    /**
+     * Get circuit breakers, e.g. to monitor their states
+     *
+     * @return {@link CircuitBreaker}, or {@code null} if circuit breaking is disabled
+     */
+    public final CircuitBreaker getCircuitBreaker() {
+        return root.circuitBreaker;
+    }
+
+    /**
+     * Set metrics recorder, shared with all the clients got from this one.
+     * Requests are measured per entry point, route template and status
+     * class; see {@link Metric} for what is recorded.
+     *
+     * @param recorder Metrics recorder, e.g. {@link com.Upwork.api.Metrics.HistogramRecorder},
+     *                 or {@code null} to disable metrics
+     */
+    public final void setMetricsRecorder(MetricsRecorder recorder) {
+        root.metricsRecorder = recorder;
+    }
+
+    /**
+     * Get metrics recorder
+     *
+     * @return {@link MetricsRecorder}, or {@code null} if metrics are disabled
+     */
+    public final MetricsRecorder getMetricsRecorder() {
+        return root.metricsRecorder;
+    }
+
+    /**
+     * Add request interceptor, shared with all the clients got from this
+     * one. Interceptors are called in the order they were added before each
+     * attempt, and in the reverse order with its response.
+     *
+     * @param interceptor Interceptor
+     */
+    public final void addInterceptor(RequestInterceptor interceptor) {
+        synchronized (root) {
+            root.interceptors = root.interceptors.with(interceptor);
+        }
+    }
+
+    /**
+     * Remove request interceptor
+     *
+     * @param interceptor Interceptor
+     */
+    public final void removeInterceptor(RequestInterceptor interceptor) {
+        synchronized (root) {
+            root.interceptors = root.interceptors.without(interceptor);
+        }
+    }
+
+    /**
+     * Get registry of GraphQL queries persisted on the server, shared with all
+     * the clients got from this one
+     *
+     * @return {@link PersistedQueries.Registry}
+     */
+    public PersistedQueries.Registry getPersistedQueryRegistry() {
+        return persistedQueries;
+    }
+
+    /**
+     * Get cache of GET responses
+     *
+     * @return {@link ResponseCache}, or {@code null} if caching is disabled
+     */
+    public final ResponseCache getResponseCache() {
+        return root.responseCache;
+    }
+
+    /**
+     * Stop background token refresh and shut down the async executor created
+     * by this client. Requests already queued are still executed.
+     */
+    @Override
+    public void close() {
+        if (root != this) {
+            root.close();
+            return;
+        }
+        tokenRefresher.close();
+        ExecutorService executor;
+        synchronized (this) {
+            executor = ownAsyncExecutor;
+            ownAsyncExecutor = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
     }
 
     /**
@@ -319,33 +930,129 @@ public class OAuthClient {
      * @return {@link JSONObject} JSON Object that contains data from response
      */
     private JSONObject sendGetRequest(String url, Integer type, HashMap<String, String> params) throws JSONException {
-        String fullUrl = getFullUrl(url);
-        GenericUrl genericUrl = new GenericUrl(fullUrl);
-        if (params != null) {
-            genericUrl.putAll(params);
-        }
         try {
-            HttpRequest request = HTTP_REQUEST_FACTORY.buildGetRequest(genericUrl);
-            request.getHeaders().setUserAgent(UPWORK_LIBRARY_USER_AGENT);
-            credential.intercept(request);
-            return UpworkRestClient.executeRequest(request);
+            HttpRequest request = buildGetRequest(url, params);
+            ResponseCache cache = root.responseCache;
+            if (cache == null) {
+                return UpworkRestClient.executeRequest(request);
+            }
+            return UpworkRestClient.executeRequest(request, cache, getCacheKey(request));
         } catch (IOException e) {
             return UpworkRestClient.genIOError(e);
         }
     }
 
     /**
-     * Send signed POST OAuth request
+     * Build cache key of GET request: token owner, tenant and full URL
+     *
+     * @param request HTTP request
+     * @return Cache key
+     */
+    private String getCacheKey(HttpRequest request) {
+        return root.tokenSubject + " " + getTenant() + " " + request.getUrl().build();
+    }
+
+    /**
+     * Get organization UID sent by this client
+     *
+     * @return Organization UID, or {@code null} if not set
+     */
+    private String getTenant() {
+        return (tenantId != null) ? tenantId : root.tenantId;
+    }
+
+    /**
+     * Wait for the rate limiter, if any, to let the request go
+     *
+     * @param request HTTP request
+     * @param route   Route template
+     * @throws IOException If rate limit wait failed
+     */
+    private void limitRate(HttpRequest request, String route) throws IOException {
+        RateLimiter limiter = root.rateLimiter;
+        if (limiter != null) {
+            limiter.apply(request, getTenant() + " " + entryPoint + " " + route);
+        }
+    }
+
+    /**
+     * Fail fast if the circuit of the request is open
+     *
+     * @param request HTTP request
+     * @param route   Route template
+     * @throws IOException If the circuit is open
+     * @return Circuit to report attempts to, or {@code null} if circuit breaking is disabled
+     */
+    private CircuitBreaker.Circuit checkCircuit(HttpRequest request, String route) throws IOException {
+        CircuitBreaker breaker = root.circuitBreaker;
+        if (breaker == null) {
+            return null;
+        }
+        CircuitBreaker.Circuit circuit = breaker.check(entryPoint, route);
+        // checked again before each attempt, a retry must not hit an open circuit either
+        request.setInterceptor(circuit);
+        return circuit;
+    }
+
+    /**
+     * Install the retry policy, if any, on the request
+     *
+     * @param request    HTTP request
+     * @param method     Semantic HTTP method
+     * @param route      Route template
+     * @param idempotent Whether the request may be retried
+     * @param circuit    Circuit of the request, or {@code null}
+     */
+    private void retry(HttpRequest request, String method, String route, boolean idempotent,
+            CircuitBreaker.Circuit circuit) {
+        RetryPolicy policy = root.retryPolicy;
+        if (policy == null && circuit != null) {
+            policy = NO_RETRY;
+        }
+        if (policy != null) {
+            policy.apply(request, method, "/" + entryPoint + route, idempotent, circuit);
+        }
+    }
+
+    /**
+     * Build signed GET request
      *
      * @param url    Relative URL
-     * @param type   Type of HTTP request (HTTP method)
      * @param params Hash of parameters
+     * @throws IOException If request can not be signed
+     * @return {@link HttpRequest}
+     */
+    private HttpRequest buildGetRequest(String url, HashMap<String, String> params) throws IOException {
+        GenericUrl genericUrl = new GenericUrl(getFullUrl(url));
+        if (params != null) {
+            // sorted, so equal requests have equal URLs and cache keys
+            genericUrl.putAll(new TreeMap<String, String>(params));
+        }
+        HttpRequest request = httpRequestFactory.buildGetRequest(genericUrl);
+        request.getHeaders().setUserAgent(UPWORK_LIBRARY_USER_AGENT);
+        String route = RouteTemplate.of(url);
+        CircuitBreaker.Circuit circuit = checkCircuit(request, route);
+        // wait before signing, so the token does not age in the queue
+        limitRate(request, route);
+        root.interceptors.install(request, entryPoint, route);
+        tokenRefresher.intercept(request);
+        retry(request, HttpMethods.GET, route, true, circuit);
+        RequestTimer.install(request, root.metricsRecorder, entryPoint, route);
+        return request;
+    }
+
+    /**
+     * Send signed POST OAuth request
+     *
+     * @param url            Relative URL
+     * @param type           Type of HTTP request (HTTP method)
+     * @param params         Hash of parameters
+     * @param idempotencyKey Idempotency key of POST request, or {@code null}
      * @throws JSONException If JSON object is invalid or request was abnormal
      * @return {@link JSONObject} JSON Object that contains data from response
      */
-    private JSONObject sendPostRequest(String url, Integer type, HashMap<String, String> params) throws JSONException {
-        String fullUrl = getFullUrl(url);
-
+    private JSONObject sendPostRequest(String url, Integer type, HashMap<String, String> params, String idempotencyKey)
+            throws JSONException {
         switch (type) {
             case METHOD_PUT:
             case METHOD_DELETE:
@@ -363,31 +1070,121 @@ public class OAuthClient {
                 throw new RuntimeException("Wrong http method requested");
         }
 
+        return sendPostContent(url, type, new JsonHttpContent(JSON_FACTORY, params), idempotencyKey);
+    }
+
+    /**
+     * Send signed POST OAuth request with a prepared body
+     *
+     * @param url            Relative URL
+     * @param type           Type of HTTP request (HTTP method)
+     * @param content        Request body
+     * @param idempotencyKey Idempotency key of POST request, or {@code null}
+     * @throws JSONException If JSON object is invalid or request was abnormal
+     * @return {@link JSONObject} JSON Object that contains data from response
+     */
+    private JSONObject sendPostContent(String url, Integer type, HttpContent content, String idempotencyKey)
+            throws JSONException {
         try {
-            HttpRequest request = HTTP_REQUEST_FACTORY.buildPostRequest(
-                    new GenericUrl(fullUrl),
-                    new JsonHttpContent(JSON_FACTORY, params));
-            if (tenantId != null && tenantId != "") {
-                request.getHeaders().set("X-Upwork-API-TenantId", tenantId);
+            HttpRequest request = httpRequestFactory.buildPostRequest(new GenericUrl(getFullUrl(url)), content);
+            String tenant = getTenant();
+            if (tenant != null && !tenant.isEmpty()) {
+                request.getHeaders().set("X-Upwork-API-TenantId", tenant);
+            }
+            if (idempotencyKey != null) {
+                request.getHeaders().set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
             }
             request.getHeaders().setUserAgent(UPWORK_LIBRARY_USER_AGENT);
-            credential.intercept(request);
+            String route = RouteTemplate.of(url);
+            CircuitBreaker.Circuit circuit = checkCircuit(request, route);
+            // wait before signing, so the token does not age in the queue
+            limitRate(request, route);
+            root.interceptors.install(request, entryPoint, route);
+            tokenRefresher.intercept(request);
+            // PUT and DELETE are idempotent though tunneled through POST
+            if (type == METHOD_POST) {
+                retry(request, HttpMethods.POST, route, idempotencyKey != null, circuit);
+            } else {
+                retry(request, (type == METHOD_PUT) ? HttpMethods.PUT : HttpMethods.DELETE, route, true, circuit);
+            }
+            RequestTimer.install(request, root.metricsRecorder, entryPoint, route);
             return UpworkRestClient.executeRequest(request);
         } catch (IOException e) {
             return UpworkRestClient.genIOError(e);
         }
     }
 
+    /**
+     * Run request on the async executor
+     *
+     * @param url  Relative URL, to record queue wait per route
+     * @param call Request
+     * @return {@link CompletableFuture} completed with the result of the request
+     */
+    private <T> CompletableFuture<T> sendAsync(String url, Callable<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<T>();
+        MetricsRecorder recorder = root.metricsRecorder;
+        long queued = (recorder != null) ? System.nanoTime() : 0;
+        try {
+            getAsyncExecutor().execute(() -> {
+                if (recorder != null) {
+                    recorder.record(Metric.QUEUE_WAIT, entryPoint, RouteTemplate.of(url), 0, System.nanoTime() - queued);
+                }
+                try {
+                    future.complete(call.call());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Get executor for async requests, create the default one on first use
+     *
+     * @return {@link Executor}
+     */
+    private Executor getAsyncExecutor() {
+        if (root != this) {
+            return root.getAsyncExecutor();
+        }
+        Executor executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                if (asyncExecutor == null) {
+                    AtomicInteger count = new AtomicInteger();
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(asyncThreads, asyncThreads,
+                            60L, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<Runnable>(asyncQueueSize),
+                            r -> {
+                                Thread t = new Thread(r, "upwork-async-" + count.incrementAndGet());
+                                t.setDaemon(true);
+                                return t;
+                            });
+                    pool.allowCoreThreadTimeOut(true);
+                    ownAsyncExecutor = pool;
+                    asyncExecutor = pool;
+                }
+                executor = asyncExecutor;
+            }
+        }
+        return executor;
+    }
+
     /**
      * Build absolute URL
      *
      * @param url Relative URL
      * @return Absolute URL
      */
-    private final String getFullUrl(String url) {
-        return (entryPoint == "graphql")
+    final String getFullUrl(String url) {
+        String ep = entryPoint;
+        return "graphql".equals(ep)
                 ? UPWORK_GQL_ENDPOINT
-                : (UPWORK_BASE_URL + entryPoint + url +
-                        ((entryPoint == "api") ? ("." + DATA_FORMAT) : ""));
+                : (UPWORK_BASE_URL + ep + url +
+                        ("api".equals(ep) ? ("." + DATA_FORMAT) : ""));
     }
 }
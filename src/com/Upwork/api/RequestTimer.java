@@ -0,0 +1,198 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+
+package com.Upwork.api;
+
+import com.Upwork.ClassPreamble;
+import com.Upwork.api.Metrics.ExchangeEvent;
+import com.Upwork.api.Metrics.JfrEvents;
+import com.Upwork.api.Metrics.Metric;
+import com.Upwork.api.Metrics.MetricsRecorder;
+import com.google.api.client.http.HttpExecuteInterceptor;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpResponseInterceptor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Measures one request for the {@link MetricsRecorder}: latency over all
+ * attempts, time to the response headers, body bytes and retries. The same
+ * measurements go to an {@link ExchangeEvent} while Flight Recorder has it enabled.
+ *
+ * It is installed as the outermost interceptor, so {@link UpworkRestClient}
+ * finds it on the request to count the body and report the request done.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+final class RequestTimer implements HttpExecuteInterceptor, HttpResponseInterceptor {
+    private final MetricsRecorder recorder;
+    private final String entryPoint;
+    private final String route;
+    private final HttpExecuteInterceptor nextExecute;
+    private final HttpResponseInterceptor nextResponse;
+    private final ExchangeEvent event;
+    private long start;
+    private long attemptStart;
+    private int attempts;
+    private int statusCode;
+    private long firstByte = -1;
+    private long bytes;
+    private boolean finished;
+
+    private RequestTimer(MetricsRecorder recorder, ExchangeEvent event, String entryPoint, String route,
+            HttpRequest request) {
+        this.recorder = recorder;
+        this.event = event;
+        this.entryPoint = entryPoint;
+        this.route = route;
+        this.nextExecute = request.getInterceptor();
+        this.nextResponse = request.getResponseInterceptor();
+    }
+
+    /**
+     * Install timer on the request, after all other interceptors
+     *
+     * @param request    HTTP request
+     * @param recorder   Metrics recorder, or {@code null}; without it and without
+     *                   a recording of {@link ExchangeEvent} the request is left as is
+     * @param entryPoint Entry point
+     * @param route      Route template
+     */
+    static void install(HttpRequest request, MetricsRecorder recorder, String entryPoint, String route) {
+        ExchangeEvent event = (JfrEvents.AVAILABLE && ExchangeEvent.enabled())
+                ? new ExchangeEvent(entryPoint, route, request.getRequestMethod()) : null;
+        if (recorder == null && event == null) {
+            return;
+        }
+        RequestTimer timer = new RequestTimer(recorder, event, entryPoint, route, request);
+        request.setInterceptor(timer);
+        request.setResponseInterceptor(timer);
+    }
+
+    @Override
+    public void intercept(HttpRequest request) throws IOException {
+        long now = System.nanoTime();
+        if (attempts++ == 0) {
+            start = now;
+            if (event != null) {
+                event.begin();
+            }
+        }
+        attemptStart = now;
+        // measurements are of the last attempt, which may end without a response
+        statusCode = 0;
+        firstByte = -1;
+        if (nextExecute != null) {
+            nextExecute.intercept(request);
+        }
+    }
+
+    @Override
+    public void interceptResponse(HttpResponse response) throws IOException {
+        firstByte = System.nanoTime() - attemptStart;
+        statusCode = response.getStatusCode();
+        if (nextResponse != null) {
+            nextResponse.interceptResponse(response);
+        }
+    }
+
+    /**
+     * Count the bytes read from the response body, if the request is timed
+     *
+     * @param response HTTP response
+     * @param content  Response body
+     * @return Stream to read the body from
+     */
+    static InputStream count(HttpResponse response, InputStream content) {
+        RequestTimer timer = of(response.getRequest());
+        if (timer == null || content == null) {
+            return content;
+        }
+        return new FilterInputStream(content) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                    timer.bytes++;
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int n = super.read(buffer, offset, length);
+                if (n > 0) {
+                    timer.bytes += n;
+                }
+                return n;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                long skipped = super.skip(n);
+                timer.bytes += skipped;
+                return skipped;
+            }
+        };
+    }
+
+    /**
+     * Record the measurements of the request, if it is timed and was sent
+     *
+     * @param request HTTP request
+     */
+    static void finish(HttpRequest request) {
+        RequestTimer timer = of(request);
+        if (timer == null || timer.finished || timer.attempts == 0) {
+            return;
+        }
+        timer.finished = true;
+        timer.record();
+    }
+
+    private void record() {
+        if (event != null) {
+            event.finish(statusCode, bytes, attempts, Math.max(firstByte, 0));
+        }
+        MetricsRecorder metrics = recorder;
+        if (metrics == null) {
+            return;
+        }
+        metrics.record(Metric.LATENCY, entryPoint, route, statusCode, System.nanoTime() - start);
+        metrics.record(Metric.RETRIES, entryPoint, route, statusCode, attempts - 1);
+        if (firstByte >= 0) {
+            metrics.record(Metric.TIME_TO_FIRST_BYTE, entryPoint, route, statusCode, firstByte);
+            metrics.record(Metric.BODY_BYTES, entryPoint, route, statusCode, bytes);
+        }
+    }
+
+    private static RequestTimer of(HttpRequest request) {
+        return (request != null && request.getResponseInterceptor() instanceof RequestTimer)
+                ? (RequestTimer) request.getResponseInterceptor() : null;
+    }
+}
@@ -17,6 +17,7 @@
 package com.Upwork.api.Routers.Activities;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
@@ -36,11 +37,10 @@ public final class Engagement {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Engagement(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
    /**
@@ -53,6 +53,16 @@ public final class Engagement {
     public JSONObject getSpecific(String engagement_ref) throws JSONException {
         return oClient.get("/tasks/v2/tasks/contracts/" + engagement_ref);
     }
+
+   /**
+     * List activities for specific engagement, asynchronously
+     *
+     * @param   engagement_ref Engagement reference
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSpecificAsync(String engagement_ref) {
+        return oClient.getAsync("/tasks/v2/tasks/contracts/" + engagement_ref);
+    }
     
     /**
      * Assign engagements to the list of activities
@@ -67,6 +77,19 @@ public final class Engagement {
     public JSONObject assign(String company, String team, String engagement, HashMap<String, String> params) throws JSONException {
         return oClient.put("/otask/v1/tasks/companies/" + company + "/teams/" + team + "/engagements/" + engagement + "/tasks", params);
     }
+
+    /**
+     * Assign engagements to the list of activities, asynchronously
+     *
+     * @param   company Company ID
+     * @param	team Team ID
+     * @param   engagement Engagement
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> assignAsync(String company, String team, String engagement, HashMap<String, String> params) {
+        return oClient.putAsync("/otask/v1/tasks/companies/" + company + "/teams/" + team + "/engagements/" + engagement + "/tasks", params);
+    }
     
     /**
      * Assign engagements to the list of activities
@@ -80,4 +103,15 @@ public final class Engagement {
         return oClient.put("/tasks/v2/tasks/contracts/" + engagement_ref, params);
     }
 
+    /**
+     * Assign engagements to the list of activities, asynchronously
+     *
+     * @param   engagement_ref Engagement reference
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> assignToEngagementAsync(String engagement_ref, HashMap<String, String> params) {
+        return oClient.putAsync("/tasks/v2/tasks/contracts/" + engagement_ref, params);
+    }
+
 }
@@ -17,6 +17,7 @@
 package com.Upwork.api.Routers.Activities;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
@@ -36,29 +37,27 @@ public final class Team {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Team(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
-     * Get by type
+     * Get URL by type
      *
      * @param   company Company ID
      * @param	team Team ID
      * @param   code (Optional) Code(s)
-     * @throws	JSONException If error occurred
-	 * @return	{@link JSONObject}
+	 * @return	Relative URL
      */
-    private JSONObject _getByType(String company, String team, String code) throws JSONException {
+    private String _getUrlByType(String company, String team, String code) {
         String url = "";
         if (code != null) {
             url = "/" + code;
         }
 
-        return oClient.get("/otask/v1/tasks/companies/" + company + "/teams/" + team + "/tasks" + url);
+        return "/otask/v1/tasks/companies/" + company + "/teams/" + team + "/tasks" + url;
     }
 
     /**
@@ -69,7 +68,17 @@ public final class Team {
 	 * @return	{@link JSONObject}
      */
     public JSONObject getList(String company, String team) throws JSONException {
-        return _getByType(company, team, null);
+        return oClient.get(_getUrlByType(company, team, null));
+    }
+
+    /**
+     * List all oTask/Activity records within a team, asynchronously
+     *
+     * @param   company Company ID
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getListAsync(String company, String team) {
+        return oClient.getAsync(_getUrlByType(company, team, null));
     }
     
     /**
@@ -82,7 +91,19 @@ public final class Team {
 	 * @return	{@link JSONObject}
      */
     public JSONObject getSpecificList(String company, String team, String code) throws JSONException {
-        return _getByType(company, team, code);
+        return oClient.get(_getUrlByType(company, team, code));
+    }
+
+    /**
+     * List all oTask/Activity records within a team by specified code(s), asynchronously
+     *
+     * @param   company Company ID
+     * @param	team Team ID
+     * @param   code Specific code(s)
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSpecificListAsync(String company, String team, String code) {
+        return oClient.getAsync(_getUrlByType(company, team, code));
     }
     
     /**
@@ -98,6 +119,18 @@ public final class Team {
         return oClient.post("/otask/v1/tasks/companies/" + company + "/teams/" + team + "/tasks", params);
     }
 
+    /**
+     * Create an oTask/Activity record within a team, asynchronously
+     *
+     * @param   company Company ID
+     * @param	team Team ID
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> addActivityAsync(String company, String team, HashMap<String, String> params) {
+        return oClient.postAsync("/otask/v1/tasks/companies/" + company + "/teams/" + team + "/tasks", params);
+    }
+
     /**
      * Update specific oTask/Activity record within a team
      *
@@ -111,6 +144,19 @@ public final class Team {
     public JSONObject updateActivity(String company, String team, String code, HashMap<String, String> params) throws JSONException {
         return oClient.put("/otask/v1/tasks/companies/" + company + "/teams/" + team + "/tasks/" + code, params);
     }
+
+    /**
+     * Update specific oTask/Activity record within a team, asynchronously
+     *
+     * @param   company Company ID
+     * @param	team Team ID
+     * @param   code Specific code
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> updateActivityAsync(String company, String team, String code, HashMap<String, String> params) {
+        return oClient.putAsync("/otask/v1/tasks/companies/" + company + "/teams/" + team + "/tasks/" + code, params);
+    }
     
     /**
      * Archive specific oTask/Activity record within a team
@@ -124,6 +170,18 @@ public final class Team {
     public JSONObject archiveActivity(String company, String team, String code) throws JSONException {
         return oClient.put("/otask/v1/tasks/companies/" + company + "/teams/" + team + "/archive/" + code);
     }
+
+    /**
+     * Archive specific oTask/Activity record within a team, asynchronously
+     *
+     * @param   company Company ID
+     * @param	team Team ID
+     * @param   code Specific code(s)
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> archiveActivityAsync(String company, String team, String code) {
+        return oClient.putAsync("/otask/v1/tasks/companies/" + company + "/teams/" + team + "/archive/" + code);
+    }
     
     /**
      * Unarchive specific oTask/Activity record within a team
@@ -138,6 +196,18 @@ public final class Team {
         return oClient.put("/otask/v1/tasks/companies/" + company + "/teams/" + team + "/unarchive/" + code);
     }
 
+    /**
+     * Unarchive specific oTask/Activity record within a team, asynchronously
+     *
+     * @param   company Company ID
+     * @param	team Team ID
+     * @param   code Specific code(s)
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> unarchiveActivityAsync(String company, String team, String code) {
+        return oClient.putAsync("/otask/v1/tasks/companies/" + company + "/teams/" + team + "/unarchive/" + code);
+    }
+
     /**
      * Update a group of oTask/Activity records
      *
@@ -150,4 +220,15 @@ public final class Team {
         return oClient.put("/otask/v1/tasks/companies/" + company + "/tasks/batch", params);
     }
 
+    /**
+     * Update a group of oTask/Activity records, asynchronously
+     *
+     * @param   company Company ID
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> updateBatchAsync(String company, HashMap<String, String> params) {
+        return oClient.putAsync("/otask/v1/tasks/companies/" + company + "/tasks/batch", params);
+    }
+
 }
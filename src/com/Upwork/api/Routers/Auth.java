@@ -16,6 +16,8 @@
 
 package com.Upwork.api.Routers;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
 
@@ -34,11 +36,10 @@ public final class Auth {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Auth(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
@@ -51,4 +52,13 @@ public final class Auth {
 		return oClient.get("/auth/v1/info");
 	}
 
+	/**
+	 * Get My Info, asynchronously
+	 * 
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+	 * */
+	public CompletableFuture<JSONObject> getUserInfoAsync() {
+		return oClient.getAsync("/auth/v1/info");
+	}
+
 }
@@ -16,6 +16,8 @@
 
 package com.Upwork.api.Routers.Freelancers;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
 
@@ -34,11 +36,10 @@ public final class Profile {
 
 	final static String ENTRY_POINT = "api";
 
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Profile(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 
 	/**
@@ -52,6 +53,16 @@ public final class Profile {
         return oClient.get("/profiles/v1/providers/" + key);
     }
 
+	/**
+     * Get specific Freelancer's Profile, asynchronously
+     *
+     * @param   key Profile key
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSpecificAsync(String key) {
+        return oClient.getAsync("/profiles/v1/providers/" + key);
+    }
+
 	/**
      * Get brief info for the specific Freelancer's Profile
      *
@@ -62,4 +73,14 @@ public final class Profile {
     public JSONObject getSpecificBrief(String key) throws JSONException {
         return oClient.get("/profiles/v1/providers/" + key + "/brief");
     }
+
+	/**
+     * Get brief info for the specific Freelancer's Profile, asynchronously
+     *
+     * @param   key Profile key
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSpecificBriefAsync(String key) {
+        return oClient.getAsync("/profiles/v1/providers/" + key + "/brief");
+    }
 }
@@ -16,10 +16,16 @@
 
 package com.Upwork.api.Routers.Freelancers;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Models.Freelancer;
+import com.Upwork.api.Models.ModelReader;
+import com.Upwork.api.Models.Page;
+import com.Upwork.api.Models.PageIterator;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -36,11 +42,13 @@ public final class Search {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	/** Reader of search results */
+	final static ModelReader<Page<Freelancer>> FIND_READER = Page.reader(Freelancer.READER, "providers");
+	
+	private final OAuthClient oClient;
 
 	public Search(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/** 
@@ -54,4 +62,43 @@ public final class Search {
         return oClient.get("/profiles/v2/search/providers", params);
     }
 
+	/** 
+     * Search freelancers, asynchronously
+     *
+     * @param   params (Optional) Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> findAsync(HashMap<String, String> params) {
+        return oClient.getAsync("/profiles/v2/search/providers", params);
+    }
+
+    /**
+     * Search freelancers, as typed models
+     *
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link Page} of {@link Freelancer}
+     */
+    public Page<Freelancer> findTyped(HashMap<String, String> params) throws IOException {
+        return oClient.get("/profiles/v2/search/providers", params, FIND_READER);
+    }
+
+    /**
+     * Search freelancers through all the result pages, requesting the next pages
+     * while the current one is consumed
+     *
+     * @param   params (Optional) Parameters, <code>paging</code> is set for each page
+     * @param   pageSize Results per page
+     * @param   readAhead Pages requested ahead of the one being consumed
+	 * @return	{@link PageIterator} of {@link Freelancer}, to be closed if not read to the end
+     */
+    public PageIterator<Freelancer> findAll(HashMap<String, String> params, int pageSize, int readAhead) {
+        return new PageIterator<Freelancer>((offset, count) -> {
+            HashMap<String, String> pageParams = (params == null)
+                    ? new HashMap<String, String>() : new HashMap<String, String>(params);
+            pageParams.put("paging", offset + ";" + count);
+            return oClient.getAsync("/profiles/v2/search/providers", pageParams, FIND_READER);
+        }, 0, pageSize, readAhead);
+    }
+
 }
@@ -17,9 +17,13 @@
 package com.Upwork.api.Routers;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Graphql.ConnectionIterator;
+import com.Upwork.api.Graphql.GraphqlOperation;
+import com.Upwork.api.Graphql.PersistedQueries;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -36,11 +40,12 @@ public final class Graphql {
 
     final static String ENTRY_POINT = "graphql";
 
-    private OAuthClient oClient = null;
+    private final OAuthClient oClient;
+    private final PersistedQueries persistedQueries;
 
     public Graphql(OAuthClient client) {
-        oClient = client;
-        oClient.setEntryPoint(ENTRY_POINT);
+        oClient = client.forEntryPoint(ENTRY_POINT);
+        persistedQueries = new PersistedQueries(oClient);
     }
 
     /**
@@ -52,4 +57,101 @@ public final class Graphql {
     public JSONObject Execute(HashMap<String, String> params) throws JSONException {
         return oClient.post("", params);
     }
+
+    /**
+     * Execute GraphQL request, asynchronously
+     * 
+     * @return {@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> ExecuteAsync(HashMap<String, String> params) {
+        return oClient.postAsync("", params);
+    }
+
+    /**
+     * Execute GraphQL operation
+     * 
+     * @param   operation Operation
+     * @param   variables Variables, or {@code null}
+     * @throws JSONException If error occurred
+     * @return {@link JSONObject}
+     */
+    public JSONObject Execute(GraphqlOperation operation, GraphqlOperation.Variables variables) throws JSONException {
+        return oClient.post("", operation.content(variables));
+    }
+
+    /**
+     * Execute GraphQL operation, asynchronously
+     * 
+     * @param   operation Operation
+     * @param   variables Variables, or {@code null}
+     * @return {@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> ExecuteAsync(GraphqlOperation operation, GraphqlOperation.Variables variables) {
+        return oClient.postAsync("", operation.content(variables));
+    }
+
+    /**
+     * Execute GraphQL operation selecting a Relay connection, and iterate
+     * over its nodes through all the pages. The next page is requested
+     * while the current one is consumed
+     * 
+     * @param   operation Operation, with <code>pageInfo { hasNextPage endCursor }</code> selected
+     * @param   variables Variables, or {@code null}
+     * @param   cursorVariable Variable the cursor is passed in, e.g. <code>after</code>
+     * @param   path Field names leading from <code>data</code> to the connection
+     * @return {@link ConnectionIterator}, to be closed if not read to the end
+     */
+    public ConnectionIterator ExecuteConnection(GraphqlOperation operation, GraphqlOperation.Variables variables,
+            String cursorVariable, String... path) {
+        GraphqlOperation.Variables first = (variables == null) ? new GraphqlOperation.Variables() : variables.copy();
+        return new ConnectionIterator(cursor -> oClient.postAsync("", operation.content(
+                (cursor == null) ? first : first.copy().put(cursorVariable, cursor))), null, path);
+    }
+
+    /**
+     * Execute GraphQL query as persisted query. The query text is uploaded
+     * once, later calls through any router of the same client send its hash only
+     * 
+     * @param   query Query text
+     * @param   variables Variables, or {@code null}
+     * @throws JSONException If error occurred
+     * @return {@link JSONObject}
+     */
+    public JSONObject ExecutePersisted(String query, JSONObject variables) throws JSONException {
+        return persistedQueries.execute(query, variables);
+    }
+
+    /**
+     * Execute GraphQL query as persisted query, asynchronously
+     * 
+     * @param   query Query text
+     * @param   variables Variables, or {@code null}
+     * @return {@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> ExecutePersistedAsync(String query, JSONObject variables) {
+        return persistedQueries.executeAsync(query, variables);
+    }
+
+    /**
+     * Execute GraphQL operation as persisted query
+     * 
+     * @param   operation Operation
+     * @param   variables Variables, or {@code null}
+     * @throws JSONException If error occurred
+     * @return {@link JSONObject}
+     */
+    public JSONObject ExecutePersisted(GraphqlOperation operation, GraphqlOperation.Variables variables) throws JSONException {
+        return persistedQueries.execute(operation, variables);
+    }
+
+    /**
+     * Execute GraphQL operation as persisted query, asynchronously
+     * 
+     * @param   operation Operation
+     * @param   variables Variables, or {@code null}
+     * @return {@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> ExecutePersistedAsync(GraphqlOperation operation, GraphqlOperation.Variables variables) {
+        return persistedQueries.executeAsync(operation, variables);
+    }
 }
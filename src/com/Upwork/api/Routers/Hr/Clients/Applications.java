@@ -16,10 +16,15 @@
 
 package com.Upwork.api.Routers.Hr.Clients;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Models.Application;
+import com.Upwork.api.Models.ModelReader;
+import com.Upwork.api.Models.Page;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -36,11 +41,13 @@ public final class Applications {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	/** Reader of applications list */
+	final static ModelReader<Page<Application>> LIST_READER = Page.reader(Application.READER, "applications");
+	
+	private final OAuthClient oClient;
 
 	public Applications(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
@@ -53,6 +60,27 @@ public final class Applications {
         return oClient.get("/hr/v4/clients/applications", params);
     }
 
+	/**
+     * Get list of applications, asynchronously
+     *
+     * @param   params Parameters
+     * @return  {@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getListAsync(HashMap<String, String> params) {
+        return oClient.getAsync("/hr/v4/clients/applications", params);
+    }
+
+    /**
+     * Get list of applications, as typed models
+     *
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link Page} of {@link Application}
+     */
+    public Page<Application> getListTyped(HashMap<String, String> params) throws IOException {
+        return oClient.get("/hr/v4/clients/applications", params, LIST_READER);
+    }
+
     /**
      * Get specific application
      *
@@ -64,4 +92,15 @@ public final class Applications {
         return oClient.get("/hr/v4/clients/applications/" + reference, params);
     }
 
+    /**
+     * Get specific application, asynchronously
+     *
+     * @param   reference Application reference
+     * @param   params Parameters
+     * @return  {@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSpecificAsync(String reference, HashMap<String, String> params) {
+        return oClient.getAsync("/hr/v4/clients/applications/" + reference, params);
+    }
+
 }
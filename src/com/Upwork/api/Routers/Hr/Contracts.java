@@ -17,6 +17,7 @@
 package com.Upwork.api.Routers.Hr;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
@@ -36,11 +37,10 @@ public final class Contracts {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Contracts(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/** 
@@ -54,6 +54,17 @@ public final class Contracts {
     public JSONObject suspendContract(String reference, HashMap<String, String> params) throws JSONException {   
         return oClient.put("/hr/v2/contracts/" + reference + "/suspend", params);
     }
+
+	/** 
+     * Suspend Contract, asynchronously
+     *
+     * @param   reference Contract reference
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> suspendContractAsync(String reference, HashMap<String, String> params) {
+        return oClient.putAsync("/hr/v2/contracts/" + reference + "/suspend", params);
+    }
     
     /** 
      * Restart Contract
@@ -66,6 +77,17 @@ public final class Contracts {
     public JSONObject restartContract(String reference, HashMap<String, String> params) throws JSONException {   
         return oClient.put("/hr/v2/contracts/" + reference + "/restart", params);
     }
+
+    /** 
+     * Restart Contract, asynchronously
+     *
+     * @param   reference Contract reference
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> restartContractAsync(String reference, HashMap<String, String> params) {
+        return oClient.putAsync("/hr/v2/contracts/" + reference + "/restart", params);
+    }
 	
 	/** 
      * End Contract
@@ -79,4 +101,15 @@ public final class Contracts {
         return oClient.delete("/hr/v2/contracts/" + reference, params);
     }
 
+	/** 
+     * End Contract, asynchronously
+     *
+     * @param   reference Contract reference
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> endContractAsync(String reference, HashMap<String, String> params) {
+        return oClient.deleteAsync("/hr/v2/contracts/" + reference, params);
+    }
+
 }
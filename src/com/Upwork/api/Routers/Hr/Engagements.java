@@ -16,10 +16,16 @@
 
 package com.Upwork.api.Routers.Hr;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Models.Engagement;
+import com.Upwork.api.Models.ModelReader;
+import com.Upwork.api.Models.Page;
+import com.Upwork.api.Json.JsonRecordHandler;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -36,11 +42,13 @@ public final class Engagements {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	/** Reader of engagements list */
+	final static ModelReader<Page<Engagement>> LIST_READER = Page.reader(Engagement.READER, "engagements", "engagement");
+	
+	private final OAuthClient oClient;
 
 	public Engagements(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
@@ -54,6 +62,40 @@ public final class Engagements {
         return oClient.get("/hr/v2/engagements", params);
     }
 
+	/**
+     * Get list of engagements, asynchronously
+     *
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getListAsync(HashMap<String, String> params) {
+        return oClient.getAsync("/hr/v2/engagements", params);
+    }
+
+    /**
+     * Get list of engagements, as typed models
+     *
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link Page} of {@link Engagement}
+     */
+    public Page<Engagement> getListTyped(HashMap<String, String> params) throws IOException {
+        return oClient.get("/hr/v2/engagements", params, LIST_READER);
+    }
+
+	/**
+     * Get list of engagements, passing engagements to the handler one by one
+     * while the response is being read
+     *
+     * @param   params Parameters
+     * @param   handler Engagement handler
+     * @throws	JSONException If error occurred
+	 * @return	{@link JSONObject} Response without engagements, e.g. paging info
+     */
+    public JSONObject getList(HashMap<String, String> params, JsonRecordHandler handler) throws JSONException {
+        return oClient.getRecords("/hr/v2/engagements", params, handler, "engagements", "engagement");
+    }
+
     /**
      * Get specific engagement
      *
@@ -65,4 +107,14 @@ public final class Engagements {
         return oClient.get("/hr/v2/engagements/" + reference);
     }
 
+    /**
+     * Get specific engagement, asynchronously
+     *
+     * @param   reference Engagement's reference
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSpecificAsync(String reference) {
+        return oClient.getAsync("/hr/v2/engagements/" + reference);
+    }
+
 }
@@ -16,10 +16,15 @@
 
 package com.Upwork.api.Routers.Hr.Freelancers;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Models.ModelReader;
+import com.Upwork.api.Models.Offer;
+import com.Upwork.api.Models.Page;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -36,11 +41,13 @@ public final class Offers {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	/** Reader of offers list */
+	final static ModelReader<Page<Offer>> LIST_READER = Page.reader(Offer.READER, "offers", "offer");
+	
+	private final OAuthClient oClient;
 
 	public Offers(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
@@ -54,6 +61,27 @@ public final class Offers {
         return oClient.get("/offers/v1/contractors/offers", params);
     }
 
+	/**
+     * Get list of applications, asynchronously
+     *
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getListAsync(HashMap<String, String> params) {
+        return oClient.getAsync("/offers/v1/contractors/offers", params);
+    }
+
+    /**
+     * Get list of offers, as typed models
+     *
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link Page} of {@link Offer}
+     */
+    public Page<Offer> getListTyped(HashMap<String, String> params) throws IOException {
+        return oClient.get("/offers/v1/contractors/offers", params, LIST_READER);
+    }
+
     /**
      * Get specific application
      *
@@ -64,6 +92,16 @@ public final class Offers {
     public JSONObject getSpecific(String reference) throws JSONException {
         return oClient.get("/offers/v1/contractors/offers/" + reference);
     }
+
+    /**
+     * Get specific application, asynchronously
+     *
+     * @param   reference Offer reference
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSpecificAsync(String reference) {
+        return oClient.getAsync("/offers/v1/contractors/offers/" + reference);
+    }
     
     /**
      * Run a specific action
@@ -77,4 +115,15 @@ public final class Offers {
         return oClient.post("/offers/v1/contractors/offers/" + reference, params);
     }
 
+    /**
+     * Run a specific action, asynchronously
+     *
+     * @param   reference Offer reference
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> actionsAsync(String reference, HashMap<String, String> params) {
+        return oClient.postAsync("/offers/v1/contractors/offers/" + reference, params);
+    }
+
 }
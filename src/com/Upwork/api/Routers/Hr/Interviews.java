@@ -17,6 +17,7 @@
 package com.Upwork.api.Routers.Hr;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
@@ -36,11 +37,10 @@ public final class Interviews {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Interviews(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
@@ -55,4 +55,15 @@ public final class Interviews {
         return oClient.post("/hr/v1/jobs/" + jobKey + "/candidates", params);
     }
 
+	/**
+     * Invite to Interview, asynchronously
+     *
+     * @param   jobKey Job key
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> inviteAsync(String jobKey, HashMap<String, String> params) {
+        return oClient.postAsync("/hr/v1/jobs/" + jobKey + "/candidates", params);
+    }
+
 }
@@ -17,6 +17,7 @@
 package com.Upwork.api.Routers.Hr;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
@@ -36,11 +37,10 @@ public final class Jobs {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Jobs(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
@@ -54,6 +54,16 @@ public final class Jobs {
         return oClient.get("/hr/v2/jobs", params);
     }
 
+	/**
+     * Get list of jobs, asynchronously
+     *
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getListAsync(HashMap<String, String> params) {
+        return oClient.getAsync("/hr/v2/jobs", params);
+    }
+
     /**
      * Get specific job by key
      *
@@ -64,6 +74,16 @@ public final class Jobs {
     public JSONObject getSpecific(String key) throws JSONException {
         return oClient.get("/hr/v2/jobs/" + key);
     }
+
+    /**
+     * Get specific job by key, asynchronously
+     *
+     * @param   key Job key
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSpecificAsync(String key) {
+        return oClient.getAsync("/hr/v2/jobs/" + key);
+    }
     
     /**
      * Post a new job
@@ -76,6 +96,16 @@ public final class Jobs {
         return oClient.post("/hr/v2/jobs", params);
     }
 
+    /**
+     * Post a new job, asynchronously
+     *
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> postJobAsync(HashMap<String, String> params) {
+        return oClient.postAsync("/hr/v2/jobs", params);
+    }
+
     /**
      * Edit existent job
      *
@@ -87,6 +117,17 @@ public final class Jobs {
     public JSONObject editJob(String key, HashMap<String, String> params) throws JSONException {
         return oClient.put("/hr/v2/jobs/" + key, params);
     }
+
+    /**
+     * Edit existent job, asynchronously
+     *
+     * @param   key Job key
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> editJobAsync(String key, HashMap<String, String> params) {
+        return oClient.putAsync("/hr/v2/jobs/" + key, params);
+    }
     
     /**
      * Delete existent job
@@ -100,4 +141,15 @@ public final class Jobs {
         return oClient.delete("/hr/v2/jobs/" + key, params);
     }
 
+    /**
+     * Delete existent job, asynchronously
+     *
+     * @param   key Job key
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> deleteJobAsync(String key, HashMap<String, String> params) {
+        return oClient.deleteAsync("/hr/v2/jobs/" + key, params);
+    }
+
 }
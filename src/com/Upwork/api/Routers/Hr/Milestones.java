@@ -17,6 +17,7 @@
 package com.Upwork.api.Routers.Hr;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
@@ -36,11 +37,10 @@ public final class Milestones {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Milestones(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
@@ -53,6 +53,16 @@ public final class Milestones {
     public JSONObject getActiveMilestone(String contractId) throws JSONException {
         return oClient.get("/hr/v3/fp/milestones/statuses/active/contracts/" + contractId);
     }
+
+	/**
+     * Get active Milestone for the Contract, asynchronously
+     *
+     * @param	contractId Contract reference
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getActiveMilestoneAsync(String contractId) {
+        return oClient.getAsync("/hr/v3/fp/milestones/statuses/active/contracts/" + contractId);
+    }
     
     /**
      * Get all submissions for the active Milestone
@@ -64,6 +74,16 @@ public final class Milestones {
     public JSONObject getSubmissions(String milestoneId) throws JSONException {
         return oClient.get("/hr/v3/fp/milestones/" + milestoneId + "/submissions");
     }
+
+    /**
+     * Get all submissions for the active Milestone, asynchronously
+     *
+     * @param	milestoneId Milestone ID
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSubmissionsAsync(String milestoneId) {
+        return oClient.getAsync("/hr/v3/fp/milestones/" + milestoneId + "/submissions");
+    }
 	
 	/**
      * Create a new Milestone
@@ -75,6 +95,16 @@ public final class Milestones {
     public JSONObject create(HashMap<String, String> params) throws JSONException {
         return oClient.post("/hr/v3/fp/milestones", params);
     }
+
+	/**
+     * Create a new Milestone, asynchronously
+     *
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> createAsync(HashMap<String, String> params) {
+        return oClient.postAsync("/hr/v3/fp/milestones", params);
+    }
     
     /**
      * Edit an existing Milestone
@@ -87,6 +117,17 @@ public final class Milestones {
     public JSONObject edit(String milestoneId, HashMap<String, String> params) throws JSONException {
         return oClient.put("/hr/v3/fp/milestones/" + milestoneId, params);
     }
+
+    /**
+     * Edit an existing Milestone, asynchronously
+     *
+     * @param	milestoneId Milestone ID
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> editAsync(String milestoneId, HashMap<String, String> params) {
+        return oClient.putAsync("/hr/v3/fp/milestones/" + milestoneId, params);
+    }
     
     /**
      * Activate an existing Milestone
@@ -99,6 +140,17 @@ public final class Milestones {
     public JSONObject activate(String milestoneId, HashMap<String, String> params) throws JSONException {
         return oClient.put("/hr/v3/fp/milestones/" + milestoneId + "/activate", params);
     }
+
+    /**
+     * Activate an existing Milestone, asynchronously
+     *
+     * @param	milestoneId Milestone ID
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> activateAsync(String milestoneId, HashMap<String, String> params) {
+        return oClient.putAsync("/hr/v3/fp/milestones/" + milestoneId + "/activate", params);
+    }
     
     /**
      * Approve an existing Milestone
@@ -111,6 +163,17 @@ public final class Milestones {
     public JSONObject approve(String milestoneId, HashMap<String, String> params) throws JSONException {
         return oClient.put("/hr/v3/fp/milestones/" + milestoneId + "/approve", params);
     }
+
+    /**
+     * Approve an existing Milestone, asynchronously
+     *
+     * @param	milestoneId Milestone ID
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> approveAsync(String milestoneId, HashMap<String, String> params) {
+        return oClient.putAsync("/hr/v3/fp/milestones/" + milestoneId + "/approve", params);
+    }
     
     /**
      * Delete an existing Milestone
@@ -123,4 +186,14 @@ public final class Milestones {
         return oClient.delete("/hr/v3/fp/milestones/" + milestoneId);
     }
 
+    /**
+     * Delete an existing Milestone, asynchronously
+     *
+     * @param	milestoneId Milestone ID
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> deleteAsync(String milestoneId) {
+        return oClient.deleteAsync("/hr/v3/fp/milestones/" + milestoneId);
+    }
+
 }
\ No newline at end of file
@@ -16,6 +16,8 @@
 
 package com.Upwork.api.Routers.Hr;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
 
@@ -34,11 +36,10 @@ public final class Roles {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Roles(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
@@ -51,6 +52,15 @@ public final class Roles {
         return oClient.get("/hr/v2/userroles");
     }
 
+	/**
+     * Get user roles, asynchronously
+     *
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getAllAsync() {
+        return oClient.getAsync("/hr/v2/userroles");
+    }
+
     /**
      * Get by specific user
      *
@@ -62,4 +72,14 @@ public final class Roles {
         return oClient.get("/hr/v2/userroles/" + reference);
     }
 
+    /**
+     * Get by specific user, asynchronously
+     *
+     * @param   reference User reference
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getBySpecificUserAsync(String reference) {
+        return oClient.getAsync("/hr/v2/userroles/" + reference);
+    }
+
 }
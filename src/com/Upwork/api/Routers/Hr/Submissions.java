@@ -17,6 +17,7 @@
 package com.Upwork.api.Routers.Hr;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
@@ -36,11 +37,10 @@ public final class Submissions {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Submissions(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
@@ -53,6 +53,16 @@ public final class Submissions {
     public JSONObject requestApproval(HashMap<String, String> params) throws JSONException {
         return oClient.post("/hr/v3/fp/submissions", params);
     }
+
+	/**
+     * Freelancer submits work for the client to approve, asynchronously
+     *
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> requestApprovalAsync(HashMap<String, String> params) {
+        return oClient.postAsync("/hr/v3/fp/submissions", params);
+    }
     
     /**
      * Approve an existing Submission
@@ -65,6 +75,17 @@ public final class Submissions {
     public JSONObject approve(String submissionId, HashMap<String, String> params) throws JSONException {
         return oClient.put("/hr/v3/fp/submissions/" + submissionId + "/approve", params);
     }
+
+    /**
+     * Approve an existing Submission, asynchronously
+     *
+     * @param	submissionId Submission ID
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> approveAsync(String submissionId, HashMap<String, String> params) {
+        return oClient.putAsync("/hr/v3/fp/submissions/" + submissionId + "/approve", params);
+    }
     
     /**
      * Reject an existing Submission
@@ -78,4 +99,15 @@ public final class Submissions {
         return oClient.put("/hr/v3/fp/submissions/" + submissionId + "/reject", params);
     }
 
+    /**
+     * Reject an existing Submission, asynchronously
+     *
+     * @param	submissionId Submission ID
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> rejectAsync(String submissionId, HashMap<String, String> params) {
+        return oClient.putAsync("/hr/v3/fp/submissions/" + submissionId + "/reject", params);
+    }
+
 }
\ No newline at end of file
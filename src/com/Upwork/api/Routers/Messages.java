@@ -1,9 +1,15 @@
 package com.Upwork.api.Routers;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Models.ModelParser;
+import com.Upwork.api.Models.ModelReader;
+import com.Upwork.api.Models.Page;
+import com.Upwork.api.Models.Room;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -20,11 +26,16 @@ public final class Messages {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	/** Reader of rooms list */
+	final static ModelReader<Page<Room>> ROOMS_READER = Page.reader(Room.READER, "rooms");
+	
+	/** Reader of room details */
+	final static ModelReader<Room> ROOM_READER = ModelParser.nested(Room.READER, "room");
+	
+	private final OAuthClient oClient;
 
 	public Messages(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
     /** 
@@ -37,6 +48,16 @@ public final class Messages {
     public JSONObject getRooms(String company) throws JSONException {
         return oClient.get("/messages/v3/" + company + "/rooms");
     }
+
+    /** 
+     * Retrieve rooms information, asynchronously
+     *
+     * @param   company Company ID
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getRoomsAsync(String company) {
+        return oClient.getAsync("/messages/v3/" + company + "/rooms");
+    }
 	
     /** 
      * Retrieve rooms information with params
@@ -50,6 +71,17 @@ public final class Messages {
         return oClient.get("/messages/v3/" + company + "/rooms", params);
     }
 
+    /** 
+     * Retrieve rooms information with params, asynchronously
+     *
+     * @param   company Company ID
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getRoomsAsync(String company, HashMap<String, String> params) {
+        return oClient.getAsync("/messages/v3/" + company + "/rooms", params);
+    }
+
     /**
      * Get a specific room information
      *
@@ -63,6 +95,43 @@ public final class Messages {
         return oClient.get("/messages/v3/" + company + "/rooms/" + roomId, params);
     }
 
+    /**
+     * Get a specific room information, asynchronously
+     *
+     * @param   company Company ID
+     * @param   roomId  Room ID
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getRoomDetailsAsync(String company, String roomId, HashMap<String, String> params) {
+        return oClient.getAsync("/messages/v3/" + company + "/rooms/" + roomId, params);
+    }
+
+    /**
+     * Retrieve rooms information, as typed models
+     *
+     * @param   company Company ID
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link Page} of {@link Room}
+     */
+    public Page<Room> getRoomsTyped(String company, HashMap<String, String> params) throws IOException {
+        return oClient.get("/messages/v3/" + company + "/rooms", params, ROOMS_READER);
+    }
+
+    /**
+     * Get a specific room information, as typed model
+     *
+     * @param   company Company ID
+     * @param   roomId Room ID
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link Room}, or {@code null} if there is none
+     */
+    public Room getRoomDetailsTyped(String company, String roomId, HashMap<String, String> params) throws IOException {
+        return oClient.get("/messages/v3/" + company + "/rooms/" + roomId, params, ROOM_READER);
+    }
+
     /**
      * Get messages from a specific room
      *
@@ -76,6 +145,18 @@ public final class Messages {
         return oClient.get("/messages/v3/" + company + "/rooms/" + roomId + "/stories", params);
     }
 
+    /**
+     * Get messages from a specific room, asynchronously
+     *
+     * @param   company Company ID
+     * @param   roomId  Room ID
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getRoomMessagesAsync(String company, String roomId, HashMap<String, String> params) {
+        return oClient.getAsync("/messages/v3/" + company + "/rooms/" + roomId + "/stories", params);
+    }
+
     /**
      * Get a specific room by offer ID
      *
@@ -89,6 +170,18 @@ public final class Messages {
         return oClient.get("/messages/v3/" + company + "/rooms/offers/" + offerId, params);
     }
 
+    /**
+     * Get a specific room by offer ID, asynchronously
+     *
+     * @param   company Company ID
+     * @param   offerId Offer ID
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getRoomByOfferAsync(String company, String offerId, HashMap<String, String> params) {
+        return oClient.getAsync("/messages/v3/" + company + "/rooms/offers/" + offerId, params);
+    }
+
     /**
      * Get a specific room by application ID
      *
@@ -102,6 +195,18 @@ public final class Messages {
         return oClient.get("/messages/v3/" + company + "/rooms/appications/" + applicationId, params);
     }
 
+    /**
+     * Get a specific room by application ID, asynchronously
+     *
+     * @param   company Company ID
+     * @param   applicationId Application ID
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getRoomByApplicationAsync(String company, String applicationId, HashMap<String, String> params) {
+        return oClient.getAsync("/messages/v3/" + company + "/rooms/appications/" + applicationId, params);
+    }
+
     /**
      * Get a specific room by contract ID
      *
@@ -115,6 +220,18 @@ public final class Messages {
         return oClient.get("/messages/v3/" + company + "/rooms/contracts/" + contractId, params);
     }
 
+    /**
+     * Get a specific room by contract ID, asynchronously
+     *
+     * @param   company Company ID
+     * @param   contractId Contract ID
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getRoomByContractAsync(String company, String contractId, HashMap<String, String> params) {
+        return oClient.getAsync("/messages/v3/" + company + "/rooms/contracts/" + contractId, params);
+    }
+
     /**
      * Create a new room
      *
@@ -127,6 +244,17 @@ public final class Messages {
         return oClient.post("/messages/v3/" + company + "/rooms", params);
     }
 
+    /**
+     * Create a new room, asynchronously
+     *
+     * @param   company Company ID
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> createRoomAsync(String company, HashMap<String, String> params) {
+        return oClient.postAsync("/messages/v3/" + company + "/rooms", params);
+    }
+
     /**
      * Send a message to a room
      *
@@ -140,6 +268,18 @@ public final class Messages {
         return oClient.post("/messages/v3/" + company + "/rooms/" + roomId + "/stories", params);
     }
 
+    /**
+     * Send a message to a room, asynchronously
+     *
+     * @param   company Company ID
+     * @param   roomId Room ID
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> sendMessageToRoomAsync(String company, String roomId, HashMap<String, String> params) {
+        return oClient.postAsync("/messages/v3/" + company + "/rooms/" + roomId + "/stories", params);
+    }
+
     /**
      * Send a message to a batch of rooms
      *
@@ -152,6 +292,17 @@ public final class Messages {
         return oClient.post("/messages/v3/" + company + "/stories/batch", params);
     }
 
+    /**
+     * Send a message to a batch of rooms, asynchronously
+     *
+     * @param   company Company ID
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> sendMessageToRoomsAsync(String company, HashMap<String, String> params) {
+        return oClient.postAsync("/messages/v3/" + company + "/stories/batch", params);
+    }
+
     /**
      * Update a room settings
      *
@@ -166,6 +317,19 @@ public final class Messages {
         return oClient.put("/messages/v3/" + company + "/rooms/" + roomId + "/users/" + username, params);
     }
 
+    /**
+     * Update a room settings, asynchronously
+     *
+     * @param   company Company ID
+     * @param   roomId Room ID
+     * @param   username User ID
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> updateRoomSettingsAsync(String company, String roomId, String username, HashMap<String, String> params) {
+        return oClient.putAsync("/messages/v3/" + company + "/rooms/" + roomId + "/users/" + username, params);
+    }
+
     /**
      * Update the metadata of a room
      *
@@ -179,4 +343,16 @@ public final class Messages {
         return oClient.put("/messages/v3/" + company + "/rooms/" + roomId, params);
     }
 
+    /**
+     * Update the metadata of a room, asynchronously
+     *
+     * @param   company Company ID
+     * @param   roomId Room ID
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> updateRoomMetadataAsync(String company, String roomId, HashMap<String, String> params) {
+        return oClient.putAsync("/messages/v3/" + company + "/rooms/" + roomId, params);
+    }
+
 }
@@ -17,6 +17,7 @@
 package com.Upwork.api.Routers;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
@@ -36,11 +37,10 @@ public final class Metadata {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Metadata(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/** 
@@ -52,6 +52,15 @@ public final class Metadata {
     public JSONObject getCategories() throws JSONException {   
         return oClient.get("/profiles/v1/metadata/categories");
     }
+
+	/** 
+     * Get Categories, asynchronously
+     *
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getCategoriesAsync() {
+        return oClient.getAsync("/profiles/v1/metadata/categories");
+    }
     
     /** 
      * Get Categories (v2)
@@ -63,6 +72,15 @@ public final class Metadata {
         return oClient.get("/profiles/v2/metadata/categories");
     }
 
+    /** 
+     * Get Categories (v2), asynchronously
+     *
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getCategoriesV2Async() {
+        return oClient.getAsync("/profiles/v2/metadata/categories");
+    }
+
     /** 
      * Get Skills
      *
@@ -73,6 +91,15 @@ public final class Metadata {
         return oClient.get("/profiles/v1/metadata/skills");
     }
 
+    /** 
+     * Get Skills, asynchronously
+     *
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSkillsAsync() {
+        return oClient.getAsync("/profiles/v1/metadata/skills");
+    }
+
     /**
      * Get Skills V2
      *
@@ -83,6 +110,15 @@ public final class Metadata {
         return oClient.get("/profiles/v2/metadata/skills");
     }
 
+    /**
+     * Get Skills V2, asynchronously
+     *
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSkillsV2Async() {
+        return oClient.getAsync("/profiles/v2/metadata/skills");
+    }
+
     /**
      * Get Specialties
      *
@@ -92,6 +128,15 @@ public final class Metadata {
     public JSONObject getSpecialties() throws JSONException {
         return oClient.get("/profiles/v1/metadata/specialties");
     }
+
+    /**
+     * Get Specialties, asynchronously
+     *
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSpecialtiesAsync() {
+        return oClient.getAsync("/profiles/v1/metadata/specialties");
+    }
     
     /** 
      * Get regions
@@ -103,6 +148,15 @@ public final class Metadata {
         return oClient.get("/profiles/v1/metadata/regions");
     }
 
+    /** 
+     * Get regions, asynchronously
+     *
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getRegionsAsync() {
+        return oClient.getAsync("/profiles/v1/metadata/regions");
+    }
+
     /**
      * Get tests
      *
@@ -112,6 +166,15 @@ public final class Metadata {
     public JSONObject getTests() throws JSONException {
         return oClient.get("/profiles/v1/metadata/tests");
     }
+
+    /**
+     * Get tests, asynchronously
+     *
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getTestsAsync() {
+        return oClient.getAsync("/profiles/v1/metadata/tests");
+    }
     
     /**
      * Get reasons
@@ -124,4 +187,14 @@ public final class Metadata {
         return oClient.get("/profiles/v1/metadata/reasons", params);
     }
 
+    /**
+     * Get reasons, asynchronously
+     *
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getReasonsAsync(HashMap<String, String> params) {
+        return oClient.getAsync("/profiles/v1/metadata/reasons", params);
+    }
+
 }
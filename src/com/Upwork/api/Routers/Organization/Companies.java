@@ -16,6 +16,8 @@
 
 package com.Upwork.api.Routers.Organization;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
 
@@ -34,11 +36,10 @@ public final class Companies {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Companies(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/** 
@@ -51,6 +52,15 @@ public final class Companies {
         return oClient.get("/hr/v2/companies");
     }   
 
+	/** 
+     * Get Companies Info, asynchronously
+     *
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getListAsync() {
+        return oClient.getAsync("/hr/v2/companies");
+    }
+
     /** 
      * Get Specific Company
      *
@@ -61,6 +71,16 @@ public final class Companies {
     public JSONObject getSpecific(String cmpReference) throws JSONException {   
         return oClient.get("/hr/v2/companies/" + cmpReference);
     }
+
+    /** 
+     * Get Specific Company, asynchronously
+     *
+     * @param   cmpReference Company reference
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSpecificAsync(String cmpReference) {
+        return oClient.getAsync("/hr/v2/companies/" + cmpReference);
+    }
     
     /**
      * Get Teams in Company
@@ -73,6 +93,16 @@ public final class Companies {
         return oClient.get("/hr/v2/companies/" + cmpReference + "/teams");
     }
 
+    /**
+     * Get Teams in Company, asynchronously
+     *
+     * @param   cmpReference Company reference
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getTeamsAsync(String cmpReference) {
+        return oClient.getAsync("/hr/v2/companies/" + cmpReference + "/teams");
+    }
+
     /**
      * Get Users in Company
      *
@@ -84,4 +114,14 @@ public final class Companies {
         return oClient.get("/hr/v2/companies/" + cmpReference + "/users");
     }
 
+    /**
+     * Get Users in Company, asynchronously
+     *
+     * @param   cmpReference Company reference
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getUsersAsync(String cmpReference) {
+        return oClient.getAsync("/hr/v2/companies/" + cmpReference + "/users");
+    }
+
 }
@@ -16,6 +16,8 @@
 
 package com.Upwork.api.Routers.Organization;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
 
@@ -34,11 +36,10 @@ public final class Teams {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Teams(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/** 
@@ -51,6 +52,15 @@ public final class Teams {
         return oClient.get("/hr/v2/teams");
     }   
 
+	/** 
+     * Get Teams info, asynchronously
+     *
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getListAsync() {
+        return oClient.getAsync("/hr/v2/teams");
+    }
+
     /** 
      * Get Users in Team
      *
@@ -62,4 +72,14 @@ public final class Teams {
         return oClient.get("/hr/v2/teams/" + teamReference + "/users");
     }
 
+    /** 
+     * Get Users in Team, asynchronously
+     *
+     * @param   teamReference Team reference
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getUsersInTeamAsync(String teamReference) {
+        return oClient.getAsync("/hr/v2/teams/" + teamReference + "/users");
+    }
+
 }
@@ -16,6 +16,8 @@
 
 package com.Upwork.api.Routers.Organization;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
 
@@ -34,11 +36,10 @@ public final class Users {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Users(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/** 
@@ -50,6 +51,15 @@ public final class Users {
     public JSONObject getMyInfo() throws JSONException {   
         return oClient.get("/hr/v2/users/me");
     }
+
+	/** 
+     * Get Auth User Info, asynchronously
+     *
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getMyInfoAsync() {
+        return oClient.getAsync("/hr/v2/users/me");
+    }
 	
 	/** 
      * Get Specific User Info
@@ -62,4 +72,14 @@ public final class Users {
         return oClient.get("/hr/v2/users/" + userReference);
     }
 
+	/** 
+     * Get Specific User Info, asynchronously
+     *
+     * @param   userReference User reference
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSpecificAsync(String userReference) {
+        return oClient.getAsync("/hr/v2/users/" + userReference);
+    }
+
 }
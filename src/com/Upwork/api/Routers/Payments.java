@@ -17,6 +17,7 @@
 package com.Upwork.api.Routers;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
@@ -36,11 +37,10 @@ public final class Payments {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Payments(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
     /** 
@@ -55,4 +55,15 @@ public final class Payments {
         return oClient.post("/hr/v2/teams/" + teamReference + "/adjustments", params);
     }
 
+    /** 
+     * Submit a Custom Payment, asynchronously
+     *
+     * @param   teamReference Team reference
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> submitBonusAsync(String teamReference, HashMap<String, String> params) {
+        return oClient.postAsync("/hr/v2/teams/" + teamReference + "/adjustments", params);
+    }
+
 }
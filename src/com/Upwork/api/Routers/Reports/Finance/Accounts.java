@@ -16,10 +16,13 @@
 
 package com.Upwork.api.Routers.Reports.Finance;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Models.GdsTable;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -36,11 +39,10 @@ public final class Accounts {
 	
 	final static String ENTRY_POINT = "gds";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Accounts(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
@@ -55,6 +57,29 @@ public final class Accounts {
         return oClient.get("/finreports/v2/financial_account_owner/" + freelancerReference, params);
     }
 
+	/**
+     * Generate Financial Reports for an owned Account, asynchronously
+     *
+     * @param   freelancerReference Freelancer's reference
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getOwnedAsync(String freelancerReference, HashMap<String, String> params) {
+        return oClient.getAsync("/finreports/v2/financial_account_owner/" + freelancerReference, params);
+    }
+
+    /**
+     * Generate Financial Reports for an owned Account, as columnar table
+     *
+     * @param   freelancerReference Freelancer's reference
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link GdsTable}
+     */
+    public GdsTable getOwnedTable(String freelancerReference, HashMap<String, String> params) throws IOException {
+        return oClient.get("/finreports/v2/financial_account_owner/" + freelancerReference, params, GdsTable.READER);
+    }
+
     /**
      * Generate Financial Reports for a Specific Account
      *
@@ -67,4 +92,27 @@ public final class Accounts {
         return oClient.get("/finreports/v2/financial_accounts/" + entityReference, params);
     }
 
+    /**
+     * Generate Financial Reports for a Specific Account, asynchronously
+     *
+     * @param   entityReference Entity reference
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getSpecificAsync(String entityReference, HashMap<String, String> params) {
+        return oClient.getAsync("/finreports/v2/financial_accounts/" + entityReference, params);
+    }
+
+    /**
+     * Generate Financial Reports for a Specific Account, as columnar table
+     *
+     * @param   entityReference Entity reference
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link GdsTable}
+     */
+    public GdsTable getSpecificTable(String entityReference, HashMap<String, String> params) throws IOException {
+        return oClient.get("/finreports/v2/financial_accounts/" + entityReference, params, GdsTable.READER);
+    }
+
 }
@@ -16,10 +16,13 @@
 
 package com.Upwork.api.Routers.Reports.Finance;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Models.GdsTable;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -36,11 +39,10 @@ public final class Billings {
 	
 	final static String ENTRY_POINT = "gds";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Billings(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
@@ -55,6 +57,29 @@ public final class Billings {
         return oClient.get("/finreports/v2/providers/" + freelancerReference + "/billings", params);
     }
 
+	/**
+     * Generate Billing Reports for a Specific Freelancer, asynchronously
+     *
+     * @param   freelancerReference Freelancer's reference
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByFreelancerAsync(String freelancerReference, HashMap<String, String> params) {
+        return oClient.getAsync("/finreports/v2/providers/" + freelancerReference + "/billings", params);
+    }
+
+    /**
+     * Generate Billing Reports for a Specific Freelancer, as columnar table
+     *
+     * @param   freelancerReference Freelancer's reference
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link GdsTable}
+     */
+    public GdsTable getByFreelancerTable(String freelancerReference, HashMap<String, String> params) throws IOException {
+        return oClient.get("/finreports/v2/providers/" + freelancerReference + "/billings", params, GdsTable.READER);
+    }
+
     /**
      * Generate Billing Reports for a Specific Freelancer's Team
      *
@@ -66,6 +91,29 @@ public final class Billings {
     public JSONObject getByFreelancersTeam(String freelancerTeamReference, HashMap<String, String> params) throws JSONException {
         return oClient.get("/finreports/v2/provider_teams/" + freelancerTeamReference + "/billings", params);
     }
+
+    /**
+     * Generate Billing Reports for a Specific Freelancer's Team, asynchronously
+     *
+     * @param   freelancerTeamReference Freelancer's team reference
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByFreelancersTeamAsync(String freelancerTeamReference, HashMap<String, String> params) {
+        return oClient.getAsync("/finreports/v2/provider_teams/" + freelancerTeamReference + "/billings", params);
+    }
+
+    /**
+     * Generate Billing Reports for a Specific Freelancer's Team, as columnar table
+     *
+     * @param   freelancerTeamReference Freelancer's team reference
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link GdsTable}
+     */
+    public GdsTable getByFreelancersTeamTable(String freelancerTeamReference, HashMap<String, String> params) throws IOException {
+        return oClient.get("/finreports/v2/provider_teams/" + freelancerTeamReference + "/billings", params, GdsTable.READER);
+    }
     
     /**
      * Generate Billing Reports for a Specific Freelancer's Company
@@ -79,6 +127,29 @@ public final class Billings {
         return oClient.get("/finreports/v2/provider_companies/" + freelancerCompanyReference + "/billings", params);
     }
 
+    /**
+     * Generate Billing Reports for a Specific Freelancer's Company, asynchronously
+     *
+     * @param   freelancerCompanyReference Freelancer's company reference
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByFreelancersCompanyAsync(String freelancerCompanyReference, HashMap<String, String> params) {
+        return oClient.getAsync("/finreports/v2/provider_companies/" + freelancerCompanyReference + "/billings", params);
+    }
+
+    /**
+     * Generate Billing Reports for a Specific Freelancer's Company, as columnar table
+     *
+     * @param   freelancerCompanyReference Freelancer's company reference
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link GdsTable}
+     */
+    public GdsTable getByFreelancersCompanyTable(String freelancerCompanyReference, HashMap<String, String> params) throws IOException {
+        return oClient.get("/finreports/v2/provider_companies/" + freelancerCompanyReference + "/billings", params, GdsTable.READER);
+    }
+
     /**
      * Generate Billing Reports for a Specific Buyer's Team
      *
@@ -90,6 +161,29 @@ public final class Billings {
     public JSONObject getByBuyersTeam(String buyerTeamReference, HashMap<String, String> params) throws JSONException {
         return oClient.get("/finreports/v2/buyer_teams/" + buyerTeamReference + "/billings", params);
     }
+
+    /**
+     * Generate Billing Reports for a Specific Buyer's Team, asynchronously
+     *
+     * @param   buyerTeamReference Buyer team reference
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByBuyersTeamAsync(String buyerTeamReference, HashMap<String, String> params) {
+        return oClient.getAsync("/finreports/v2/buyer_teams/" + buyerTeamReference + "/billings", params);
+    }
+
+    /**
+     * Generate Billing Reports for a Specific Buyer's Team, as columnar table
+     *
+     * @param   buyerTeamReference Buyer team reference
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link GdsTable}
+     */
+    public GdsTable getByBuyersTeamTable(String buyerTeamReference, HashMap<String, String> params) throws IOException {
+        return oClient.get("/finreports/v2/buyer_teams/" + buyerTeamReference + "/billings", params, GdsTable.READER);
+    }
     
     /**
      * Generate Billing Reports for a Specific Buyer's Company
@@ -103,4 +197,27 @@ public final class Billings {
         return oClient.get("/finreports/v2/buyer_companies/" + buyerCompanyReference + "/billings", params);
     }
 
+    /**
+     * Generate Billing Reports for a Specific Buyer's Company, asynchronously
+     *
+     * @param   buyerCompanyReference Buyer company reference
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByBuyersCompanyAsync(String buyerCompanyReference, HashMap<String, String> params) {
+        return oClient.getAsync("/finreports/v2/buyer_companies/" + buyerCompanyReference + "/billings", params);
+    }
+
+    /**
+     * Generate Billing Reports for a Specific Buyer's Company, as columnar table
+     *
+     * @param   buyerCompanyReference Buyer company reference
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link GdsTable}
+     */
+    public GdsTable getByBuyersCompanyTable(String buyerCompanyReference, HashMap<String, String> params) throws IOException {
+        return oClient.get("/finreports/v2/buyer_companies/" + buyerCompanyReference + "/billings", params, GdsTable.READER);
+    }
+
 }
@@ -16,10 +16,15 @@
 
 package com.Upwork.api.Routers.Reports;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Json.JsonRecordHandler;
+import com.Upwork.api.Models.GdsTable;
+import com.Upwork.api.Models.TimeReport;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -36,25 +41,25 @@ public final class Time {
 	
 	final static String ENTRY_POINT = "gds";
 	
-	private OAuthClient oClient = null;
+	/** Path to the rows of GDS table */
+	final static String[] ROWS_PATH = {"table", "rows"};
+	
+	private final OAuthClient oClient;
 
 	public Time(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
-     * Generate Time Reports for a Specific Team/Comapny/Agency
+     * Get URL of Time Reports for a Specific Team/Comapny/Agency
      *
      * @param   company Company ID
      * @param   team (Optional) Team ID
      * @param   agency (Optional) Agency ID
-     * @param   params (Optional) Parameters
      * @param   hideFinDetails (Optional) Hides all financial details
-     * @throws	JSONException If error occurred
-	 * @return	{@link JSONObject}
+	 * @return	Relative URL
      */
-    private JSONObject _getByType(String company, String team, String agency, HashMap<String, String> params, Boolean hideFinDetails) throws JSONException {
+    private String _getUrlByType(String company, String team, String agency, Boolean hideFinDetails) {
         String url = "";
         if (team != null) {
             url = "/teams/" + team;
@@ -65,7 +70,7 @@ public final class Time {
             url = "/agencies/" + agency;
         }
 
-        return oClient.get("/timereports/v1/companies/" + company + url, params);
+        return "/timereports/v1/companies/" + company + url;
     }
     
     /**
@@ -78,7 +83,60 @@ public final class Time {
 	 * @return	{@link JSONObject}
      */
     public JSONObject getByTeamFull(String company, String team, HashMap<String, String> params) throws JSONException {
-        return _getByType(company, team, null, params, false);
+        return oClient.get(_getUrlByType(company, team, null, false), params);
+    }
+
+    /**
+     * Generate Time Reports for a Specific Team (with financial info), asynchronously
+     *
+     * @param   company Company ID
+     * @param   team Team ID
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByTeamFullAsync(String company, String team, HashMap<String, String> params) {
+        return oClient.getAsync(_getUrlByType(company, team, null, false), params);
+    }
+
+    /**
+     * Generate Time Reports for a Specific Team (with financial info), as columnar table
+     *
+     * @param   company Company ID
+     * @param   team Team ID
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link GdsTable}
+     */
+    public GdsTable getByTeamFullTable(String company, String team, HashMap<String, String> params) throws IOException {
+        return oClient.get(_getUrlByType(company, team, null, false), params, GdsTable.READER);
+    }
+
+    /**
+     * Generate Time Reports for a Specific Team (with financial info), as typed model
+     *
+     * @param   company Company ID
+     * @param   team Team ID
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link TimeReport}
+     */
+    public TimeReport getByTeamFullTyped(String company, String team, HashMap<String, String> params) throws IOException {
+        return oClient.get(_getUrlByType(company, team, null, false), params, TimeReport.READER);
+    }
+
+    /**
+     * Generate Time Reports for a Specific Team (with financial info), passing
+     * table rows to the handler one by one while the report is being read
+     *
+     * @param   company Company ID
+     * @param   team Team ID
+     * @param   params Parameters
+     * @param   handler Row handler
+     * @throws	JSONException If error occurred
+	 * @return	{@link JSONObject} Report without rows
+     */
+    public JSONObject getByTeamFull(String company, String team, HashMap<String, String> params, JsonRecordHandler handler) throws JSONException {
+        return oClient.getRecords(_getUrlByType(company, team, null, false), params, handler, ROWS_PATH);
     }
 
     /**
@@ -91,7 +149,32 @@ public final class Time {
 	 * @return	{@link JSONObject}
      */
     public JSONObject getByTeamLimited(String company, String team, HashMap<String, String> params) throws JSONException {
-        return _getByType(company, team, null, params, true);
+        return oClient.get(_getUrlByType(company, team, null, true), params);
+    }
+
+    /**
+     * Generate Time Reports for a Specific Team (hide financial info), asynchronously
+     *
+     * @param   company Company ID
+     * @param   team Team ID
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByTeamLimitedAsync(String company, String team, HashMap<String, String> params) {
+        return oClient.getAsync(_getUrlByType(company, team, null, true), params);
+    }
+
+    /**
+     * Generate Time Reports for a Specific Team (hide financial info), as columnar table
+     *
+     * @param   company Company ID
+     * @param   team Team ID
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link GdsTable}
+     */
+    public GdsTable getByTeamLimitedTable(String company, String team, HashMap<String, String> params) throws IOException {
+        return oClient.get(_getUrlByType(company, team, null, true), params, GdsTable.READER);
     }
     
     /**
@@ -104,7 +187,32 @@ public final class Time {
 	 * @return	{@link JSONObject}
      */
     public JSONObject getByAgency(String company, String agency, HashMap<String, String> params) throws JSONException {
-        return _getByType(company, null, agency, params, false);
+        return oClient.get(_getUrlByType(company, null, agency, false), params);
+    }
+
+    /**
+     * Generating Agency Specific Reports, asynchronously
+     *
+     * @param   company Company ID
+     * @param   agency Agency ID
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByAgencyAsync(String company, String agency, HashMap<String, String> params) {
+        return oClient.getAsync(_getUrlByType(company, null, agency, false), params);
+    }
+
+    /**
+     * Generating Agency Specific Reports, as columnar table
+     *
+     * @param   company Company ID
+     * @param   agency Agency ID
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link GdsTable}
+     */
+    public GdsTable getByAgencyTable(String company, String agency, HashMap<String, String> params) throws IOException {
+        return oClient.get(_getUrlByType(company, null, agency, false), params, GdsTable.READER);
     }
 
     /**
@@ -116,7 +224,56 @@ public final class Time {
 	 * @return	{@link JSONObject}
      */
     public JSONObject getByCompany(String company, HashMap<String, String> params) throws JSONException {
-        return _getByType(company, null, null, params, false);
+        return oClient.get(_getUrlByType(company, null, null, false), params);
+    }
+
+    /**
+     * Generating Company Wide Reports, asynchronously
+     *
+     * @param   company Company ID
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByCompanyAsync(String company, HashMap<String, String> params) {
+        return oClient.getAsync(_getUrlByType(company, null, null, false), params);
+    }
+
+    /**
+     * Generating Company Wide Reports, as columnar table
+     *
+     * @param   company Company ID
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link GdsTable}
+     */
+    public GdsTable getByCompanyTable(String company, HashMap<String, String> params) throws IOException {
+        return oClient.get(_getUrlByType(company, null, null, false), params, GdsTable.READER);
+    }
+
+    /**
+     * Generate Time Reports for a Specific Company, as typed model
+     *
+     * @param   company Company ID
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link TimeReport}
+     */
+    public TimeReport getByCompanyTyped(String company, HashMap<String, String> params) throws IOException {
+        return oClient.get(_getUrlByType(company, null, null, false), params, TimeReport.READER);
+    }
+
+    /**
+     * Generate Time Reports for a Specific Company, passing table rows
+     * to the handler one by one while the report is being read
+     *
+     * @param   company Company ID
+     * @param   params Parameters
+     * @param   handler Row handler
+     * @throws	JSONException If error occurred
+	 * @return	{@link JSONObject} Report without rows
+     */
+    public JSONObject getByCompany(String company, HashMap<String, String> params, JsonRecordHandler handler) throws JSONException {
+        return oClient.getRecords(_getUrlByType(company, null, null, false), params, handler, ROWS_PATH);
     }
     
     /**
@@ -131,6 +288,29 @@ public final class Time {
         return oClient.get("/timereports/v1/providers/" + freelancerId + "/hours", params);
     }
 
+    /**
+     * Generating Freelancer's Specific Reports (hide financial info), asynchronously
+     *
+     * @param   freelancerId Freelancer's ID
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByFreelancerLimitedAsync(String freelancerId, HashMap<String, String> params) {
+        return oClient.getAsync("/timereports/v1/providers/" + freelancerId + "/hours", params);
+    }
+
+    /**
+     * Generating Freelancer's Specific Reports (hide financial info), as columnar table
+     *
+     * @param   freelancerId Freelancer's ID
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link GdsTable}
+     */
+    public GdsTable getByFreelancerLimitedTable(String freelancerId, HashMap<String, String> params) throws IOException {
+        return oClient.get("/timereports/v1/providers/" + freelancerId + "/hours", params, GdsTable.READER);
+    }
+
     /**
      * Generating Freelancer's Specific Reports (with financial info)
      *
@@ -143,4 +323,27 @@ public final class Time {
         return oClient.get("/timereports/v1/providers/" + freelancerId, params);
     }
 
+    /**
+     * Generating Freelancer's Specific Reports (with financial info), asynchronously
+     *
+     * @param   freelancerId Freelancer's ID
+     * @param   params Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByFreelancerFullAsync(String freelancerId, HashMap<String, String> params) {
+        return oClient.getAsync("/timereports/v1/providers/" + freelancerId, params);
+    }
+
+    /**
+     * Generating Freelancer's Specific Reports (with financial info), as columnar table
+     *
+     * @param   freelancerId Freelancer's ID
+     * @param   params Parameters
+     * @throws	IOException If request failed or response can not be read
+	 * @return	{@link GdsTable}
+     */
+    public GdsTable getByFreelancerFullTable(String freelancerId, HashMap<String, String> params) throws IOException {
+        return oClient.get("/timereports/v1/providers/" + freelancerId, params, GdsTable.READER);
+    }
+
 }
@@ -17,6 +17,7 @@
 package com.Upwork.api.Routers;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
@@ -36,11 +37,10 @@ public final class Snapshot {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Snapshot(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
     /**
@@ -55,6 +55,17 @@ public final class Snapshot {
         return oClient.get("/team/v3/snapshots/contracts/" + contractId + "/" + ts);
     }   
 
+    /**
+     * Get snapshot info by specific contract, asynchronously
+     *
+     * @param   contractId Contract ID
+     * @param   ts Timestamp
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByContractAsync(String contractId, String ts) {
+        return oClient.getAsync("/team/v3/snapshots/contracts/" + contractId + "/" + ts);
+    }
+
     /** 
      * Update snapshot by specific contract
      *
@@ -67,6 +78,18 @@ public final class Snapshot {
     public JSONObject updateByContract(String contractId, String ts, HashMap<String, String> params) throws JSONException {   
         return oClient.put("/team/v3/snapshots/contracts/" + contractId + "/" + ts, params);
     }
+
+    /** 
+     * Update snapshot by specific contract, asynchronously
+     *
+     * @param   contractId Contract ID
+     * @param   ts Timestamp
+     * @param   params Parameters
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> updateByContractAsync(String contractId, String ts, HashMap<String, String> params) {
+        return oClient.putAsync("/team/v3/snapshots/contracts/" + contractId + "/" + ts, params);
+    }
     
     /**
      * Delete snapshot by specific contract
@@ -80,4 +103,15 @@ public final class Snapshot {
         return oClient.delete("/team/v3/snapshots/contracts/" + contractId + "/" + ts);
     }
 
+    /**
+     * Delete snapshot by specific contract, asynchronously
+     *
+     * @param   contractId Contract ID
+     * @param   ts Timestamp
+     * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> deleteByContractAsync(String contractId, String ts) {
+        return oClient.deleteAsync("/team/v3/snapshots/contracts/" + contractId + "/" + ts);
+    }
+
 }
@@ -17,9 +17,11 @@
 package com.Upwork.api.Routers;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Models.RangeIterator;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -36,11 +38,10 @@ public final class Workdays {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Workdays(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
@@ -56,6 +57,35 @@ public final class Workdays {
     public JSONObject getByCompany(String company, String fromDate, String tillDate, HashMap<String, String> params) throws JSONException {
         return oClient.get("/team/v3/workdays/companies/" + company + "/" + fromDate + "," + tillDate, params);
     }
+
+	/**
+     * Get Workdays by Company, asynchronously
+     *
+     * @param   company Company ID
+     * @param   fromDate Start date
+     * @param   tillDate End date
+     * @param   params (Optional) Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByCompanyAsync(String company, String fromDate, String tillDate, HashMap<String, String> params) {
+        return oClient.getAsync("/team/v3/workdays/companies/" + company + "/" + fromDate + "," + tillDate, params);
+    }
+
+    /**
+     * Get Workdays by Company for a long period, split into chunks fetched concurrently
+     *
+     * @param   company Company ID
+     * @param   fromDate Start date
+     * @param   tillDate End date
+     * @param   chunkDays Days per request
+     * @param   concurrency Max requests at once
+     * @param   params (Optional) Parameters
+	 * @return	{@link RangeIterator} of {@link JSONObject}, a response per chunk in date order, failed chunks are thrown
+     */
+    public RangeIterator<JSONObject> getByCompanyRange(String company, String fromDate, String tillDate, int chunkDays, int concurrency, HashMap<String, String> params) {
+        return new RangeIterator<JSONObject>(fromDate, tillDate, chunkDays, concurrency,
+                (from, till) -> RangeIterator.checked(getByCompanyAsync(company, from, till, params)));
+    }
     
     /**
      * Get Workdays by Contract
@@ -71,4 +101,33 @@ public final class Workdays {
         return oClient.get("/team/v3/workdays/contracts/" + contract + "/" + fromDate + "," + tillDate, params);
     }
 
+    /**
+     * Get Workdays by Contract, asynchronously
+     *
+     * @param   contract Contract ID
+     * @param   fromDate Start date
+     * @param   tillDate End date
+     * @param   params (Optional) Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByContractAsync(String contract, String fromDate, String tillDate, HashMap<String, String> params) {
+        return oClient.getAsync("/team/v3/workdays/contracts/" + contract + "/" + fromDate + "," + tillDate, params);
+    }
+
+    /**
+     * Get Workdays by Contract for a long period, split into chunks fetched concurrently
+     *
+     * @param   contract Contract ID
+     * @param   fromDate Start date
+     * @param   tillDate End date
+     * @param   chunkDays Days per request
+     * @param   concurrency Max requests at once
+     * @param   params (Optional) Parameters
+	 * @return	{@link RangeIterator} of {@link JSONObject}, a response per chunk in date order, failed chunks are thrown
+     */
+    public RangeIterator<JSONObject> getByContractRange(String contract, String fromDate, String tillDate, int chunkDays, int concurrency, HashMap<String, String> params) {
+        return new RangeIterator<JSONObject>(fromDate, tillDate, chunkDays, concurrency,
+                (from, till) -> RangeIterator.checked(getByContractAsync(contract, from, till, params)));
+    }
+
 }
@@ -17,9 +17,11 @@
 package com.Upwork.api.Routers;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.Upwork.ClassPreamble;
 import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Models.RangeIterator;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -36,11 +38,10 @@ public final class Workdiary {
 	
 	final static String ENTRY_POINT = "api";
 	
-	private OAuthClient oClient = null;
+	private final OAuthClient oClient;
 
 	public Workdiary(OAuthClient client) {
-		oClient = client;
-		oClient.setEntryPoint(ENTRY_POINT);
+		oClient = client.forEntryPoint(ENTRY_POINT);
 	}
 	
 	/**
@@ -55,6 +56,33 @@ public final class Workdiary {
     public JSONObject get(String company, String date, HashMap<String, String> params) throws JSONException {
         return oClient.get("/team/v3/workdiaries/companies/" + company + "/" + date, params);
     }
+
+	/**
+     * Get Workdiary, asynchronously
+     *
+     * @param   company Company ID
+     * @param   date Date
+     * @param   params (Optional) Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getAsync(String company, String date, HashMap<String, String> params) {
+        return oClient.getAsync("/team/v3/workdiaries/companies/" + company + "/" + date, params);
+    }
+
+    /**
+     * Get Workdiary for each day of a period, fetching days concurrently
+     *
+     * @param   company Company ID
+     * @param   fromDate Start date
+     * @param   tillDate End date
+     * @param   concurrency Max requests at once
+     * @param   params (Optional) Parameters
+	 * @return	{@link RangeIterator} of {@link JSONObject}, a response per day in date order, failed days are thrown
+     */
+    public RangeIterator<JSONObject> getRange(String company, String fromDate, String tillDate, int concurrency, HashMap<String, String> params) {
+        return new RangeIterator<JSONObject>(fromDate, tillDate, 1, concurrency,
+                (date, sameDate) -> RangeIterator.checked(getAsync(company, date, params)));
+    }
     
     /**
      * Get Work Diary by Contract
@@ -69,4 +97,31 @@ public final class Workdiary {
         return oClient.get("/team/v3/workdiaries/contracts/" + contract + "/" + date, params);
     }
 
+    /**
+     * Get Work Diary by Contract, asynchronously
+     *
+     * @param   contract Contract ID
+     * @param   date Date
+     * @param   params (Optional) Parameters
+	 * @return	{@link CompletableFuture} with {@link JSONObject}
+     */
+    public CompletableFuture<JSONObject> getByContractAsync(String contract, String date, HashMap<String, String> params) {
+        return oClient.getAsync("/team/v3/workdiaries/contracts/" + contract + "/" + date, params);
+    }
+
+    /**
+     * Get Work Diary by Contract for each day of a period, fetching days concurrently
+     *
+     * @param   contract Contract ID
+     * @param   fromDate Start date
+     * @param   tillDate End date
+     * @param   concurrency Max requests at once
+     * @param   params (Optional) Parameters
+	 * @return	{@link RangeIterator} of {@link JSONObject}, a response per day in date order, failed days are thrown
+     */
+    public RangeIterator<JSONObject> getByContractRange(String contract, String fromDate, String tillDate, int concurrency, HashMap<String, String> params) {
+        return new RangeIterator<JSONObject>(fromDate, tillDate, 1, concurrency,
+                (date, sameDate) -> RangeIterator.checked(getByContractAsync(contract, date, params)));
+    }
+
 }
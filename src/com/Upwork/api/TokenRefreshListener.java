@@ -0,0 +1,52 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api;
+
+import com.Upwork.ClassPreamble;
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.auth.oauth2.CredentialRefreshListener;
+
+import java.io.IOException;
+
+/**
+ * {@link CredentialRefreshListener} that is also told about the latency and
+ * the failure cause of every token refresh made by {@link OAuthClient}.
+ *
+ * Pass it wherever {@link OAuthClient} accepts a refresh listener.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+public interface TokenRefreshListener extends CredentialRefreshListener {
+
+    /**
+     * Called after each refresh attempt, successful or not
+     *
+     * @param credential    Credential being refreshed, still holding the old
+     *                      token if the refresh failed
+     * @param latencyMillis Duration of the token request, milliseconds
+     * @param failure       Failure cause, or {@code null} if refresh succeeded
+     */
+    void onRefreshAttempt(Credential credential, long latencyMillis, IOException failure);
+}
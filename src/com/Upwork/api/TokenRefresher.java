@@ -0,0 +1,273 @@
+/**
+ * Copyright 2026 Upwork
+ *
+ * Licensed under the Upwork's API Terms of Use;
+ * you may not use this file except in compliance with the Terms.
+ * You may obtain a copy of the Terms at
+ *
+ *    https://developers.upwork.com/api-tos.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * @author: Maksym Novozhylov <mnovozhilov@upwork.com>
+ */
+
+package com.Upwork.api;
+
+import com.Upwork.ClassPreamble;
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.auth.oauth2.CredentialRefreshListener;
+import com.google.api.client.auth.oauth2.TokenResponse;
+import com.google.api.client.auth.oauth2.TokenResponseException;
+import com.google.api.client.http.HttpRequest;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the access token of {@link OAuthClient} fresh.
+ *
+ * The token is refreshed in background ahead of its expiry. Concurrent
+ * refresh attempts share a single token request, and requests keep using
+ * the old token until the new one is installed; they only wait for the
+ * refresh if the old token has already expired.
+ */
+@ClassPreamble(
+        author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
+        date = "10/18/2026",
+        currentRevision = 1,
+        lastModified = "10/18/2026",
+        lastModifiedBy = "Maksym Novozhylov",
+        reviewers = { "Yiota Tsakiri" }
+)
+final class TokenRefresher {
+    /** Tokens expiring sooner than this are refreshed right away, as {@link Credential} does */
+    static final long MIN_VALIDITY = 60;
+
+    /**
+     * Token endpoint call
+     */
+    interface TokenSource {
+        /**
+         * Request new token
+         *
+         * @param current Credential holding the current token
+         * @return {@link TokenResponse}, or {@code null} if it can not be refreshed
+         * @throws IOException If token request failed
+         */
+        TokenResponse fetch(Credential current) throws IOException;
+    }
+
+    private final TokenSource source;
+    private final long refreshAhead;
+    private final long retryDelay;
+    private final AtomicReference<CompletableFuture<Credential>> inFlight =
+            new AtomicReference<CompletableFuture<Credential>>();
+
+    private volatile Credential credential;
+    private ScheduledThreadPoolExecutor scheduler;
+    private ScheduledFuture<?> nextRefresh;
+    private boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param source       Token endpoint call
+     * @param refreshAhead Refresh the token this many seconds before it expires
+     * @param retryDelay   Delay before retrying a failed background refresh, seconds
+     */
+    TokenRefresher(TokenSource source, long refreshAhead, long retryDelay) {
+        this.source = source;
+        this.refreshAhead = refreshAhead;
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * Get current credential
+     *
+     * @return {@link Credential}, or {@code null} if no token is set yet
+     */
+    Credential getCredential() {
+        return credential;
+    }
+
+    /**
+     * Install credential and schedule its refresh. The token is refreshed
+     * right away if it is missing or about to expire.
+     *
+     * @param credential Credential
+     * @throws IOException If immediate refresh failed
+     */
+    void install(Credential credential) throws IOException {
+        this.credential = credential;
+        if (needsRefresh(credential, MIN_VALIDITY)) {
+            await(refresh());
+        } else {
+            schedule(credential);
+        }
+    }
+
+    /**
+     * Authorize request with the current token
+     *
+     * @param request HTTP request
+     * @throws IOException If there is no valid token and it can not be refreshed
+     */
+    void intercept(HttpRequest request) throws IOException {
+        Credential current = credential;
+        if (needsRefresh(current, 0)) {
+            current = await(refresh());
+        }
+        String accessToken = current.getAccessToken();
+        if (needsRefresh(current, MIN_VALIDITY) && inFlight.get() == null) {
+            // about to expire, refresh in background and use the old token meanwhile
+            scheduleSoon(current);
+        }
+        current.getMethod().intercept(request, accessToken);
+    }
+
+    /**
+     * Refresh the token, or join the refresh which is already in progress
+     *
+     * @return {@link CompletableFuture} completed once the new token is installed
+     */
+    CompletableFuture<Credential> refresh() {
+        CompletableFuture<Credential> running;
+        CompletableFuture<Credential> created = new CompletableFuture<Credential>();
+        do {
+            running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+        } while (!inFlight.compareAndSet(null, created));
+
+        Credential current = credential;
+        long start = System.nanoTime();
+        try {
+            TokenResponse response = source.fetch(current);
+            // null - nothing to refresh with, no attempt was made
+            if (response != null) {
+                current.setFromTokenResponse(response);
+                schedule(current);
+                notifyListeners(current, response, null, start);
+            }
+            inFlight.set(null);
+            created.complete(current);
+        } catch (IOException e) {
+            notifyListeners(current, null, e, start);
+            scheduleAfter(current, retryDelay);
+            inFlight.set(null);
+            created.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            // e.g. a malformed token response, retried like a failed request
+            notifyListeners(current, null, new IOException("Token refresh failed", e), start);
+            scheduleAfter(current, retryDelay);
+            inFlight.set(null);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    /**
+     * Stop background refresh
+     */
+    synchronized void close() {
+        closed = true;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private static void notifyListeners(Credential current, TokenResponse response, IOException failure,
+            long start) {
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        for (CredentialRefreshListener listener : current.getRefreshListeners()) {
+            try {
+                if (response != null) {
+                    listener.onTokenResponse(current, response);
+                } else if (failure instanceof TokenResponseException) {
+                    listener.onTokenErrorResponse(current, ((TokenResponseException) failure).getDetails());
+                }
+                if (listener instanceof TokenRefreshListener) {
+                    ((TokenRefreshListener) listener).onRefreshAttempt(current, latency, failure);
+                }
+            } catch (IOException ignored) {
+                // a failing listener must not break the refresh
+            }
+        }
+    }
+
+    private static boolean needsRefresh(Credential credential, long minValidity) {
+        if (credential == null) {
+            throw new IllegalStateException("Token is not set, call setTokenResponse first");
+        }
+        Long expiresIn = credential.getExpiresInSeconds();
+        return credential.getAccessToken() == null || expiresIn != null && expiresIn <= minValidity;
+    }
+
+    private static Credential await(CompletableFuture<Credential> refresh) throws IOException {
+        try {
+            return refresh.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for token refresh");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Token refresh failed", e.getCause());
+        }
+    }
+
+    /**
+     * Schedule refresh ahead of expiry, or at half of the token lifetime
+     * for short-living tokens
+     */
+    private void schedule(Credential current) {
+        Long expiresIn = current.getExpiresInSeconds();
+        if (expiresIn != null) {
+            scheduleAfter(current, Math.max(expiresIn - refreshAhead, expiresIn / 2));
+        }
+    }
+
+    /**
+     * Schedule refresh right away, unless one is already due within the
+     * retry delay, so a failed refresh keeps its backoff
+     */
+    private synchronized void scheduleSoon(Credential current) {
+        if (nextRefresh != null && !nextRefresh.isDone()
+                && nextRefresh.getDelay(TimeUnit.SECONDS) <= retryDelay) {
+            return;
+        }
+        scheduleAfter(current, 0);
+    }
+
+    private synchronized void scheduleAfter(Credential current, long delay) {
+        if (closed || current != credential) {
+            return;
+        }
+        if (nextRefresh != null) {
+            nextRefresh.cancel(false);
+        }
+        if (scheduler == null) {
+            scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread t = new Thread(r, "upwork-token-refresh");
+                t.setDaemon(true);
+                return t;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+        }
+        nextRefresh = scheduler.schedule(this::refresh, Math.max(0, delay), TimeUnit.SECONDS);
+    }
+}
@@ -19,12 +19,28 @@
 package com.Upwork.api;
 
 import com.Upwork.ClassPreamble;
+import com.Upwork.api.Http.CachedResponse;
+import com.Upwork.api.Http.ResponseCache;
+import com.Upwork.api.Json.JsonRecordHandler;
+import com.Upwork.api.Json.JsonRecordIterator;
+import com.Upwork.api.Json.JsonStreamReader;
+import com.Upwork.api.Models.ModelParser;
+import com.Upwork.api.Models.ModelReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.api.client.http.HttpMediaType;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.util.IOUtils;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Locale;
 
 @ClassPreamble (
 	author = "Maksym Novozhylov <mnovozhilov@upwork.com>",
@@ -35,6 +51,7 @@ import java.io.IOException;
 	reviewers = {"Yiota Tsakiri"}
 )
 public class UpworkRestClient {
+    final static int HTTP_RESPONSE_304 = 304;
     final static int HTTP_RESPONSE_503 = 503;
     
     /**
@@ -45,19 +62,75 @@ public class UpworkRestClient {
      * @return  {@link JSONObject}
      * */
    	public static JSONObject executeRequest(HttpRequest request) throws JSONException {
+        return executeRequest(request, (JsonRecordHandler) null);
+    }
+
+    /**
+     * Executes the given request, passing the records of the array found
+     * at the given path to the handler while the response is being read.
+     *
+     * @param   request Request
+     * @param   handler Record handler, or {@code null} to read the whole response
+     * @param   path Field names leading to the array
+     * @throws  JSONException
+     * @return  {@link JSONObject} Rest of the response, with the array left empty
+     * */
+   	public static JSONObject executeRequest(HttpRequest request, JsonRecordHandler handler, String... path)
+            throws JSONException {
+        return execute(request, null, null, handler, path);
+    }
+
+    /**
+     * Executes the given GET request, revalidating the response stored in
+     * the cache and serving it if the server replies 304 Not Modified.
+     *
+     * @param   request Request
+     * @param   cache Response cache
+     * @param   key Cache key
+     * @throws  JSONException
+     * @return  {@link JSONObject}
+     * */
+    static JSONObject executeRequest(HttpRequest request, ResponseCache cache, String key) throws JSONException {
+        return execute(request, cache, key, null);
+    }
+
+    private static JSONObject execute(HttpRequest request, ResponseCache cache, String key,
+            JsonRecordHandler handler, String... path) throws JSONException {
     	JSONObject json = null;
         HttpResponse response = null;
 
         try {
+            CachedResponse cached = null;
+            if (cache != null) {
+                cached = cache.get(key);
+                if (cached != null) {
+                    request.getHeaders().setIfNoneMatch(cached.getETag());
+                    request.getHeaders().setIfModifiedSince(cached.getLastModified());
+                }
+            }
+            // error statuses, and 304 of cached requests, are handled below
+            request.setThrowExceptionOnExecuteError(false);
+
             response = request.execute();
-            if(response.getStatusCode() == 200) {
+            if (response.getStatusCode() == HTTP_RESPONSE_304 && cached != null) {
+                json = JsonStreamReader.readObject(new ByteArrayInputStream(cached.getBody()), cached.getCharset());
+            } else if(response.getStatusCode() == 200) {
                 if (response.getContent() != null) {
-                    json = new JSONObject(response.parseAsString());
+                    InputStream content = RequestTimer.count(response, response.getContent());
+                    if (cache != null) {
+                        content = store(cache, key, cached, response, content);
+                    }
+                    // decode straight from the stream, no intermediate string
+                    json = (handler == null)
+                            ? JsonStreamReader.readObject(content, getCharset(response))
+                            : JsonStreamReader.readObject(content, getCharset(response), handler, path);
                 }
             } else {
             	json = UpworkRestClient.genError(response);
             }
-        }catch (IOException e) {
+        } catch (JsonProcessingException e) {
+            json = UpworkRestClient.genError(HTTP_RESPONSE_503, "Exception: JSONException");
+        } catch (IOException e) {
             json = UpworkRestClient.genError(HTTP_RESPONSE_503, "Exception: IOException");
         } catch (JSONException e) {
             json = UpworkRestClient.genError(HTTP_RESPONSE_503, "Exception: JSONException");  
@@ -66,16 +139,144 @@ public class UpworkRestClient {
         } finally {
             if (response != null) {
                 try {
-                    response.disconnect();
+                    // release connection back to the pool, keeping it alive
+                    response.ignore();
                 } catch (IOException e) {
                     json = genIOError(e);
                 }
             }
+            RequestTimer.finish(request);
         }
         
         return json;
     }
 
+    /**
+     * Store response carrying validators in the cache
+     *
+     * @param   cache Response cache
+     * @param   key Cache key
+     * @param   cached Response stored before, or {@code null}
+     * @param   response HttpResponse
+     * @param   content Response content
+     * @throws  IOException If content can not be read
+     * @return  Stream to read the content from
+     * */
+    private static InputStream store(ResponseCache cache, String key, CachedResponse cached, HttpResponse response,
+            InputStream content) throws IOException {
+        String etag = response.getHeaders().getETag();
+        String lastModified = response.getHeaders().getLastModified();
+        String cacheControl = response.getHeaders().getCacheControl();
+        if ((etag == null && lastModified == null)
+                || (cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-store"))) {
+            if (cached != null) {
+                cache.remove(key);
+            }
+            return content;
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(
+                response.getHeaders().getContentLength() != null
+                        ? (int) Math.min(response.getHeaders().getContentLength(), Integer.MAX_VALUE) : 8192);
+        IOUtils.copy(content, body);
+        byte[] bytes = body.toByteArray();
+        Charset charset = getCharset(response);
+        cache.put(key, new CachedResponse(etag, lastModified, (charset == null) ? null : charset.name(), bytes));
+        return new ByteArrayInputStream(bytes);
+    }
+
+    /**
+     * Executes the given request and opens iterator over the records of
+     * the array found at the given path. The iterator must be closed to
+     * release the connection, unless it was read to the end.
+     *
+     * @param   request Request
+     * @param   path Field names leading to the array
+     * @throws  IOException If request failed or response can not be read
+     * @throws  JSONException If response is not a JSON object
+     * @return  {@link JsonRecordIterator}
+     * */
+    static JsonRecordIterator openRecords(HttpRequest request, String... path) throws IOException, JSONException {
+        HttpResponse response = execute(request);
+        boolean opened = false;
+        try {
+            if (response.getStatusCode() != 200) {
+                throw new HttpResponseException(response);
+            }
+            // the request is done once the iterator is closed
+            JsonRecordIterator records = JsonStreamReader.iterate(RequestTimer.count(response, response.getContent()),
+                    getCharset(response), () -> {
+                        try {
+                            response.ignore();
+                        } finally {
+                            RequestTimer.finish(request);
+                        }
+                    }, path);
+            opened = true;
+            return records;
+        } finally {
+            if (!opened) {
+                response.ignore();
+                RequestTimer.finish(request);
+            }
+        }
+    }
+
+    /**
+     * Executes the given request and binds the response to a model
+     *
+     * @param   request Request
+     * @param   reader Model reader
+     * @throws  IOException If request failed or response can not be read
+     * @return  Model
+     * */
+    static <T> T executeRequest(HttpRequest request, ModelReader<T> reader) throws IOException {
+        HttpResponse response = execute(request);
+        try {
+            if (response.getStatusCode() != 200) {
+                throw new HttpResponseException(response);
+            }
+            InputStream content = RequestTimer.count(response, response.getContent());
+            if (content == null) {
+                throw new IOException("Empty response");
+            }
+            return ModelParser.parse(content, getCharset(response), reader);
+        } finally {
+            try {
+                response.ignore();
+            } finally {
+                RequestTimer.finish(request);
+            }
+        }
+    }
+
+    /**
+     * Execute the request, reporting it done to its timer if it failed
+     *
+     * @param   request Request
+     * @throws  IOException If request failed
+     * @return  HttpResponse
+     * */
+    private static HttpResponse execute(HttpRequest request) throws IOException {
+        try {
+            return request.execute();
+        } catch (IOException | RuntimeException e) {
+            RequestTimer.finish(request);
+            throw e;
+        }
+    }
+
+    /**
+     * Get charset declared by the response
+     *
+     * @param response HttpResponse
+     * @return Charset, or {@code null} if it is not declared
+     */
+    private static Charset getCharset(HttpResponse response) {
+        HttpMediaType mediaType = response.getMediaType();
+        return (mediaType == null) ? null : mediaType.getCharsetParameter();
+    }
+
     /**
      * Generates errors as JSONObject.
      *
@@ -108,8 +309,8 @@ public class UpworkRestClient {
      * @return  {@link JSONObject}
      * */
     private static JSONObject genError(HttpResponse response) throws JSONException {
-    	String code		= (String) response.getHeaders().get("X-Upwork-Error-Code");
-    	String message	= (String) response.getHeaders().get("X-Upwork-Error-Message");
+    	String code		= response.getHeaders().getFirstHeaderStringValue("X-Upwork-Error-Code");
+    	String message	= response.getHeaders().getFirstHeaderStringValue("X-Upwork-Error-Message");
     	
     	if (code == null) {
     		code = Integer.toString(response.getStatusCode());
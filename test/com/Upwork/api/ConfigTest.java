@@ -37,4 +37,22 @@ public class ConfigTest {
 		
 		assertEquals("get config property", "value", test);
 	}
+	
+	@Test public void getIntProperty() throws Exception  {
+		when(properties.getProperty("number")).thenReturn(" 42");
+		
+		Config config = new Config(properties);
+		
+		assertEquals("get int property", 42, config.getIntProperty("number", 1));
+		assertEquals("get default int property", 1, config.getIntProperty("missing", 1));
+	}
+	
+	@Test public void getDoubleProperty() throws Exception  {
+		when(properties.getProperty("rate")).thenReturn("2.5 ");
+		
+		Config config = new Config(properties);
+		
+		assertEquals("get double property", 2.5, config.getDoubleProperty("rate", 1), 0);
+		assertEquals("get default double property", 1, config.getDoubleProperty("missing", 1), 0);
+	}
 }
@@ -0,0 +1,103 @@
+package com.Upwork.api.Graphql;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class ConnectionIteratorTest {
+	private final List<String> cursors = new ArrayList<String>();
+	private final List<CompletableFuture<JSONObject>> requests = new ArrayList<CompletableFuture<JSONObject>>();
+
+	private static JSONObject page(int from, int count, boolean hasNext, boolean edges) throws JSONException {
+		JSONArray items = new JSONArray();
+		for (int i = from; i < from + count; i++) {
+			JSONObject node = new JSONObject().put("id", i);
+			items.put(edges ? new JSONObject().put("node", node).put("cursor", "c" + i) : node);
+		}
+		JSONObject connection = new JSONObject()
+				.put(edges ? "edges" : "nodes", items)
+				.put("pageInfo", new JSONObject().put("hasNextPage", hasNext).put("endCursor", "c" + (from + count - 1)));
+		return new JSONObject().put("data", new JSONObject().put("organization", new JSONObject().put("contracts", connection)));
+	}
+
+	private CompletableFuture<JSONObject> fetch(String cursor) {
+		cursors.add(cursor);
+		CompletableFuture<JSONObject> request = new CompletableFuture<JSONObject>();
+		requests.add(request);
+		return request;
+	}
+
+	@Test public void followsCursorAndPrefetches() throws Exception {
+		ConnectionIterator nodes = new ConnectionIterator(this::fetch, null, "organization", "contracts");
+		requests.get(0).complete(page(0, 2, true, true));
+
+		assertEquals(0, nodes.next().getInt("id"));
+		// the second page is requested before the first one is consumed
+		assertEquals(2, requests.size());
+		assertEquals("c1", cursors.get(1));
+		assertEquals(1, nodes.next().getInt("id"));
+
+		requests.get(1).complete(page(2, 2, false, false));
+		assertEquals(2, nodes.next().getInt("id"));
+		assertEquals(3, nodes.next().getInt("id"));
+		assertFalse(nodes.hasNext());
+		assertEquals(2, requests.size());
+	}
+
+	@Test public void streamsAllNodes() {
+		ConnectionIterator nodes = new ConnectionIterator(cursor -> {
+			int from = (cursor == null) ? 0 : Integer.parseInt(cursor.substring(1)) + 1;
+			try {
+				return CompletableFuture.completedFuture(page(from, 10, from < 90, true));
+			} catch (JSONException e) {
+				throw new IllegalStateException(e);
+			}
+		}, null, "organization", "contracts");
+
+		List<Integer> ids = nodes.stream().map(node -> node.optInt("id")).collect(Collectors.toList());
+		assertEquals(100, ids.size());
+		assertEquals(99, (int) ids.get(99));
+	}
+
+	@Test public void closeCancelsPrefetch() throws Exception {
+		ConnectionIterator nodes = new ConnectionIterator(this::fetch, "c9", "organization", "contracts");
+		requests.get(0).complete(page(10, 2, true, true));
+		nodes.next();
+		nodes.close();
+
+		assertTrue(requests.get(1).isCancelled());
+		assertFalse(nodes.hasNext());
+		assertEquals("c9", cursors.get(0));
+	}
+
+	@Test public void missingConnectionIsEmpty() throws Exception {
+		ConnectionIterator nodes = new ConnectionIterator(this::fetch, null, "organization", "contracts");
+		requests.get(0).complete(new JSONObject("{'data': {'organization': null}}"));
+
+		assertFalse(nodes.hasNext());
+	}
+
+	@Test(expected=IllegalStateException.class)
+	public void graphqlErrors() throws Exception {
+		ConnectionIterator nodes = new ConnectionIterator(this::fetch, null, "organization", "contracts");
+		requests.get(0).complete(new JSONObject("{'errors': [{'message': 'denied'}]}"));
+		nodes.hasNext();
+	}
+
+	@Test(expected=UncheckedIOException.class)
+	public void requestErrors() {
+		ConnectionIterator nodes = new ConnectionIterator(this::fetch, null, "organization", "contracts");
+		requests.get(0).completeExceptionally(new IOException("reset"));
+		nodes.hasNext();
+	}
+}
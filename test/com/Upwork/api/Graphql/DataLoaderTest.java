@@ -0,0 +1,151 @@
+package com.Upwork.api.Graphql;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+
+import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Routers.Graphql;
+import com.google.api.client.http.HttpContent;
+
+public class DataLoaderTest {
+	private final List<List<String>> batches = new ArrayList<List<String>>();
+
+	private CompletableFuture<Map<String, String>> upperCase(List<String> keys) {
+		synchronized (batches) {
+			batches.add(keys);
+		}
+		Map<String, String> values = new HashMap<String, String>();
+		for (String key : keys) {
+			if (!key.startsWith("missing")) {
+				values.put(key, key.toUpperCase());
+			}
+		}
+		return CompletableFuture.completedFuture(values);
+	}
+
+	@Test public void batchesAndMemoizes() throws Exception {
+		DataLoader<String, String> loader = new DataLoader<String, String>(this::upperCase, 100, -1);
+		CompletableFuture<String> a = loader.load("a");
+		CompletableFuture<String> b = loader.load("b");
+		CompletableFuture<String> again = loader.load("a");
+		CompletableFuture<String> missing = loader.load("missing");
+
+		assertSame(a, again);
+		assertFalse(a.isDone());
+		loader.dispatch();
+
+		assertEquals("A", a.get());
+		assertEquals("B", b.get());
+		assertNull(missing.get());
+		assertEquals("[[a, b, missing]]", batches.toString());
+
+		assertEquals("A", loader.load("a").get());
+		loader.dispatch();
+		assertEquals(1, batches.size());
+	}
+
+	@Test public void splitsByMaxBatch() throws Exception {
+		DataLoader<String, String> loader = new DataLoader<String, String>(this::upperCase, 2, -1);
+		CompletableFuture<List<String>> values = loader.loadMany(Arrays.asList("a", "b", "c", "b"));
+		loader.dispatch();
+
+		assertEquals("[A, B, C, B]", values.get().toString());
+		assertEquals("[[a, b], [c]]", batches.toString());
+	}
+
+	@Test public void dispatchesAfterWindow() throws Exception {
+		DataLoader<String, String> loader = new DataLoader<String, String>(this::upperCase, 100, 10);
+		CompletableFuture<String> a = loader.load("a");
+		CompletableFuture<String> b = loader.load("b");
+
+		assertEquals("A", a.get(1, TimeUnit.SECONDS));
+		assertEquals("B", b.get(1, TimeUnit.SECONDS));
+		assertEquals(1, batches.size());
+	}
+
+	@Test public void failureIsNotMemoized() throws Exception {
+		List<Integer> calls = new ArrayList<Integer>();
+		DataLoader<String, String> loader = new DataLoader<String, String>(keys -> {
+			calls.add(keys.size());
+			if (calls.size() == 1) {
+				CompletableFuture<Map<String, String>> failed = new CompletableFuture<Map<String, String>>();
+				failed.completeExceptionally(new IOException("reset"));
+				return failed;
+			}
+			return upperCase(keys);
+		}, 100, -1);
+		CompletableFuture<String> first = loader.load("a");
+		loader.dispatch();
+		try {
+			first.get();
+			fail("Failure expected");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+
+		CompletableFuture<String> second = loader.load("a");
+		loader.dispatch();
+		assertEquals("A", second.get());
+		assertEquals(2, calls.size());
+	}
+
+	@Test public void clearedKeyStillCompletes() throws Exception {
+		DataLoader<String, String> loader = new DataLoader<String, String>(this::upperCase, 100, -1);
+		CompletableFuture<String> a = loader.load("a");
+		loader.clearAll();
+		CompletableFuture<String> reloaded = loader.load("a");
+		loader.dispatch();
+
+		assertNotSame(a, reloaded);
+		assertEquals("A", a.get());
+		assertEquals("A", reloaded.get());
+	}
+
+	@Test public void loadsByGraphqlQuery() throws Exception {
+		OAuthClient client = mock(OAuthClient.class);
+		when(client.forEntryPoint(Matchers.anyString())).thenReturn(client);
+		when(client.postAsync(Matchers.anyString(), Matchers.any(HttpContent.class))).thenReturn(CompletableFuture.completedFuture(
+				new JSONObject("{'data': {'contracts': [{'id': '1', 'title': 'One'}, {'id': '2', 'title': 'Two'}]}}")));
+		GraphqlOperation operation = GraphqlOperation.of("query($ids: [ID!]) { contracts(ids: $ids) { id title } }");
+		DataLoader<String, JSONObject> loader = DataLoader.of(new Graphql(client), operation, "ids", "id", 50, -1, "contracts");
+
+		CompletableFuture<JSONObject> two = loader.load("2");
+		CompletableFuture<JSONObject> three = loader.load("3");
+		loader.dispatch();
+
+		assertEquals("Two", two.get().getString("title"));
+		assertNull(three.get());
+		ArgumentCaptor<HttpContent> content = ArgumentCaptor.forClass(HttpContent.class);
+		verify(client, times(1)).postAsync(Matchers.anyString(), content.capture());
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		content.getValue().writeTo(body);
+		assertEquals("[\"2\",\"3\"]", new JSONObject(body.toString("UTF-8")).getJSONObject("variables").getJSONArray("ids").toString());
+	}
+
+	@Test public void graphqlErrorsFailBatch() throws Exception {
+		Map<String, JSONObject> found = DataLoader.index(new JSONObject("{'data': {'contracts': []}}"), "id", new String[] { "contracts" });
+		assertTrue(found.isEmpty());
+		try {
+			DataLoader.index(new JSONObject("{'errors': [{'message': 'denied'}]}"), "id", new String[] { "contracts" });
+			fail("Failure expected");
+		} catch (IllegalStateException e) {
+			assertTrue(e.getMessage().contains("denied"));
+		}
+	}
+}
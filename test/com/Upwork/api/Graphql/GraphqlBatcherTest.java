@@ -0,0 +1,112 @@
+package com.Upwork.api.Graphql;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Matchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Routers.Graphql;
+
+public class GraphqlBatcherTest {
+	private OAuthClient client;
+	private List<String> queries;
+	private String response;
+
+	@Before
+	public void setUp() {
+		client = mock(OAuthClient.class);
+		queries = new ArrayList<String>();
+		response = "{'data': {'b0': {'id': '1'}, 'b1': {'id': '2'}}}";
+		when(client.forEntryPoint(Matchers.anyString())).thenReturn(client);
+		when(client.postAsync(Matchers.anyString(), (HashMap<String, String>) Matchers.anyObject())).thenAnswer(new Answer<Object>() {
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				synchronized (queries) {
+					queries.add(((HashMap<String, String>) invocation.getArguments()[1]).get("query"));
+				}
+				return CompletableFuture.completedFuture(new JSONObject(response));
+			}
+		});
+	}
+
+	@Test public void sendsFullBatchAtOnce() throws Exception {
+		GraphqlBatcher batcher = new GraphqlBatcher(new Graphql(client), 60000, 2);
+		CompletableFuture<JSONObject> user = batcher.submit("user { id }");
+		CompletableFuture<JSONObject> org = batcher.submit("org: organization { id }");
+
+		assertEquals("{\"data\":{\"user\":{\"id\":\"1\"}}}", user.get(1, TimeUnit.SECONDS).toString());
+		assertEquals("{\"data\":{\"org\":{\"id\":\"2\"}}}", org.get(1, TimeUnit.SECONDS).toString());
+		assertEquals("[query { b0: user { id } b1: organization { id } }]", queries.toString());
+		batcher.close();
+	}
+
+	@Test public void sendsAfterWindow() throws Exception {
+		GraphqlBatcher batcher = new GraphqlBatcher(new Graphql(client), 20, 100);
+		CompletableFuture<JSONObject> first = batcher.submit("user { id }");
+		CompletableFuture<JSONObject> second = batcher.submit("user { id }");
+
+		assertEquals("1", first.get(1, TimeUnit.SECONDS).getJSONObject("data").getJSONObject("user").getString("id"));
+		assertEquals("2", second.get(1, TimeUnit.SECONDS).getJSONObject("data").getJSONObject("user").getString("id"));
+		assertEquals(1, queries.size());
+		batcher.close();
+	}
+
+	@Test public void closeFlushes() throws Exception {
+		GraphqlBatcher batcher = new GraphqlBatcher(new Graphql(client), 60000, 100);
+		CompletableFuture<JSONObject> user = batcher.submit("user { id }");
+		batcher.close();
+
+		assertTrue(user.isDone());
+		assertEquals("[query { b0: user { id } }]", queries.toString());
+	}
+
+	@Test public void splitsErrors() throws Exception {
+		response = "{'data': {'b0': null, 'b1': {'id': '2'}}, 'errors': ["
+				+ "{'message': 'denied', 'path': ['b0']}, {'message': 'slow'}]}";
+		GraphqlBatcher batcher = new GraphqlBatcher(new Graphql(client), 60000, 2);
+		CompletableFuture<JSONObject> user = batcher.submit("user { id }");
+		CompletableFuture<JSONObject> org = batcher.submit("organization { id }");
+
+		JSONObject denied = user.get(1, TimeUnit.SECONDS);
+		assertTrue(denied.getJSONObject("data").isNull("user"));
+		assertEquals(2, denied.getJSONArray("errors").length());
+		assertEquals("user", denied.getJSONArray("errors").getJSONObject(0).getJSONArray("path").getString(0));
+		assertEquals(1, org.get(1, TimeUnit.SECONDS).getJSONArray("errors").length());
+		batcher.close();
+	}
+
+	@Test public void passesFailureToEveryCaller() throws Exception {
+		response = "{'error': {'code': '503', 'message': 'Service Unavailable'}}";
+		GraphqlBatcher batcher = new GraphqlBatcher(new Graphql(client), 60000, 2);
+		CompletableFuture<JSONObject> user = batcher.submit("user { id }");
+		CompletableFuture<JSONObject> org = batcher.submit("organization { id }");
+
+		assertEquals("503", user.get(1, TimeUnit.SECONDS).getJSONObject("error").getString("code"));
+		assertEquals("503", org.get(1, TimeUnit.SECONDS).getJSONObject("error").getString("code"));
+		batcher.close();
+	}
+
+	@Test(expected=IllegalStateException.class)
+	public void rejectsLookupAfterClose() {
+		GraphqlBatcher batcher = new GraphqlBatcher(new Graphql(client), 10, 2);
+		batcher.close();
+		batcher.submit("user { id }");
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void rejectsLookupWithoutField() {
+		new GraphqlBatcher(new Graphql(client), 10, 2).submit("{ user { id } }");
+	}
+}
@@ -0,0 +1,107 @@
+package com.Upwork.api.Graphql;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.Upwork.api.Http.Digests;
+import com.google.api.client.http.HttpContent;
+
+public class GraphqlOperationTest {
+	private static final String QUERY = "query Contracts($ids: [ID!], $limit: Int, $active: Boolean) { contracts(ids: $ids) { id } }";
+
+	private static String write(HttpContent content) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		content.writeTo(out);
+		return out.toString("UTF-8");
+	}
+
+	@Test public void parsesHeader() {
+		GraphqlOperation operation = GraphqlOperation.of(QUERY);
+
+		assertEquals("Contracts", operation.getName());
+		assertEquals("[ids, limit, active]", operation.getVariableNames().toString());
+		assertEquals(Digests.sha256Hex(QUERY), operation.getHash());
+
+		GraphqlOperation shorthand = GraphqlOperation.of("{ user { id } }");
+		assertNull(shorthand.getName());
+		assertTrue(shorthand.getVariableNames().isEmpty());
+	}
+
+	@Test public void parsesHeaderAfterFragmentsAndComments() throws Exception {
+		String query = "# contracts of a client, query Ignored($no: Int)\n"
+				+ "fragment ContractFields on Contract { id title(format: \"query X($y: Int) {\") }\n"
+				+ "query Contracts($ids: [ID!]) { contracts(ids: $ids) { ...ContractFields } }";
+		GraphqlOperation operation = GraphqlOperation.of(query);
+
+		assertEquals("Contracts", operation.getName());
+		assertEquals("[ids]", operation.getVariableNames().toString());
+		JSONObject body = new JSONObject(write(operation.content(new GraphqlOperation.Variables().put("ids", "1"))));
+		assertEquals("1", body.getJSONObject("variables").getString("ids"));
+		assertEquals(query, body.getString("query"));
+	}
+
+	@Test public void writesBody() throws Exception {
+		GraphqlOperation operation = GraphqlOperation.of(QUERY);
+		GraphqlOperation.Variables variables = new GraphqlOperation.Variables()
+				.put("ids", Arrays.asList("1", "2\""))
+				.put("limit", 10)
+				.put("active", true);
+		JSONObject body = new JSONObject(write(operation.content(variables)));
+
+		assertEquals(QUERY, body.getString("query"));
+		assertEquals("Contracts", body.getString("operationName"));
+		assertEquals("2\"", body.getJSONObject("variables").getJSONArray("ids").getString(1));
+		assertEquals(10, body.getJSONObject("variables").getInt("limit"));
+		assertTrue(body.getJSONObject("variables").getBoolean("active"));
+		assertFalse(body.has("extensions"));
+	}
+
+	@Test public void reusesContent() throws Exception {
+		HttpContent content = GraphqlOperation.of(QUERY).content(new GraphqlOperation.Variables().put("limit", 5));
+
+		assertTrue(content.retrySupported());
+		assertEquals(write(content), write(content));
+	}
+
+	@Test public void writesPersistedBodies() throws Exception {
+		GraphqlOperation operation = GraphqlOperation.of(QUERY);
+		JSONObject hashOnly = new JSONObject(write(operation.content(null, false, true)));
+		JSONObject full = new JSONObject(write(operation.content(null, true, true)));
+
+		assertFalse(hashOnly.has("query"));
+		assertEquals(operation.getHash(), hashOnly.getJSONObject("extensions").getJSONObject("persistedQuery").getString("sha256Hash"));
+		assertEquals(0, hashOnly.getJSONObject("variables").length());
+		assertEquals(QUERY, full.getString("query"));
+		assertTrue(full.has("extensions"));
+	}
+
+	@Test public void writesVariableTypes() throws Exception {
+		GraphqlOperation operation = GraphqlOperation.of("query($a: JSON, $b: JSON, $c: Float, $d: String, $e: JSON)"
+				+ " { echo(a: $a, b: $b, c: $c, d: $d, e: $e) }");
+		GraphqlOperation.Variables variables = GraphqlOperation.Variables.of(new JSONObject()
+				.put("a", new JSONObject().put("x", 1))
+				.put("b", new JSONArray().put("y")))
+				.put("c", 1.5)
+				.put("d", (String) null)
+				.put("e", Collections.singletonMap("z", Collections.singletonList(2L)));
+		JSONObject json = new JSONObject(write(operation.content(variables))).getJSONObject("variables");
+
+		assertEquals(1, json.getJSONObject("a").getInt("x"));
+		assertEquals("y", json.getJSONArray("b").getString(0));
+		assertEquals(1.5, json.getDouble("c"), 0);
+		assertTrue(json.isNull("d"));
+		assertEquals(2, json.getJSONObject("e").getJSONArray("z").getInt(0));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void rejectsUndeclaredVariable() {
+		GraphqlOperation.of(QUERY).content(new GraphqlOperation.Variables().put("offset", 10));
+	}
+}
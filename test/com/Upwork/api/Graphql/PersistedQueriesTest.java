@@ -0,0 +1,173 @@
+package com.Upwork.api.Graphql;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.Upwork.api.Config;
+import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Http.Digests;
+import com.Upwork.api.Routers.Graphql;
+import com.google.api.client.auth.oauth2.TokenResponse;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+public class PersistedQueriesTest {
+	private static final String QUERY = "query($id: ID!) { user(id: $id) { id } }";
+
+	private HttpServer server;
+	private OAuthClient client;
+	private final Map<String, String> stored = new ConcurrentHashMap<String, String>();
+	private final List<JSONObject> requests = new ArrayList<JSONObject>();
+	private volatile boolean supported = true;
+
+	@Before
+	public void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/graphql", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				try {
+					JSONObject request = new JSONObject(read(exchange.getRequestBody()));
+					synchronized (requests) {
+						requests.add(request);
+					}
+					respond(exchange, answer(request));
+				} catch (Exception e) {
+					respond(exchange, "{\"errors\": [{\"message\": \"" + e + "\"}]}");
+				}
+			}
+		});
+		server.start();
+
+		String local = "http://127.0.0.1:" + server.getAddress().getPort();
+		NetHttpTransport transport = new NetHttpTransport.Builder()
+				.setConnectionFactory(url -> (HttpURLConnection) new URL(local + url.getPath()).openConnection())
+				.build();
+		Properties properties = new Properties();
+		properties.setProperty("clientId", "key");
+		properties.setProperty("clientSecret", "secret");
+		client = new OAuthClient(new Config(properties), transport);
+		client.setTokenResponse(new TokenResponse().setAccessToken("token").setExpiresInSeconds(3600L), null);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		client.close();
+		server.stop(0);
+	}
+
+	/** Stand-in for a server supporting automatic persisted queries */
+	private String answer(JSONObject request) throws Exception {
+		JSONObject extensions = request.optJSONObject("extensions");
+		if (extensions != null && !supported) {
+			return "{\"errors\": [{\"message\": \"PersistedQueryNotSupported\"}]}";
+		}
+		String query = request.optString("query", null);
+		if (extensions != null) {
+			String hash = extensions.getJSONObject("persistedQuery").getString("sha256Hash");
+			if (query != null) {
+				assertEquals(Digests.sha256Hex(query), hash);
+				stored.put(hash, query);
+			} else if ((query = stored.get(hash)) == null) {
+				return "{\"errors\": [{\"message\": \"PersistedQueryNotFound\", \"extensions\": {\"code\": \"PERSISTED_QUERY_NOT_FOUND\"}}]}";
+			}
+		}
+		String id = request.getJSONObject("variables").getString("id");
+		return "{\"data\": {\"user\": {\"id\": \"" + id + "\"}}}";
+	}
+
+	private static String read(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		for (int n; (n = in.read(buffer)) > 0; ) {
+			out.write(buffer, 0, n);
+		}
+		return out.toString("UTF-8");
+	}
+
+	private static void respond(HttpExchange exchange, String json) throws IOException {
+		byte[] body = json.getBytes("UTF-8");
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(200, body.length);
+		OutputStream out = exchange.getResponseBody();
+		out.write(body);
+		out.close();
+	}
+
+	private static String userId(JSONObject response) throws Exception {
+		return response.getJSONObject("data").getJSONObject("user").getString("id");
+	}
+
+	@Test public void sendsHashOnlyOnceRegistered() throws Exception {
+		Graphql graphql = new Graphql(client);
+
+		assertEquals("1", userId(graphql.ExecutePersisted(QUERY, new JSONObject().put("id", "1"))));
+		assertEquals("2", userId(graphql.ExecutePersisted(QUERY, new JSONObject().put("id", "2"))));
+		assertEquals("3", userId(graphql.ExecutePersistedAsync(QUERY, new JSONObject().put("id", "3")).get(5, TimeUnit.SECONDS)));
+
+		assertEquals(3, requests.size());
+		assertTrue(requests.get(0).has("query"));
+		assertFalse(requests.get(1).has("query"));
+		assertFalse(requests.get(2).has("query"));
+	}
+
+	@Test public void sharesRegistryBetweenRouters() throws Exception {
+		new Graphql(client).ExecutePersisted(QUERY, new JSONObject().put("id", "1"));
+		new Graphql(client.withTenant("org")).ExecutePersisted(QUERY, new JSONObject().put("id", "2"));
+
+		assertEquals(2, requests.size());
+		assertFalse(requests.get(1).has("query"));
+		assertTrue(new PersistedQueries(client.forEntryPoint("graphql")).isRegistered(QUERY));
+	}
+
+	@Test public void uploadsAgainWhenHashUnknown() throws Exception {
+		PersistedQueries queries = new PersistedQueries(client.forEntryPoint("graphql"));
+		queries.execute(QUERY, new JSONObject().put("id", "1"));
+		assertTrue(queries.isRegistered(QUERY));
+
+		stored.clear();
+		assertEquals("2", userId(queries.execute(QUERY, new JSONObject().put("id", "2"))));
+		stored.clear();
+		assertEquals("3", userId(queries.executeAsync(QUERY, new JSONObject().put("id", "3")).get(5, TimeUnit.SECONDS)));
+
+		assertEquals(5, requests.size());
+		assertFalse(requests.get(1).has("query"));
+		assertTrue(requests.get(2).has("query"));
+		assertFalse(requests.get(3).has("query"));
+		assertTrue(requests.get(4).has("query"));
+		assertTrue(queries.isRegistered(QUERY));
+	}
+
+	@Test public void sendsTextWhenNotSupported() throws Exception {
+		supported = false;
+		PersistedQueries queries = new PersistedQueries(client.forEntryPoint("graphql"));
+
+		assertEquals("1", userId(queries.execute(QUERY, new JSONObject().put("id", "1"))));
+		assertEquals("2", userId(queries.execute(QUERY, new JSONObject().put("id", "2"))));
+
+		assertEquals(3, requests.size());
+		assertFalse(requests.get(1).has("extensions"));
+		assertFalse(requests.get(2).has("extensions"));
+		assertFalse(queries.isRegistered(QUERY));
+	}
+}
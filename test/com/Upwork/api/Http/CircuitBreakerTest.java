@@ -0,0 +1,128 @@
+package com.Upwork.api.Http;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpMethods;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+
+public class CircuitBreakerTest {
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+	private static void attempt(CircuitBreaker.Circuit circuit, int status, long latency) throws Exception {
+		circuit.intercept(null);
+		circuit.onAttempt(HttpMethods.GET, "/gds/timereports/v1/companies/{id}", 1, latency, status);
+	}
+
+	private static void assertOpen(CircuitBreaker breaker, String entryPoint) {
+		try {
+			breaker.check(entryPoint, "/");
+			fail("circuit is open");
+		} catch (CircuitBreakerOpenException e) {
+			assertTrue(e.getMessage().contains(entryPoint));
+		}
+	}
+
+	@Test public void opensOnFailureRate() throws Exception {
+		CircuitBreaker breaker = new CircuitBreaker(10, 4, 50, 100, 80, 60000, 1, false);
+		CircuitBreaker.Circuit gds = breaker.check("gds", "/");
+		attempt(gds, 503, FAST);
+		attempt(gds, 0, FAST);
+		attempt(gds, 200, FAST);
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState("gds"));
+
+		attempt(gds, 200, FAST);
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState("gds"));
+		assertOpen(breaker, "gds");
+
+		// other entry points are not affected
+		breaker.check("api", "/");
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getStates().get("api"));
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getStates().get("gds"));
+	}
+
+	@Test public void opensOnSlowCalls() throws Exception {
+		CircuitBreaker breaker = new CircuitBreaker(4, 4, 50, 100, 75, 60000, 1, false);
+		CircuitBreaker.Circuit gds = breaker.check("gds", "/");
+		attempt(gds, 200, SLOW);
+		attempt(gds, 200, SLOW);
+		attempt(gds, 200, FAST);
+		attempt(gds, 200, SLOW);
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState("gds"));
+	}
+
+	@Test public void windowSlides() throws Exception {
+		CircuitBreaker breaker = new CircuitBreaker(4, 4, 50, 100, 80, 60000, 1, false);
+		CircuitBreaker.Circuit api = breaker.check("api", "/");
+		attempt(api, 500, FAST);
+		for (int i = 0; i < 10; i++) {
+			attempt(api, 200, FAST);
+		}
+		attempt(api, 500, FAST);
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState("api"));
+		attempt(api, 500, FAST);
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState("api"));
+	}
+
+	@Test public void halfOpenProbes() throws Exception {
+		CircuitBreaker breaker = new CircuitBreaker(2, 2, 50, 100, 80, 50, 2, false);
+		CircuitBreaker.Circuit gds = breaker.check("gds", "/");
+		attempt(gds, 500, FAST);
+		attempt(gds, 500, FAST);
+		assertOpen(breaker, "gds");
+
+		Thread.sleep(60);
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState("gds"));
+		// a failed probe opens the circuit again
+		attempt(gds, 500, FAST);
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState("gds"));
+
+		Thread.sleep(60);
+		gds.intercept(null);
+		gds.intercept(null);
+		try {
+			gds.intercept(null);
+			fail("only two probes go");
+		} catch (CircuitBreakerOpenException e) {
+			// expected
+		}
+		gds.onAttempt(HttpMethods.GET, "/", 1, FAST, 200);
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState("gds"));
+		gds.onAttempt(HttpMethods.GET, "/", 1, FAST, 200);
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState("gds"));
+		breaker.check("gds", "/");
+	}
+
+	@Test public void perRoute() throws Exception {
+		CircuitBreaker breaker = new CircuitBreaker(1, 1, 50, 100, 80, 60000, 1, true);
+		attempt(breaker.check("gds", "/timereports/v1/companies/{id}"), 500, FAST);
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState("gds /timereports/v1/companies/{id}"));
+		breaker.check("gds", "/finreports/v2/providers/{id}/billings");
+	}
+
+	@Test public void stopsRetries() throws Exception {
+		CircuitBreaker breaker = new CircuitBreaker(2, 2, 50, 1000, 80, 60000, 1, false);
+		MockHttpTransport transport = new MockHttpTransport.Builder()
+				.setLowLevelHttpResponse(new MockLowLevelHttpResponse().setStatusCode(503))
+				.build();
+		HttpRequest request = transport.createRequestFactory().buildGetRequest(new GenericUrl("https://www.upwork.com/gds"));
+		request.setThrowExceptionOnExecuteError(false);
+		CircuitBreaker.Circuit circuit = breaker.check("gds", "/");
+		request.setInterceptor(circuit);
+		new RetryPolicy(5, 0, 0, 100).apply(request, HttpMethods.GET, "/gds", true, circuit);
+
+		try {
+			request.execute();
+			fail("third attempt hits the open circuit");
+		} catch (CircuitBreakerOpenException e) {
+			assertEquals(CircuitBreaker.State.OPEN, breaker.getState("gds"));
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.Upwork.api.Http;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DiskResponseCacheTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test public void survivesRestart() throws Exception {
+		File directory = folder.newFolder("cache");
+		new DiskResponseCache(directory, 1024 * 1024).put("key",
+				new CachedResponse("\"v1\"", "Sun, 18 Oct 2026 10:00:00 GMT", null, "{\"a\": 1}".getBytes("UTF-8")));
+
+		DiskResponseCache cache = new DiskResponseCache(directory, 1024 * 1024);
+		CachedResponse response = cache.get("key");
+		assertEquals("\"v1\"", response.getETag());
+		assertEquals("Sun, 18 Oct 2026 10:00:00 GMT", response.getLastModified());
+		assertNull(response.getCharset());
+		assertEquals("{\"a\": 1}", new String(response.getBody(), "UTF-8"));
+		assertTrue(cache.getSize() > 0);
+
+		cache.remove("key");
+		assertNull(cache.get("key"));
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test public void evictsOldest() throws Exception {
+		DiskResponseCache cache = new DiskResponseCache(folder.newFolder("cache"), 3000);
+		cache.put("a", new CachedResponse("a", null, null, new byte[1000]));
+		new File(folder.getRoot(), "cache").listFiles()[0].setLastModified(System.currentTimeMillis() - 60000);
+		cache.put("b", new CachedResponse("b", null, null, new byte[1000]));
+		cache.put("c", new CachedResponse("c", null, null, new byte[1000]));
+
+		assertNull(cache.get("a"));
+		assertNotNull(cache.get("b"));
+		assertNotNull(cache.get("c"));
+		assertTrue(cache.getSize() <= 3000);
+	}
+}
@@ -0,0 +1,140 @@
+package com.Upwork.api.Http;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.Upwork.api.Config;
+import com.Upwork.api.OAuthClient;
+import com.google.api.client.auth.oauth2.TokenResponse;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpExecuteInterceptor;
+import com.google.api.client.http.HttpMethods;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+
+public class InterceptorChainTest {
+	private final List<String> calls = new ArrayList<String>();
+	private final AtomicInteger failures = new AtomicInteger();
+	private final List<String> sentHeaders = new ArrayList<String>();
+
+	private final MockHttpTransport transport = new MockHttpTransport() {
+		@Override
+		public LowLevelHttpRequest buildRequest(String method, String url) {
+			return new MockLowLevelHttpRequest(url) {
+				@Override
+				public LowLevelHttpResponse execute() {
+					sentHeaders.add(getFirstHeaderValue("X-Trace"));
+					if (failures.getAndDecrement() > 0) {
+						return new MockLowLevelHttpResponse().setStatusCode(503);
+					}
+					return new MockLowLevelHttpResponse().setContentType("application/json").setContent("{}");
+				}
+			};
+		}
+	};
+
+	private RequestInterceptor named(String name) {
+		return new RequestInterceptor() {
+			@Override
+			public void interceptRequest(String entryPoint, String route, HttpRequest request) {
+				calls.add(name + " request " + entryPoint + " " + route);
+				request.getHeaders().set("X-Trace", name);
+			}
+
+			@Override
+			public void interceptResponse(String entryPoint, String route, HttpResponse response) {
+				calls.add(name + " response " + response.getStatusCode());
+			}
+		};
+	}
+
+	@Test public void emptyChainInstallsNothing() throws Exception {
+		HttpRequest request = transport.createRequestFactory().buildGetRequest(new GenericUrl("https://www.upwork.com/api"));
+		HttpExecuteInterceptor before = request.getInterceptor();
+		InterceptorChain.EMPTY.install(request, "api", "/");
+
+		assertSame(before, request.getInterceptor());
+		assertNull(request.getResponseInterceptor());
+	}
+
+	@Test public void callsInOrder() throws Exception {
+		InterceptorChain chain = InterceptorChain.EMPTY.with(named("a")).with(named("b"));
+		HttpRequest request = transport.createRequestFactory().buildGetRequest(new GenericUrl("https://www.upwork.com/api"));
+		chain.install(request, "api", "/auth/v1/info");
+		request.execute();
+
+		assertEquals("[a request api /auth/v1/info, b request api /auth/v1/info, b response 200, a response 200]", calls.toString());
+		assertEquals("[b]", sentHeaders.toString());
+	}
+
+	@Test public void callsForEachAttempt() throws Exception {
+		failures.set(1);
+		InterceptorChain chain = InterceptorChain.EMPTY.with(named("a"));
+		HttpRequest request = transport.createRequestFactory().buildGetRequest(new GenericUrl("https://www.upwork.com/api"));
+		chain.install(request, "api", "/");
+		new RetryPolicy(3, 0, 0, 100).apply(request, HttpMethods.GET, "/api/", true);
+		request.execute();
+
+		assertEquals("[a request api /, a response 503, a request api /, a response 200]", calls.toString());
+	}
+
+	@Test public void failsAttempt() throws Exception {
+		InterceptorChain chain = InterceptorChain.EMPTY.with(new RequestInterceptor() {
+			@Override
+			public void interceptRequest(String entryPoint, String route, HttpRequest request) throws IOException {
+				throw new IOException("throttled");
+			}
+		});
+		HttpRequest request = transport.createRequestFactory().buildGetRequest(new GenericUrl("https://www.upwork.com/api"));
+		chain.install(request, "api", "/");
+		try {
+			request.execute();
+			fail("Failure expected");
+		} catch (IOException e) {
+			assertEquals("throttled", e.getMessage());
+			assertTrue(sentHeaders.isEmpty());
+		}
+	}
+
+	@Test public void removes() {
+		RequestInterceptor a = named("a");
+		RequestInterceptor b = named("b");
+		InterceptorChain chain = InterceptorChain.EMPTY.with(a).with(b).with(a);
+
+		assertEquals(3, chain.getInterceptors().size());
+		assertSame(b, chain.without(a).getInterceptors().get(0));
+		assertSame(InterceptorChain.EMPTY, InterceptorChain.EMPTY.with(b).without(b));
+		assertSame(chain, chain.without(named("c")));
+	}
+
+	@Test public void registeredOnClient() throws Exception {
+		Properties properties = new Properties();
+		properties.setProperty("clientId", "key");
+		properties.setProperty("clientSecret", "secret");
+		OAuthClient client = new OAuthClient(new Config(properties), transport);
+		client.setTokenResponse(new TokenResponse().setAccessToken("token").setExpiresInSeconds(3600L), null);
+		RequestInterceptor a = named("a");
+		client.addInterceptor(a);
+
+		client.forEntryPoint("gds").get("/timereports/v1/companies/12345", new HashMap<String, String>());
+		client.removeInterceptor(a);
+		client.get("/auth/v1/info", new HashMap<String, String>());
+		client.close();
+
+		assertEquals("[a request gds /timereports/v1/companies/{id}, a response 200]", calls.toString());
+		assertEquals("[a, null]", sentHeaders.toString());
+	}
+}
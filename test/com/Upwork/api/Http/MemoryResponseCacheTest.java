@@ -0,0 +1,67 @@
+package com.Upwork.api.Http;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class MemoryResponseCacheTest {
+	private static CachedResponse response(int length) {
+		return new CachedResponse("\"v1\"", null, "UTF-8", new byte[length]);
+	}
+
+	@Test public void evictsLeastRecentlyUsed() throws Exception {
+		long entrySize = response(100).getSize();
+		MemoryResponseCache cache = new MemoryResponseCache(entrySize * 2);
+		cache.put("a", response(100));
+		cache.put("b", response(100));
+		assertNotNull(cache.get("a"));
+
+		cache.put("c", response(100));
+		assertNotNull(cache.get("a"));
+		assertNull("least recently used is evicted", cache.get("b"));
+		assertNotNull(cache.get("c"));
+		assertEquals(entrySize * 2, cache.getSize());
+	}
+
+	@Test public void skipsOversizedResponses() throws Exception {
+		MemoryResponseCache cache = new MemoryResponseCache(50);
+		cache.put("a", response(100));
+
+		assertNull(cache.get("a"));
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test public void usesSecondTier() throws Exception {
+		final Map<String, CachedResponse> disk = new HashMap<String, CachedResponse>();
+		ResponseCache secondTier = new ResponseCache() {
+			@Override
+			public CachedResponse get(String key) {
+				return disk.get(key);
+			}
+
+			@Override
+			public void put(String key, CachedResponse response) {
+				disk.put(key, response);
+			}
+
+			@Override
+			public void remove(String key) {
+				disk.remove(key);
+			}
+		};
+		MemoryResponseCache cache = new MemoryResponseCache(10000, secondTier);
+		cache.put("a", response(10));
+		assertTrue(disk.containsKey("a"));
+
+		disk.put("b", response(20));
+		assertEquals(20, cache.get("b").getBody().length);
+		disk.clear();
+		assertNotNull("promoted to memory", cache.get("b"));
+
+		cache.remove("b");
+		assertNull(cache.get("b"));
+	}
+}
@@ -0,0 +1,88 @@
+package com.Upwork.api.Http;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.http.HttpResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+public class PooledHttpTransportTest {
+	private HttpServer server;
+	private final Set<Integer> clientPorts = Collections.synchronizedSet(new HashSet<Integer>());
+
+	@Before
+	public void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				clientPorts.add(exchange.getRemoteAddress().getPort());
+				byte[] body = "{\"key\": \"value\"}".getBytes("UTF-8");
+				exchange.sendResponseHeaders(200, body.length);
+				OutputStream out = exchange.getResponseBody();
+				out.write(body);
+				out.close();
+			}
+		});
+		server.start();
+	}
+
+	@After
+	public void tearDown() {
+		server.stop(0);
+	}
+
+	private GenericUrl url() {
+		return new GenericUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/api/test.json");
+	}
+
+	@Test public void reusesConnections() throws Exception {
+		PooledHttpTransport transport = new PooledHttpTransport(4, 2, 300000, 0, 0);
+		HttpRequestFactory factory = transport.createRequestFactory();
+
+		for (int i = 0; i < 5; i++) {
+			HttpResponse response = factory.buildGetRequest(url()).execute();
+			assertEquals("{\"key\": \"value\"}", response.parseAsString());
+			response.ignore();
+		}
+
+		assertEquals("single keep-alive connection", 1, clientPorts.size());
+		assertEquals("all leases released", 4, transport.getAvailableConnections());
+	}
+
+	@Test public void leaseReleasedOnDisconnect() throws Exception {
+		PooledHttpTransport transport = new PooledHttpTransport(1, 1, 0, 0, 1000);
+		HttpRequestFactory factory = transport.createRequestFactory();
+
+		HttpResponse response = factory.buildGetRequest(url()).execute();
+		assertEquals(0, transport.getAvailableConnections());
+		response.disconnect();
+		assertEquals(1, transport.getAvailableConnections());
+
+		factory.buildGetRequest(url()).execute().ignore();
+		assertEquals(1, transport.getAvailableConnections());
+	}
+
+	@Test(expected = IOException.class)
+	public void poolTimeout() throws Exception {
+		PooledHttpTransport transport = new PooledHttpTransport(1, 1, 0, 0, 50);
+		HttpRequestFactory factory = transport.createRequestFactory();
+
+		factory.buildGetRequest(url()).execute();
+		factory.buildGetRequest(url()).execute();
+	}
+}
@@ -0,0 +1,139 @@
+package com.Upwork.api.Http;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpMethods;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponseInterceptor;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+
+public class RateLimiterTest {
+	@Test public void pacesRequests() throws Exception {
+		RateLimiter limiter = new RateLimiter(50, 2, 0);
+		long start = System.nanoTime();
+		for (int i = 0; i < 7; i++) {
+			limiter.acquire("tenant api /hr/v2/engagements");
+		}
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// burst of 2 goes at once, the other 5 are 20 ms apart
+		assertTrue("elapsed " + elapsed, elapsed >= 90);
+		assertTrue("elapsed " + elapsed, elapsed < 1000);
+	}
+
+	@Test public void keysAreIndependent() throws Exception {
+		RateLimiter limiter = new RateLimiter(1, 1, 100);
+		limiter.acquire("a");
+		limiter.acquire("b");
+
+		try {
+			limiter.acquire("a");
+			fail("slot is further than max wait");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("exceeds"));
+		}
+	}
+
+	@Test public void pausesOnTooManyRequests() throws Exception {
+		RateLimiter limiter = new RateLimiter(1000, 10, 0);
+		MockHttpTransport transport = new MockHttpTransport.Builder()
+				.setLowLevelHttpResponse(new MockLowLevelHttpResponse().setStatusCode(429).addHeader("Retry-After", "1"))
+				.build();
+		HttpRequest request = transport.createRequestFactory().buildGetRequest(new GenericUrl("https://www.upwork.com/api"));
+		request.setThrowExceptionOnExecuteError(false);
+		request.setResponseInterceptor(limiter.acquire("key"));
+		request.execute();
+
+		long start = System.nanoTime();
+		limiter.acquire("key");
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		assertTrue("elapsed " + elapsed, elapsed >= 900);
+	}
+
+	@Test public void spacesQueuedRequestsAfterPause() throws Exception {
+		RateLimiter limiter = new RateLimiter(10, 1, 0);
+		HttpResponseInterceptor first = limiter.acquire("key");
+		List<Long> done = Collections.synchronizedList(new ArrayList<Long>());
+		List<Thread> queued = new ArrayList<Thread>();
+		for (int i = 0; i < 3; i++) {
+			Thread thread = new Thread(() -> {
+				try {
+					limiter.acquire("key");
+					done.add(System.nanoTime());
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			thread.start();
+			queued.add(thread);
+		}
+		Thread.sleep(50);
+
+		MockHttpTransport transport = new MockHttpTransport.Builder()
+				.setLowLevelHttpResponse(new MockLowLevelHttpResponse().setStatusCode(429).addHeader("Retry-After", "1"))
+				.build();
+		HttpRequest request = transport.createRequestFactory().buildGetRequest(new GenericUrl("https://www.upwork.com/api"));
+		request.setThrowExceptionOnExecuteError(false);
+		request.setResponseInterceptor(first);
+		request.execute();
+		for (Thread thread : queued) {
+			thread.join(5000);
+		}
+
+		assertEquals(3, done.size());
+		Collections.sort(done);
+		for (int i = 1; i < done.size(); i++) {
+			long gap = TimeUnit.NANOSECONDS.toMillis(done.get(i) - done.get(i - 1));
+			assertTrue("gap " + gap, gap >= 80);
+		}
+	}
+
+	@Test public void retriesWaitOutPause() throws Exception {
+		RateLimiter limiter = new RateLimiter(1000, 10, 0);
+		RetryPolicy policy = new RetryPolicy(3, 1, 5, 100);
+		List<Long> sent = Collections.synchronizedList(new ArrayList<Long>());
+		MockHttpTransport transport = new MockHttpTransport() {
+			@Override
+			public LowLevelHttpRequest buildRequest(String method, String url) {
+				return new MockLowLevelHttpRequest() {
+					@Override
+					public LowLevelHttpResponse execute() {
+						sent.add(System.nanoTime());
+						// throttled without Retry-After, the limiter pauses for its default
+						return new MockLowLevelHttpResponse().setStatusCode(sent.size() == 1 ? 429 : 200);
+					}
+				};
+			}
+		};
+		HttpRequest request = transport.createRequestFactory().buildGetRequest(new GenericUrl("https://www.upwork.com/api"));
+		request.setThrowExceptionOnExecuteError(false);
+		limiter.apply(request, "key");
+		policy.apply(request, HttpMethods.GET, "/api", true);
+
+		assertEquals(200, request.execute().getStatusCode());
+		assertEquals(2, sent.size());
+		long gap = TimeUnit.NANOSECONDS.toMillis(sent.get(1) - sent.get(0));
+		assertTrue("gap " + gap, gap >= RateLimiter.DEFAULT_PAUSE - 100);
+	}
+
+	@Test public void parseRetryAfter() throws Exception {
+		assertEquals(120000, RateLimiter.parseRetryAfter(" 120", 0));
+		assertEquals(30000, RateLimiter.parseRetryAfter("Sun, 18 Oct 2026 10:00:30 GMT",
+				RateLimiter.parseRetryAfter("Sun, 18 Oct 2026 10:00:00 GMT", 0)));
+		assertEquals(-1, RateLimiter.parseRetryAfter("soon", 0));
+	}
+}
@@ -0,0 +1,144 @@
+package com.Upwork.api.Http;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import com.Upwork.api.Config;
+import com.google.api.client.http.ByteArrayContent;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpMethods;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+
+public class RetryPolicyTest {
+	private static final String URL = "https://www.upwork.com/api/hr/v2/engagements.json";
+
+	/** Transport answering with the given statuses in turn, 0 - connection failure */
+	private static final class ScriptedTransport extends MockHttpTransport {
+		private final int[] statuses;
+		int calls;
+
+		ScriptedTransport(int... statuses) {
+			this.statuses = statuses;
+		}
+
+		@Override
+		public LowLevelHttpRequest buildRequest(String method, String url) {
+			return new MockLowLevelHttpRequest() {
+				@Override
+				public LowLevelHttpResponse execute() throws IOException {
+					int status = statuses[Math.min(calls++, statuses.length - 1)];
+					if (status == 0) {
+						throw new IOException("Connection reset");
+					}
+					return new MockLowLevelHttpResponse().setStatusCode(status).setContent("{}");
+				}
+			};
+		}
+	}
+
+	private static HttpResponse send(RetryPolicy policy, ScriptedTransport transport, String method,
+			boolean idempotent) throws IOException {
+		HttpRequest request = transport.createRequestFactory().buildRequest(method, new GenericUrl(URL),
+				HttpMethods.GET.equals(method) ? null : ByteArrayContent.fromString("application/json", "{}"));
+		request.setThrowExceptionOnExecuteError(false);
+		policy.apply(request, method, "/api/hr/v2/engagements", idempotent);
+		return request.execute();
+	}
+
+	@Test public void retriesIdempotentRequests() throws Exception {
+		RetryPolicy policy = new RetryPolicy(3, 1, 5, 10);
+		List<Integer> statuses = new ArrayList<Integer>();
+		policy.setAttemptListener((method, route, attempt, latency, status) -> {
+			assertEquals(statuses.size() + 1, attempt);
+			assertTrue(latency >= 0);
+			statuses.add(status);
+		});
+
+		ScriptedTransport transport = new ScriptedTransport(0, 503, 200);
+		assertEquals(200, send(policy, transport, HttpMethods.GET, true).getStatusCode());
+		assertEquals(3, transport.calls);
+		assertEquals(Arrays.asList(0, 503, 200), statuses);
+	}
+
+	@Test public void leavesOtherRequestsAlone() throws Exception {
+		RetryPolicy policy = new RetryPolicy(3, 1, 5, 10);
+
+		ScriptedTransport post = new ScriptedTransport(503, 200);
+		assertEquals(503, send(policy, post, HttpMethods.POST, false).getStatusCode());
+		assertEquals(1, post.calls);
+
+		ScriptedTransport failed = new ScriptedTransport(0, 200);
+		try {
+			send(policy, failed, HttpMethods.POST, false);
+			fail("connection failure is not retried");
+		} catch (IOException e) {
+			assertEquals(1, failed.calls);
+		}
+
+		ScriptedTransport notFound = new ScriptedTransport(404, 200);
+		assertEquals(404, send(policy, notFound, HttpMethods.GET, true).getStatusCode());
+		assertEquals(1, notFound.calls);
+	}
+
+	@Test public void stopsAfterMaxAttempts() throws Exception {
+		ScriptedTransport transport = new ScriptedTransport(500);
+		assertEquals(500, send(new RetryPolicy(4, 1, 5, 10), transport, HttpMethods.PUT, true).getStatusCode());
+		assertEquals(4, transport.calls);
+	}
+
+	@Test public void retriesWithinBudget() throws Exception {
+		RetryPolicy policy = new RetryPolicy(2, 0, 0, 50);
+		ScriptedTransport transport = new ScriptedTransport(503);
+		for (int i = 0; i < RetryPolicy.BUDGET_RESERVE; i++) {
+			send(policy, transport, HttpMethods.GET, true);
+		}
+		assertEquals(2 * RetryPolicy.BUDGET_RESERVE, transport.calls);
+
+		// once the reserve is spent, each request earns half a retry
+		transport.calls = 0;
+		for (int i = 0; i < 100; i++) {
+			send(policy, transport, HttpMethods.GET, true);
+		}
+		assertTrue("calls " + transport.calls, transport.calls >= 150 && transport.calls <= 160);
+	}
+
+	@Test public void backoffHasFullJitter() {
+		RetryPolicy policy = new RetryPolicy(10, 100, 1000, 10);
+		long max = 0;
+		for (int i = 0; i < 1000; i++) {
+			long delay = policy.backoff(3);
+			assertTrue("delay " + delay, delay >= 0 && delay <= 400);
+			max = Math.max(max, delay);
+			assertTrue(policy.backoff(40) <= 1000);
+		}
+		assertTrue("max " + max, max > 200);
+	}
+
+	@Test public void isRetryable() {
+		assertTrue(RetryPolicy.isRetryable(429));
+		assertTrue(RetryPolicy.isRetryable(503));
+		assertFalse(RetryPolicy.isRetryable(501));
+		assertFalse(RetryPolicy.isRetryable(400));
+	}
+
+	@Test public void retriesAreOptIn() {
+		Properties properties = new Properties();
+		assertNull(RetryPolicy.create(new Config(properties)));
+
+		properties.setProperty("retryMaxAttempts", "3");
+		assertNotNull(RetryPolicy.create(new Config(properties)));
+	}
+}
@@ -0,0 +1,24 @@
+package com.Upwork.api.Http;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class RouteTemplateTest {
+	@Test public void replacesIds() throws Exception {
+		assertEquals("/hr/v2/engagements/{id}", RouteTemplate.of("/hr/v2/engagements/12345"));
+		assertEquals("/profiles/v1/jobs/{id}", RouteTemplate.of("/profiles/v1/jobs/~0123abc"));
+		assertEquals("/messages/v3/{id}/rooms/{id}/stories",
+				RouteTemplate.of("/messages/v3/company1/rooms/room:42/stories"));
+		assertEquals("/team/v3/snapshots/{id}/{id}/{id}",
+				RouteTemplate.of("/team/v3/snapshots/abcdefghijklmnopqrstuvwxyz/j.doe/1500000000"));
+	}
+
+	@Test public void keepsNames() throws Exception {
+		String path = "/profiles/v2/search/jobs";
+
+		assertSame(path, RouteTemplate.of(path));
+		assertEquals("/auth/v1/info", RouteTemplate.of("/auth/v1/info?q=1"));
+		assertEquals("", RouteTemplate.of(""));
+	}
+}
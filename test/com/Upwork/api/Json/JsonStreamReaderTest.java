@@ -0,0 +1,77 @@
+package com.Upwork.api.Json;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class JsonStreamReaderTest {
+	private static final String REPORT = "{\"table\": {\"cols\": [{\"label\": \"hours\"}],"
+			+ " \"rows\": [{\"c\": [{\"v\": 1}]}, {\"c\": [{\"v\": 2.5}]}, {\"c\": [{\"v\": null}]}]},"
+			+ " \"status\": \"ok\"}";
+
+	private static InputStream stream(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test public void readObjectMatchesOrgJson() throws Exception {
+		String text = "{\"a\": 1, \"b\": 12345678901, \"c\": 1.5, \"d\": \"\\u00e9\", \"e\": null,"
+				+ " \"f\": [1, {\"g\": true}], \"h\": 123456789012345678901234}";
+		JSONObject expected = new JSONObject(text);
+		JSONObject json = JsonStreamReader.readObject(stream(text), null);
+
+		for (String key : new String[] {"a", "b", "c", "d", "e", "h"}) {
+			assertEquals(key, expected.get(key), json.get(key));
+		}
+		assertEquals(expected.getJSONArray("f").toString(), json.getJSONArray("f").toString());
+	}
+
+	@Test public void readObjectWithHandler() throws Exception {
+		final List<JSONObject> rows = new ArrayList<JSONObject>();
+		JSONObject rest = JsonStreamReader.readObject(stream(REPORT), null, new JsonRecordHandler() {
+			@Override
+			public void onRecord(JSONObject record) {
+				rows.add(record);
+			}
+		}, "table", "rows");
+
+		assertEquals(3, rows.size());
+		assertEquals(2.5, rows.get(1).getJSONArray("c").getJSONObject(0).getDouble("v"), 0);
+		assertEquals(0, rest.getJSONObject("table").getJSONArray("rows").length());
+		assertEquals("hours", rest.getJSONObject("table").getJSONArray("cols").getJSONObject(0).getString("label"));
+		assertEquals("ok", rest.getString("status"));
+	}
+
+	@Test public void iterate() throws Exception {
+		final AtomicBoolean released = new AtomicBoolean();
+		JsonRecordIterator rows = JsonStreamReader.iterate(stream(REPORT), StandardCharsets.UTF_8, new Closeable() {
+			@Override
+			public void close() throws IOException {
+				released.set(true);
+			}
+		}, "table", "rows");
+
+		assertTrue(rows.hasNext());
+		assertEquals(1, rows.next().getJSONArray("c").getJSONObject(0).getInt("v"));
+		assertFalse(released.get());
+		rows.next();
+		assertTrue(rows.next().getJSONArray("c").getJSONObject(0).isNull("v"));
+		assertFalse(rows.hasNext());
+		assertTrue("released once read to the end", released.get());
+	}
+
+	@Test public void iterateMissingArray() throws Exception {
+		JsonRecordIterator rows = JsonStreamReader.iterate(stream(REPORT), null, null, "table", "missing");
+
+		assertFalse(rows.hasNext());
+	}
+}
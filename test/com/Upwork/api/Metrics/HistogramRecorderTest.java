@@ -0,0 +1,34 @@
+package com.Upwork.api.Metrics;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class HistogramRecorderTest {
+	@Test public void keepsHistogramPerStatusClass() {
+		HistogramRecorder recorder = new HistogramRecorder();
+		recorder.record(Metric.LATENCY, "api", "/hr/v2/engagements", 200, 10);
+		recorder.record(Metric.LATENCY, "api", "/hr/v2/engagements", 204, 20);
+		recorder.record(Metric.LATENCY, "api", "/hr/v2/engagements", 503, 30);
+		recorder.record(Metric.LATENCY, "api", "/hr/v2/engagements", 0, 40);
+
+		assertEquals(2, recorder.getHistogram(Metric.LATENCY, "api", "/hr/v2/engagements", 2).getCount());
+		assertEquals(30, recorder.getHistogram(Metric.LATENCY, "api", "/hr/v2/engagements", 5).getMax());
+		assertEquals(40, recorder.getHistogram(Metric.LATENCY, "api", "/hr/v2/engagements", 0).getMax());
+		assertNull(recorder.getHistogram(Metric.LATENCY, "api", "/hr/v2/engagements", 4));
+		assertNull(recorder.getHistogram(Metric.BODY_BYTES, "api", "/hr/v2/engagements", 2));
+		assertNull(recorder.getHistogram(Metric.LATENCY, "gds", "/hr/v2/engagements", 2));
+	}
+
+	@Test public void listsHistograms() {
+		HistogramRecorder recorder = new HistogramRecorder();
+		recorder.record(Metric.TIME_TO_FIRST_BYTE, "gds", "/timereports/v1/companies/{id}", 200, 1);
+		recorder.record(Metric.QUEUE_WAIT, "api", "/auth/v1/info", 0, 1);
+
+		Map<String, Histogram> histograms = recorder.getHistograms();
+		assertEquals("[queue_wait api /auth/v1/info none, time_to_first_byte gds /timereports/v1/companies/{id} 2xx]",
+				histograms.keySet().toString());
+	}
+}
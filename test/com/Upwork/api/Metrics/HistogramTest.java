@@ -0,0 +1,65 @@
+package com.Upwork.api.Metrics;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class HistogramTest {
+	@Test public void bucketsAreContiguous() {
+		for (long value : new long[] { 0, 1, 31, 32, 33, 63, 64, 1000, 123456789L, Long.MAX_VALUE / 3 }) {
+			int index = Histogram.index(value);
+			assertTrue(value + " fits its bucket", value <= Histogram.highestEquivalent(index));
+			if (index > 0) {
+				assertTrue(value + " above the previous bucket", value > Histogram.highestEquivalent(index - 1));
+			}
+		}
+		assertEquals(Long.MAX_VALUE, Histogram.highestEquivalent(Histogram.index(Long.MAX_VALUE)));
+	}
+
+	@Test public void percentiles() {
+		Histogram histogram = new Histogram();
+		for (long i = 1; i <= 10000; i++) {
+			histogram.record(i * 1000);
+		}
+
+		assertEquals(10000, histogram.getCount());
+		assertEquals(10000000, histogram.getMax());
+		assertEquals(5000500, histogram.getMean(), 0.001);
+		long p50 = histogram.getValueAtPercentile(50);
+		long p99 = histogram.getValueAtPercentile(99);
+		assertTrue("p50 " + p50, p50 >= 5000000 && p50 <= 5000000 * 33 / 32);
+		assertTrue("p99 " + p99, p99 >= 9900000 && p99 <= 9900000 * 33 / 32);
+		assertEquals(10000000, histogram.getValueAtPercentile(100));
+		assertEquals(0, new Histogram().getValueAtPercentile(99));
+	}
+
+	@Test public void smallValuesAreExact() {
+		Histogram histogram = new Histogram();
+		histogram.record(3);
+		histogram.record(-5);
+
+		assertEquals(0, histogram.getValueAtPercentile(50));
+		assertEquals(3, histogram.getValueAtPercentile(100));
+	}
+
+	@Test public void concurrentRecording() throws Exception {
+		Histogram histogram = new Histogram();
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		for (int t = 0; t < 4; t++) {
+			pool.execute(() -> {
+				for (int i = 0; i < 100000; i++) {
+					histogram.record(i);
+				}
+			});
+		}
+		pool.shutdown();
+		assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(400000, histogram.getCount());
+		assertEquals(99999, histogram.getMax());
+	}
+}
@@ -0,0 +1,158 @@
+package com.Upwork.api.Metrics;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.Upwork.api.Config;
+import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Http.PooledHttpTransport;
+import com.google.api.client.auth.oauth2.TokenResponse;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.sun.net.httpserver.HttpServer;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrEventsTest {
+	private static final String BODY = "{\"engagements\": []}";
+	private static final String TOKEN = "{\"access_token\": \"new\", \"refresh_token\": \"refresh\", \"expires_in\": 3600}";
+
+	private final MockHttpTransport transport = new MockHttpTransport() {
+		@Override
+		public LowLevelHttpRequest buildRequest(String method, String url) {
+			return new MockLowLevelHttpRequest(url) {
+				@Override
+				public LowLevelHttpResponse execute() {
+					return new MockLowLevelHttpResponse().setContentType("application/json")
+							.setContent(url.contains("oauth2/token") ? TOKEN : BODY);
+				}
+			};
+		}
+	};
+	private Recording recording;
+	private OAuthClient client;
+
+	@Before
+	public void setUp() throws IOException {
+		Assume.assumeTrue(JfrEvents.AVAILABLE);
+		Properties properties = new Properties();
+		properties.setProperty("clientId", "key");
+		properties.setProperty("clientSecret", "secret");
+		client = new OAuthClient(new Config(properties), transport);
+		recording = new Recording();
+	}
+
+	@After
+	public void tearDown() {
+		if (recording != null) {
+			recording.close();
+		}
+		if (client != null) {
+			client.close();
+		}
+	}
+
+	private List<RecordedEvent> stop(String name) throws IOException {
+		recording.stop();
+		Path file = Files.createTempFile("upwork", ".jfr");
+		try {
+			recording.dump(file);
+			List<RecordedEvent> events = new ArrayList<RecordedEvent>();
+			for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+				if (event.getEventType().getName().equals(name)) {
+					events.add(event);
+				}
+			}
+			return events;
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test public void recordsExchanges() throws Exception {
+		client.setTokenResponse(new TokenResponse().setAccessToken("token").setExpiresInSeconds(3600L), null);
+		recording.enable(ExchangeEvent.class);
+		recording.start();
+		client.get("/hr/v2/engagements/12345", new HashMap<String, String>());
+
+		List<RecordedEvent> events = stop("com.Upwork.api.Exchange");
+		assertEquals(1, events.size());
+		RecordedEvent event = events.get(0);
+		assertEquals("api", event.getString("entryPoint"));
+		assertEquals("/hr/v2/engagements/{id}", event.getString("route"));
+		assertEquals("GET", event.getString("method"));
+		assertEquals(200, event.getInt("statusCode"));
+		assertEquals(BODY.length(), event.getLong("bodyBytes"));
+		assertEquals(1, event.getInt("attempts"));
+		assertFalse(event.getDuration().isNegative());
+	}
+
+	@Test public void recordsTokenRefresh() throws Exception {
+		recording.enable(TokenRefreshEvent.class);
+		recording.start();
+		client.setTokenResponse(new TokenResponse().setAccessToken("old").setRefreshToken("refresh")
+				.setExpiresInSeconds(0L), null);
+
+		List<RecordedEvent> events = stop("com.Upwork.api.TokenRefresh");
+		assertEquals(1, events.size());
+		assertEquals("refresh_token", events.get(0).getString("grantType"));
+		assertEquals(200, events.get(0).getInt("statusCode"));
+	}
+
+	@Test public void recordsConnectionWait() throws Exception {
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", exchange -> {
+			byte[] body = BODY.getBytes("UTF-8");
+			exchange.sendResponseHeaders(200, body.length);
+			OutputStream out = exchange.getResponseBody();
+			out.write(body);
+			out.close();
+		});
+		server.start();
+		try {
+			PooledHttpTransport pooled = new PooledHttpTransport(1, 1, 0, 0, 100);
+			GenericUrl url = new GenericUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/api/test.json");
+			recording.enable(ConnectionWaitEvent.class).withThreshold(Duration.ZERO);
+			recording.start();
+			pooled.createRequestFactory().buildGetRequest(url).execute().disconnect();
+
+			List<RecordedEvent> events = stop("com.Upwork.api.ConnectionWait");
+			assertEquals(1, events.size());
+			assertEquals("http://127.0.0.1:" + server.getAddress().getPort(), events.get(0).getString("host"));
+			assertTrue(events.get(0).getBoolean("acquired"));
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test public void skipsDisabledEvents() throws Exception {
+		client.setTokenResponse(new TokenResponse().setAccessToken("token").setExpiresInSeconds(3600L), null);
+		recording.disable(ExchangeEvent.class);
+		recording.start();
+		assertFalse(ExchangeEvent.enabled());
+		client.get("/hr/v2/engagements/12345", new HashMap<String, String>());
+
+		assertTrue(stop("com.Upwork.api.Exchange").isEmpty());
+	}
+}
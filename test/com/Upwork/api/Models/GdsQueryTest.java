@@ -0,0 +1,58 @@
+package com.Upwork.api.Models;
+
+import static org.junit.Assert.*;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+import com.google.api.client.http.GenericUrl;
+
+public class GdsQueryTest {
+	private static final GdsQuery HOURS = GdsQuery.select("worked_on", "assignment_ref", "hours")
+			.whereBetween("worked_on", GdsQuery.PARAM, GdsQuery.PARAM)
+			.where("assignment_ref", GdsQuery.Operator.EQ, GdsQuery.PARAM)
+			.orderBy("worked_on")
+			.orderBy("hours", true)
+			.compile();
+
+	@Test public void rendersQuery() {
+		assertEquals(3, HOURS.getParamCount());
+		assertEquals("SELECT worked_on, assignment_ref, hours WHERE worked_on >= '2014-01-01' AND worked_on <= '2014-01-31'"
+				+ " AND assignment_ref = \"O'Brien\" ORDER BY worked_on, hours DESC",
+				HOURS.toText(LocalDate.of(2014, 1, 1), LocalDate.of(2014, 1, 31), "O'Brien"));
+
+		GdsQuery fixed = GdsQuery.select("hours").where("hours", GdsQuery.Operator.GT, 1.5).compile();
+		assertEquals("SELECT hours WHERE hours > 1.5", fixed.toText());
+		assertEquals("tq", fixed.params().keySet().iterator().next());
+	}
+
+	@Test public void paramsSurviveUrlEncoding() {
+		Object[] values = {LocalDate.of(2014, 1, 1), LocalDate.of(2014, 1, 31), "a&b=c d+e"};
+		GenericUrl url = new GenericUrl("https://www.upwork.com/gds/timereports/v1/companies/1");
+		url.putAll(HOURS.params(values));
+
+		assertEquals(HOURS.toText(values), new GenericUrl(url.build()).getFirst("tq"));
+	}
+
+	@Test public void rejectsInvalidInput() {
+		try {
+			HOURS.toText(LocalDate.of(2014, 1, 1));
+			fail("values are missing");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("3"));
+		}
+		try {
+			GdsQuery.select("hours; DROP");
+			fail("column name is checked");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			GdsQuery.literal("both ' and \"");
+			fail("value can not be quoted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+}
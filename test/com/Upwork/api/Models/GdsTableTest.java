@@ -0,0 +1,94 @@
+package com.Upwork.api.Models;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+public class GdsTableTest {
+	private static GdsTable parse(String json) throws Exception {
+		return ModelParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), null, GdsTable.READER);
+	}
+
+	@Test public void decodesColumns() throws Exception {
+		GdsTable table = parse("{\"server_time\": 1404219423, \"table\": {"
+				+ "\"cols\": [{\"type\": \"date\", \"label\": \"worked_on\"}, {\"type\": \"string\", \"label\": \"assignment_ref\"},"
+				+ " {\"type\": \"number\", \"label\": \"hours\"}, {\"type\": \"number\", \"label\": \"charges\"}],"
+				+ "\"rows\": ["
+				+ "{\"c\": [{\"v\": \"20140102\"}, {\"v\": \"1234\"}, {\"v\": \"1.5\"}, {\"v\": 30}]},"
+				+ "{\"c\": [{\"v\": \"2014-01-03\"}, {\"v\": \"5678\"}, {\"v\": 2.25}, {\"v\": \"\"}]},"
+				+ "{\"c\": [{\"v\": \"bad\"}, {\"v\": \"1234\"}, {}, {\"v\": \"45.0\"}, {\"v\": \"extra\"}]},"
+				+ "{\"c\": [{\"v\": null}]}"
+				+ "]}}");
+
+		assertEquals(4, table.getRowCount());
+		assertEquals(4, table.getColumns().size());
+
+		GdsTable.Column date = table.getColumn("worked_on");
+		assertEquals(GdsTable.Type.DATE, date.getType());
+		assertArrayEquals(new long[] {
+				LocalDate.of(2014, 1, 2).toEpochDay(), LocalDate.of(2014, 1, 3).toEpochDay(), GdsTable.NO_DATE, GdsTable.NO_DATE
+		}, date.getEpochDays());
+		assertEquals("2014-01-02", date.getText(0));
+
+		GdsTable.Column ref = table.getColumn("assignment_ref");
+		assertArrayEquals(new int[] {0, 1, 0, -1}, ref.getCodes());
+		assertEquals("[1234, 5678]", ref.getDictionary().toString());
+		assertEquals("5678", ref.getText(1));
+		assertNull(ref.getText(3));
+
+		GdsTable.Column hours = table.getColumn("hours");
+		assertArrayEquals(new double[] {1.5, 2.25, Double.NaN, Double.NaN}, hours.getNumbers(), 0);
+		assertEquals(3.75, hours.sum(), 0);
+		assertEquals(75.0, table.getColumn("charges").sum(), 0);
+
+		assertNull(table.getColumn("memo"));
+	}
+
+	@Test public void checksColumnType() throws Exception {
+		GdsTable table = parse("{\"table\": {\"cols\": [{\"type\": \"string\", \"label\": \"memo\"}], \"rows\": []}}");
+		try {
+			table.getColumn("memo").getNumbers();
+			fail("memo is not a number column");
+		} catch (IllegalStateException e) {
+			assertTrue(e.getMessage().contains("memo"));
+		}
+	}
+
+	@Test public void growsColumns() throws Exception {
+		StringBuilder json = new StringBuilder("{\"table\": {\"cols\": [{\"type\": \"number\", \"label\": \"hours\"}], \"rows\": [");
+		for (int i = 0; i < 1000; i++) {
+			json.append(i == 0 ? "" : ",").append("{\"c\": [{\"v\": \"").append(i).append("\"}]}");
+		}
+		GdsTable table = parse(json.append("]}}").toString());
+
+		assertEquals(1000, table.getRowCount());
+		assertEquals(1000, table.getColumn("hours").getNumbers().length);
+		assertEquals(999 * 1000 / 2, table.getColumn("hours").sum(), 0);
+	}
+
+	@Test public void emptyResponse() throws Exception {
+		assertEquals(0, parse("{\"error\": {}}").getRowCount());
+	}
+
+	@Test public void emptyReport() throws Exception {
+		assertEquals(0, parse("{\"table\": {\"cols\": [], \"rows\": []}}").getRowCount());
+		assertEquals(0, parse("{\"table\": {\"rows\": []}}").getRowCount());
+		try {
+			parse("{\"table\": {\"rows\": [{\"c\": [{\"v\": \"1\"}]}]}}");
+			fail("rows need columns");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("precede"));
+		}
+	}
+
+	@Test public void parseDate() {
+		assertEquals(LocalDate.of(2016, 2, 29).toEpochDay(), GdsTable.Column.parseDate("20160229"));
+		assertEquals(GdsTable.NO_DATE, GdsTable.Column.parseDate("20150229"));
+		assertEquals(GdsTable.NO_DATE, GdsTable.Column.parseDate("2016/02/29"));
+	}
+}
@@ -0,0 +1,37 @@
+package com.Upwork.api.Models;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class ModelParserTest {
+	private static <T> T parse(String json, ModelReader<T> reader) throws Exception {
+		return ModelParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), null, reader);
+	}
+
+	@Test public void nested() throws Exception {
+		Room room = parse("{\"before\": {\"room\": {\"roomId\": \"x\"}}, \"room\": {\"roomId\": \"42\", \"numUnread\": \"3\","
+				+ " \"readOnly\": true}, \"after\": [1]}", ModelParser.nested(Room.READER, "room"));
+
+		assertEquals("42", room.getId());
+		assertEquals(Long.valueOf(3), room.getNumUnread());
+		assertTrue(room.isReadOnly());
+	}
+
+	@Test public void nestedMissing() throws Exception {
+		assertNull(parse("{\"rooms\": []}", ModelParser.nested(Room.READER, "room")));
+	}
+
+	@Test public void lenientValues() throws Exception {
+		Freelancer freelancer = parse("{\"rate\": \"n/a\", \"feedback\": 4.9, \"skills\": \"java\", \"name\": {\"first\": \"A\"}}",
+				Freelancer.READER);
+
+		assertNull(freelancer.getRate());
+		assertEquals(4.9, freelancer.getFeedback(), 0);
+		assertEquals("java", freelancer.getSkills().get(0));
+		assertNull(freelancer.getName());
+	}
+}
@@ -0,0 +1,132 @@
+package com.Upwork.api.Models;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonToken;
+
+public class PageIteratorTest {
+	private static final ModelReader<Page<String>> READER = Page.reader(parser -> {
+		String id = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			parser.nextToken();
+			id = ModelParser.text(parser);
+		}
+		return id;
+	}, "items");
+
+	/** Serves numbers from 0 to size, keeps requested offsets, completes on demand */
+	private static final class Numbers implements PageIterator.Fetcher<String> {
+		final int size;
+		final boolean withTotal;
+		final List<Long> offsets = new ArrayList<Long>();
+		/** Pages returned, and the gates completing them if manual */
+		final List<CompletableFuture<Page<String>>> pages = new ArrayList<CompletableFuture<Page<String>>>();
+		final List<CompletableFuture<Void>> gates = new ArrayList<CompletableFuture<Void>>();
+		boolean manual;
+
+		Numbers(int size, boolean withTotal) {
+			this.size = size;
+			this.withTotal = withTotal;
+		}
+
+		@Override
+		public CompletableFuture<Page<String>> fetch(long offset, int count) {
+			offsets.add(offset);
+			StringBuilder json = new StringBuilder("{\"items\": [");
+			for (long i = offset; i < Math.min(offset + count, size); i++) {
+				json.append(i == offset ? "" : ",").append("{\"id\": ").append(i).append('}');
+			}
+			json.append("], \"paging\": {\"offset\": ").append(offset).append(", \"count\": ").append(count);
+			json.append(withTotal ? ", \"total\": " + size : "").append("}}");
+			CompletableFuture<Page<String>> future = new CompletableFuture<Page<String>>();
+			try {
+				Page<String> page = ModelParser.parse(
+						new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8)), null, READER);
+				if (manual) {
+					CompletableFuture<Void> gate = new CompletableFuture<Void>();
+					gates.add(gate);
+					future = gate.thenApply(ignored -> page);
+				} else {
+					future.complete(page);
+				}
+			} catch (IOException e) {
+				future.completeExceptionally(e);
+			}
+			pages.add(future);
+			return future;
+		}
+	}
+
+	@Test public void readsAllPages() {
+		Numbers numbers = new Numbers(25, true);
+		PageIterator<String> iterator = new PageIterator<String>(numbers, 0, 10, 2);
+		List<String> items = iterator.stream().collect(Collectors.toList());
+
+		assertEquals(25, items.size());
+		assertEquals("0", items.get(0));
+		assertEquals("24", items.get(24));
+		// nothing past the total is requested
+		assertEquals("[0, 10, 20]", numbers.offsets.toString());
+	}
+
+	@Test public void stopsOnShortPage() {
+		Numbers numbers = new Numbers(20, false);
+		PageIterator<String> iterator = new PageIterator<String>(numbers, 0, 10, 0);
+		int count = 0;
+		while (iterator.hasNext()) {
+			iterator.next();
+			count++;
+		}
+
+		assertEquals(20, count);
+		assertEquals("[0, 10, 20]", numbers.offsets.toString());
+	}
+
+	@Test public void readsAhead() {
+		Numbers numbers = new Numbers(100, true);
+		numbers.manual = true;
+		PageIterator<String> iterator = new PageIterator<String>(numbers, 0, 10, 3);
+		assertEquals(1, numbers.offsets.size());
+
+		numbers.gates.get(0).complete(null);
+		assertTrue(iterator.hasNext());
+		// first page is consumed while the next three are in flight
+		assertEquals("[0, 10, 20, 30]", numbers.offsets.toString());
+
+		numbers.gates.get(1).complete(null);
+		for (int i = 0; i < 11; i++) {
+			iterator.next();
+		}
+		assertEquals("[0, 10, 20, 30, 40]", numbers.offsets.toString());
+
+		iterator.close();
+		assertTrue(numbers.pages.get(4).isCancelled());
+		assertEquals(9, iterator.stream().count());
+	}
+
+	@Test public void requestErrors() {
+		PageIterator<String> iterator = new PageIterator<String>((offset, count) -> {
+			CompletableFuture<Page<String>> future = new CompletableFuture<Page<String>>();
+			future.completeExceptionally(new IOException("HTTP 503"));
+			return future;
+		}, 0, 10, 1);
+
+		try {
+			iterator.hasNext();
+			fail("request error is thrown");
+		} catch (UncheckedIOException e) {
+			assertEquals("HTTP 503", e.getCause().getMessage());
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.Upwork.api.Models;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class PageTest {
+	private static <T> T parse(String json, ModelReader<T> reader) throws Exception {
+		return ModelParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), null, reader);
+	}
+
+	@Test public void engagements() throws Exception {
+		Page<Engagement> page = parse("{\"engagements\": {\"lister\": {\"total_items\": \"25\", \"offset\": \"10\", \"paging\": \"10;5\"},"
+				+ " \"engagement\": [{\"reference\": \"1\", \"engagement_title\": \"Dev\", \"hourly_charge_rate\": \"12.50\","
+				+ " \"unknown\": {\"nested\": [1, 2]}}, {\"reference\": \"2\", \"hourly_charge_rate\": \"\"}]},"
+				+ " \"auth_user\": {\"uid\": \"me\"}}",
+				Page.reader(Engagement.READER, "engagements", "engagement"));
+
+		assertEquals(2, page.getItems().size());
+		assertEquals("1", page.getItems().get(0).getReference());
+		assertEquals("Dev", page.getItems().get(0).getTitle());
+		assertEquals(12.5, page.getItems().get(0).getHourlyChargeRate(), 0);
+		assertNull(page.getItems().get(1).getHourlyChargeRate());
+		assertEquals(25, page.getPaging().getTotal());
+		assertEquals(10, page.getPaging().getOffset());
+		assertEquals(5, page.getPaging().getCount());
+	}
+
+	@Test public void singleItemAsObject() throws Exception {
+		Page<Offer> page = parse("{\"offers\": {\"offer\": {\"reference\": \"7\", \"status\": \"open\"}}}",
+				Page.reader(Offer.READER, "offers", "offer"));
+
+		assertEquals(1, page.getItems().size());
+		assertEquals("open", page.getItems().get(0).getStatus());
+		assertNull(page.getPaging());
+	}
+
+	@Test public void jobs() throws Exception {
+		Page<Job> page = parse("{\"jobs\": [{\"id\": \"~01\", \"skills\": [\"java\", \"json\"], \"budget\": 500}],"
+				+ " \"paging\": {\"offset\": 0, \"count\": 10, \"total\": 1}}",
+				Page.reader(Job.READER, "jobs"));
+
+		assertEquals("~01", page.getItems().get(0).getId());
+		assertEquals(2, page.getItems().get(0).getSkills().size());
+		assertEquals(500, page.getItems().get(0).getBudget(), 0);
+		assertEquals(1, page.getPaging().getTotal());
+	}
+
+	@Test public void missingList() throws Exception {
+		Page<Freelancer> page = parse("{\"error\": {\"code\": \"1\"}}", Page.reader(Freelancer.READER, "providers"));
+
+		assertTrue(page.getItems().isEmpty());
+	}
+}
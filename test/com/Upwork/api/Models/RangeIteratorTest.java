@@ -0,0 +1,94 @@
+package com.Upwork.api.Models;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class RangeIteratorTest {
+	@Test public void splitsIntoChunks() {
+		List<String> requested = new ArrayList<String>();
+		RangeIterator<String> chunks = new RangeIterator<String>("20141225", "20150110", 7, 10, (from, till) -> {
+			requested.add(from + "," + till);
+			return CompletableFuture.completedFuture(from);
+		});
+
+		assertEquals("[20141225, 20150101, 20150108]", chunks.stream().collect(Collectors.toList()).toString());
+		assertEquals("[20141225,20141231, 20150101,20150107, 20150108,20150110]", requested.toString());
+	}
+
+	@Test public void keepsDateOrderUnderConcurrencyCap() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		try {
+			RangeIterator<String> days = new RangeIterator<String>("2016-01-01", "2016-12-31", 1, 4,
+					(date, same) -> CompletableFuture.supplyAsync(() -> {
+						maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+						try {
+							Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						running.decrementAndGet();
+						return date;
+					}, pool));
+			List<String> dates = days.stream().collect(Collectors.toList());
+
+			assertEquals(366, dates.size());
+			assertEquals("2016-01-01", dates.get(0));
+			assertEquals("2016-02-29", dates.get(59));
+			assertEquals("2016-12-31", dates.get(365));
+			assertTrue("max running " + maxRunning.get(), maxRunning.get() <= 4);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test public void requestErrors() {
+		RangeIterator<String> days = new RangeIterator<String>("20140101", "20140110", 1, 3, (date, same) -> {
+			CompletableFuture<String> future = new CompletableFuture<String>();
+			future.completeExceptionally(new IOException("HTTP 503"));
+			return future;
+		});
+
+		try {
+			days.next();
+			fail("request error is thrown");
+		} catch (UncheckedIOException e) {
+			assertEquals("HTTP 503", e.getCause().getMessage());
+		}
+		assertFalse(days.hasNext());
+	}
+
+	@Test public void errorResponses() throws Exception {
+		JSONObject ok = new JSONObject("{\"workdays\": []}");
+		JSONObject error = new JSONObject("{\"error\": {\"code\": \"503\", \"message\": \"Exception: IOException\"}}");
+		RangeIterator<JSONObject> days = new RangeIterator<JSONObject>("20140101", "20140102", 1, 1,
+				(date, same) -> RangeIterator.checked(CompletableFuture.completedFuture("20140101".equals(date) ? ok : error)));
+
+		assertTrue(days.next().has("workdays"));
+		try {
+			days.next();
+			fail("error response is thrown");
+		} catch (UncheckedIOException e) {
+			assertTrue(e.getCause().getMessage().contains("503"));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidDates() {
+		new RangeIterator<String>("01/01/2014", "01/31/2014", 1, 1, (from, till) -> null);
+	}
+}
@@ -0,0 +1,23 @@
+package com.Upwork.api.Models;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class TimeReportTest {
+	@Test public void read() throws Exception {
+		String json = "{\"status\": \"ok\", \"table\": {\"cols\": [{\"type\": \"date\", \"label\": \"worked_on\"},"
+				+ " {\"type\": \"number\", \"label\": \"hours\"}],"
+				+ " \"rows\": [{\"c\": [{\"v\": \"20261018\"}, {\"v\": 1.5}]}, {\"c\": [{\"v\": \"20261019\"}, {\"v\": null}]}]}}";
+		TimeReport report = ModelParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+				null, TimeReport.READER);
+
+		assertEquals(1, report.getColumnIndex("hours"));
+		assertEquals(2, report.getRows().size());
+		assertEquals("1.5", report.getRows().get(0)[1]);
+		assertNull(report.getRows().get(1)[1]);
+	}
+}
@@ -2,6 +2,8 @@ package com.Upwork.api;
 
 import com.google.api.client.auth.oauth2.*;
 import com.google.api.client.http.GenericUrl;
+import org.json.JSONException;
+import org.json.JSONObject;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Matchers;
@@ -15,8 +17,11 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 @RunWith(PowerMockRunner.class)
@@ -86,6 +91,44 @@ public class OAuthClientTest {
         return client;
     }
 
+    @Test
+    public void getAsync() throws Exception {
+        when(properties.getProperty("clientId")).thenReturn("key");
+        when(properties.getProperty("clientSecret")).thenReturn("secret");
+        when(properties.getProperty("grantType")).thenReturn("client_credentials");
+        OAuthClient client = new OAuthClient(new Config(properties)) {
+            @Override
+            public JSONObject get(String url, HashMap<String, String> params) throws JSONException {
+                return new JSONObject("{'url': '" + url + "'}");
+            }
+        };
+
+        JSONObject json = client.getAsync("/test", new HashMap<String, String>()).get(5, TimeUnit.SECONDS);
+        assertEquals("/test", json.getString("url"));
+
+        client.setAsyncExecutor(Runnable::run);
+        CompletableFuture<JSONObject> future = client.getAsync("/inline", null);
+        assertTrue(future.isDone());
+        assertEquals("/inline", future.get().getString("url"));
+
+        client.close();
+    }
+
+    @Test
+    public void forEntryPoint() throws Exception {
+        OAuthClient client = getMockedClientCodeAuthzGrant("code_authorization");
+        OAuthClient gds = client.forEntryPoint("gds");
+        OAuthClient graphql = client.forEntryPoint("graphql");
+
+        assertEquals("https://www.upwork.com/api/profiles/v1/search/jobs.json", client.getFullUrl("/profiles/v1/search/jobs"));
+        assertEquals("https://www.upwork.com/gds/timereports/v1/companies/1", gds.getFullUrl("/timereports/v1/companies/1"));
+        assertEquals("https://api.upwork.com/graphql", graphql.getFullUrl(""));
+        assertEquals("https://www.upwork.com/api/auth/v1/info.json", client.withTenant("1234").getFullUrl("/auth/v1/info"));
+        assertEquals("https://www.upwork.com/gds/auth/v1/info", gds.withTenant("1234").getFullUrl("/auth/v1/info"));
+
+        client.close();
+    }
+
     @Test
     public void getAuthorizationUrl() throws Exception {
         OAuthClient client = getMockedClientCodeAuthzGrant("code_authorization");
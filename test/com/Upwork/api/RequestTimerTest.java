@@ -0,0 +1,121 @@
+package com.Upwork.api;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.Upwork.api.Http.RetryPolicy;
+import com.Upwork.api.Metrics.HistogramRecorder;
+import com.Upwork.api.Metrics.Metric;
+import com.google.api.client.auth.oauth2.TokenResponse;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+
+public class RequestTimerTest {
+	private static final String BODY = "{\"engagements\": []}";
+
+	private final AtomicInteger failures = new AtomicInteger();
+	private final AtomicInteger resets = new AtomicInteger();
+	private final HistogramRecorder metrics = new HistogramRecorder();
+	private OAuthClient client;
+
+	@Before
+	public void setUp() throws IOException {
+		MockHttpTransport transport = new MockHttpTransport() {
+			@Override
+			public LowLevelHttpRequest buildRequest(String method, String url) {
+				return new MockLowLevelHttpRequest(url) {
+					@Override
+					public LowLevelHttpResponse execute() throws IOException {
+						if (failures.getAndDecrement() > 0) {
+							return new MockLowLevelHttpResponse().setStatusCode(503);
+						}
+						if (resets.getAndDecrement() > 0) {
+							throw new IOException("Connection reset");
+						}
+						return new MockLowLevelHttpResponse().setContentType("application/json").setContent(BODY);
+					}
+				};
+			}
+		};
+		Properties properties = new Properties();
+		properties.setProperty("clientId", "key");
+		properties.setProperty("clientSecret", "secret");
+		client = new OAuthClient(new Config(properties), transport);
+		client.setTokenResponse(new TokenResponse().setAccessToken("token").setExpiresInSeconds(3600L), null);
+		client.setRetryPolicy(new RetryPolicy(3, 0, 0, 100));
+		client.setMetricsRecorder(metrics);
+	}
+
+	@After
+	public void tearDown() {
+		client.close();
+	}
+
+	@Test public void recordsRequest() throws Exception {
+		failures.set(1);
+		JSONObject json = client.get("/hr/v2/engagements", new HashMap<String, String>());
+
+		assertTrue(json.has("engagements"));
+		assertEquals(1, metrics.getHistogram(Metric.LATENCY, "api", "/hr/v2/engagements", 2).getCount());
+		assertEquals(1, metrics.getHistogram(Metric.RETRIES, "api", "/hr/v2/engagements", 2).getMax());
+		assertEquals(1, metrics.getHistogram(Metric.TIME_TO_FIRST_BYTE, "api", "/hr/v2/engagements", 2).getCount());
+		assertEquals(BODY.length(), metrics.getHistogram(Metric.BODY_BYTES, "api", "/hr/v2/engagements", 2).getMax());
+	}
+
+	@Test public void recordsFailedRequest() throws Exception {
+		failures.set(10);
+		JSONObject json = client.post("/hr/v2/engagements", new HashMap<String, String>());
+
+		assertTrue(json.has("error"));
+		assertEquals(1, metrics.getHistogram(Metric.LATENCY, "api", "/hr/v2/engagements", 5).getCount());
+		assertEquals(0, metrics.getHistogram(Metric.RETRIES, "api", "/hr/v2/engagements", 5).getMax());
+	}
+
+	@Test public void recordsLastAttemptOfRetriedRequest() throws Exception {
+		client.setRetryPolicy(new RetryPolicy(2, 0, 0, 100));
+		failures.set(1);
+		resets.set(1);
+		JSONObject json = client.get("/hr/v2/engagements", new HashMap<String, String>());
+
+		assertTrue(json.has("error"));
+		assertEquals(1, metrics.getHistogram(Metric.LATENCY, "api", "/hr/v2/engagements", 0).getCount());
+		assertEquals(1, metrics.getHistogram(Metric.RETRIES, "api", "/hr/v2/engagements", 0).getMax());
+		assertNull(metrics.getHistogram(Metric.LATENCY, "api", "/hr/v2/engagements", 5));
+		assertNull(metrics.getHistogram(Metric.TIME_TO_FIRST_BYTE, "api", "/hr/v2/engagements", 0));
+	}
+
+	@Test public void recordsNoTokenRefreshWithoutRequest() throws Exception {
+		client.setTokenResponse(new TokenResponse().setAccessToken("token").setExpiresInSeconds(0L), null);
+		client.get("/hr/v2/engagements", new HashMap<String, String>());
+
+		assertNull(metrics.getHistogram(Metric.TOKEN_REFRESH, "oauth2", "/token", 2));
+		assertNull(metrics.getHistogram(Metric.TOKEN_REFRESH, "oauth2", "/token", 0));
+	}
+
+	@Test public void recordsQueueWait() throws Exception {
+		client.getAsync("/hr/v2/engagements/12345").get(5, TimeUnit.SECONDS);
+
+		assertEquals(1, metrics.getHistogram(Metric.QUEUE_WAIT, "api", "/hr/v2/engagements/{id}", 0).getCount());
+		assertEquals(1, metrics.getHistogram(Metric.LATENCY, "api", "/hr/v2/engagements/{id}", 2).getCount());
+	}
+
+	@Test public void recordsNothingWhenDisabled() throws Exception {
+		client.setMetricsRecorder(null);
+		client.get("/hr/v2/engagements", new HashMap<String, String>());
+
+		assertTrue(metrics.getHistograms().isEmpty());
+	}
+}
@@ -0,0 +1,29 @@
+package com.Upwork.api.Routers;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletableFuture;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.Upwork.api.Models.ModelParser;
+import com.Upwork.api.Models.ModelReader;
+
+/**
+ * Answers model requests with the model read from an empty object, by the
+ * reader passed as the third argument. Kept out of {@link Helper}, as
+ * PowerMock can not load test classes with nested classes on Java 11+.
+ */
+public class EmptyModelAnswer implements Answer<Object> {
+	private final boolean async;
+
+	public EmptyModelAnswer(boolean async) {
+		this.async = async;
+	}
+
+	@Override
+	public Object answer(InvocationOnMock invocation) throws Throwable {
+		Object model = ModelParser.parse(new ByteArrayInputStream("{}".getBytes()), null, (ModelReader<?>) invocation.getArguments()[2]);
+		return async ? CompletableFuture.completedFuture(model) : model;
+	}
+}
@@ -1,15 +1,20 @@
 package com.Upwork.api.Routers.Freelancers;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 import java.util.HashMap;
 
 import org.json.JSONObject;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
 import org.powermock.core.classloader.annotations.*;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import com.Upwork.api.Models.Freelancer;
+import com.Upwork.api.Models.PageIterator;
 import com.Upwork.api.Routers.Helper;
 import com.Upwork.api.Routers.Freelancers.Search;
 
@@ -25,4 +30,14 @@ public class SearchTest extends Helper {
         
         assertTrue(json instanceof JSONObject);
 	}
+
+	@Test public void findAll() throws Exception {
+		Search search = new Search(client);
+		PageIterator<Freelancer> results = search.findAll(new HashMap<String, String>(), 10, 2);
+
+		assertFalse(results.hasNext());
+		ArgumentCaptor<HashMap> params = ArgumentCaptor.forClass(HashMap.class);
+		verify(client).getAsync(Matchers.anyString(), params.capture(), Matchers.any());
+		assertEquals("0;10", params.getValue().get("paging"));
+	}
 }
@@ -12,6 +12,8 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.Upwork.api.Routers.Helper;
 import com.Upwork.api.Routers.Auth;
+import com.Upwork.api.Graphql.ConnectionIterator;
+import com.Upwork.api.Graphql.GraphqlOperation;
 
 @RunWith(PowerMockRunner.class)
 @PowerMockIgnore("jdk.internal.reflect.*")
@@ -25,4 +27,49 @@ public class GraphqlTest extends Helper {
         
         assertTrue(json instanceof JSONObject);
     }
+
+	@Test public void ExecuteAsync() throws Exception {
+        Graphql graphql = new Graphql(client);
+    	JSONObject json = graphql.ExecuteAsync(new HashMap<String, String>()).get();
+        
+        assertTrue(json instanceof JSONObject);
+    }
+
+	@Test public void ExecutePersisted() throws Exception {
+        Graphql graphql = new Graphql(client);
+    	JSONObject json = graphql.ExecutePersisted("{ user { id } }", new JSONObject());
+        
+        assertTrue(json instanceof JSONObject);
+    }
+
+	@Test public void ExecutePersistedAsync() throws Exception {
+        Graphql graphql = new Graphql(client);
+    	JSONObject json = graphql.ExecutePersistedAsync("{ user { id } }", null).get();
+        
+        assertTrue(json instanceof JSONObject);
+    }
+
+	@Test public void ExecuteOperation() throws Exception {
+        Graphql graphql = new Graphql(client);
+        GraphqlOperation operation = GraphqlOperation.of("query User($id: ID!) { user(id: $id) { id } }");
+    	JSONObject json = graphql.Execute(operation, new GraphqlOperation.Variables().put("id", "1"));
+        
+        assertTrue(json instanceof JSONObject);
+    }
+
+	@Test public void ExecuteOperationAsync() throws Exception {
+        Graphql graphql = new Graphql(client);
+        GraphqlOperation operation = GraphqlOperation.of("{ user { id } }");
+    	JSONObject json = graphql.ExecuteAsync(operation, null).get();
+        
+        assertTrue(json instanceof JSONObject);
+    }
+
+	@Test public void ExecuteConnection() throws Exception {
+        Graphql graphql = new Graphql(client);
+        GraphqlOperation operation = GraphqlOperation.of("query($after: String) { contracts(after: $after) { edges { node { id } } } }");
+    	ConnectionIterator nodes = graphql.ExecuteConnection(operation, null, "after", "contracts");
+        
+        assertFalse(nodes.hasNext());
+    }
 }
@@ -1,6 +1,8 @@
 package com.Upwork.api.Routers;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -14,6 +16,10 @@ import org.powermock.modules.junit4.*;
 import static org.mockito.Mockito.*;
 
 import com.Upwork.api.OAuthClient;
+import com.Upwork.api.Graphql.PersistedQueries;
+import com.Upwork.api.Json.JsonRecordHandler;
+import com.Upwork.api.Models.ModelReader;
+import com.google.api.client.http.HttpContent;
 
 @RunWith(PowerMockRunner.class)
 public class Helper {
@@ -21,14 +27,28 @@ public class Helper {
 	protected OAuthClient client;
 	
 	@Before
-	public void setUp() throws JSONException {
+	public void setUp() throws JSONException, IOException {
 		MockitoAnnotations.initMocks(this);
+        when(client.forEntryPoint(Matchers.anyString())).thenReturn(client);
+        when(client.getPersistedQueryRegistry()).thenReturn(new PersistedQueries.Registry());
         when(client.get(Matchers.anyString())).thenReturn(new JSONObject("{'key': 'value'}"));
         when(client.get(Matchers.anyString(), (HashMap<String, String>) Matchers.anyObject())).thenReturn(new JSONObject("{'key': 'value'}"));
         when(client.post(Matchers.anyString(), (HashMap<String, String>) Matchers.anyObject())).thenReturn(new JSONObject("{'key': 'value'}"));
+        when(client.post(Matchers.anyString(), Matchers.any(HttpContent.class))).thenReturn(new JSONObject("{'key': 'value'}"));
         when(client.put(Matchers.anyString())).thenReturn(new JSONObject("{'key': 'value'}"));
         when(client.put(Matchers.anyString(), (HashMap<String, String>) Matchers.anyObject())).thenReturn(new JSONObject("{'key': 'value'}"));
         when(client.delete(Matchers.anyString())).thenReturn(new JSONObject("{'key': 'value'}"));
         when(client.delete(Matchers.anyString(), (HashMap<String, String>) Matchers.anyObject())).thenReturn(new JSONObject("{'key': 'value'}"));
+        when(client.getRecords(Matchers.anyString(), (HashMap<String, String>) Matchers.anyObject(), (JsonRecordHandler) Matchers.anyObject(), Matchers.<String>anyVararg())).thenReturn(new JSONObject("{'key': 'value'}"));
+        when(client.get(Matchers.anyString(), (HashMap<String, String>) Matchers.anyObject(), (ModelReader<Object>) Matchers.anyObject())).thenAnswer(new EmptyModelAnswer(false));
+        when(client.getAsync(Matchers.anyString(), (HashMap<String, String>) Matchers.anyObject(), (ModelReader<Object>) Matchers.anyObject())).thenAnswer(new EmptyModelAnswer(true));
+        when(client.getAsync(Matchers.anyString())).thenReturn(CompletableFuture.completedFuture(new JSONObject("{'key': 'value'}")));
+        when(client.getAsync(Matchers.anyString(), (HashMap<String, String>) Matchers.anyObject())).thenReturn(CompletableFuture.completedFuture(new JSONObject("{'key': 'value'}")));
+        when(client.postAsync(Matchers.anyString(), (HashMap<String, String>) Matchers.anyObject())).thenReturn(CompletableFuture.completedFuture(new JSONObject("{'key': 'value'}")));
+        when(client.postAsync(Matchers.anyString(), Matchers.any(HttpContent.class))).thenReturn(CompletableFuture.completedFuture(new JSONObject("{'key': 'value'}")));
+        when(client.putAsync(Matchers.anyString())).thenReturn(CompletableFuture.completedFuture(new JSONObject("{'key': 'value'}")));
+        when(client.putAsync(Matchers.anyString(), (HashMap<String, String>) Matchers.anyObject())).thenReturn(CompletableFuture.completedFuture(new JSONObject("{'key': 'value'}")));
+        when(client.deleteAsync(Matchers.anyString())).thenReturn(CompletableFuture.completedFuture(new JSONObject("{'key': 'value'}")));
+        when(client.deleteAsync(Matchers.anyString(), (HashMap<String, String>) Matchers.anyObject())).thenReturn(CompletableFuture.completedFuture(new JSONObject("{'key': 'value'}")));
 	}
 }
\ No newline at end of file
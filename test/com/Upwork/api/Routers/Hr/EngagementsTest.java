@@ -10,6 +10,8 @@ import org.junit.runner.RunWith;
 import org.powermock.core.classloader.annotations.*;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import com.Upwork.api.Models.Engagement;
+import com.Upwork.api.Models.Page;
 import com.Upwork.api.Routers.Helper;
 import com.Upwork.api.Routers.Hr.Engagements;
 
@@ -26,6 +28,20 @@ public class EngagementsTest extends Helper {
         assertTrue(json instanceof JSONObject);
 	}
 	
+	@Test public void getListWithHandler() throws Exception {
+		Engagements engagements = new Engagements(client);
+    	JSONObject json = engagements.getList(new HashMap<String, String>(), null);
+        
+        assertTrue(json instanceof JSONObject);
+	}
+	
+	@Test public void getListTyped() throws Exception {
+		Engagements engagements = new Engagements(client);
+    	Page<Engagement> page = engagements.getListTyped(new HashMap<String, String>());
+        
+        assertTrue(page.getItems().isEmpty());
+	}
+	
 	@Test public void getSpecific() throws Exception {
 		Engagements engagements = new Engagements(client);
     	JSONObject json = engagements.getSpecific("1234");
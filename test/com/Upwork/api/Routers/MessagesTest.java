@@ -10,6 +10,8 @@ import org.junit.runner.RunWith;
 import org.powermock.core.classloader.annotations.*;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import com.Upwork.api.Models.Page;
+import com.Upwork.api.Models.Room;
 import com.Upwork.api.Routers.Helper;
 import com.Upwork.api.Routers.Messages;
 
@@ -19,6 +21,13 @@ import com.Upwork.api.Routers.Messages;
     Messages.class
 })
 public class MessagesTest extends Helper {
+	@Test public void getRoomsTyped() throws Exception {
+		Messages messages = new Messages(client);
+		Page<Room> page = messages.getRoomsTyped("company", new HashMap<String, String>());
+
+		assertTrue(page.getItems().isEmpty());
+	}
+
 	@Test public void getRooms() throws Exception {
 		Messages messages = new Messages(client);
     	JSONObject json = messages.getRooms("company");
@@ -37,6 +46,13 @@ public class MessagesTest extends Helper {
         assertTrue(json1 instanceof JSONObject);
 	}
 
+	@Test public void getRoomMessagesAsync() throws Exception {
+		Messages messages = new Messages(client);
+		JSONObject json1 = messages.getRoomMessagesAsync("company", "room-id", new HashMap<String, String>()).get();
+
+        assertTrue(json1 instanceof JSONObject);
+	}
+
 	@Test public void getRoomMessages() throws Exception {
 		Messages messages = new Messages(client);
 	JSONObject json1 = messages.getRoomMessages("company", "room-id", new HashMap<String, String>());
@@ -10,6 +10,7 @@ import org.junit.runner.RunWith;
 import org.powermock.core.classloader.annotations.*;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import com.Upwork.api.Models.GdsTable;
 import com.Upwork.api.Routers.Helper;
 import com.Upwork.api.Routers.Reports.Finance.Accounts;
 
@@ -32,4 +33,18 @@ public class AccountsTest extends Helper {
         
         assertTrue(json instanceof JSONObject);
 	}
+
+	@Test public void getOwnedTable() throws Exception {
+		Accounts accounts = new Accounts(client);
+		GdsTable table = accounts.getOwnedTable("1234", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
+
+	@Test public void getSpecificTable() throws Exception {
+		Accounts accounts = new Accounts(client);
+		GdsTable table = accounts.getSpecificTable("1234", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
 }
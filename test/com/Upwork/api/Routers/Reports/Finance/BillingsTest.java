@@ -10,6 +10,7 @@ import org.junit.runner.RunWith;
 import org.powermock.core.classloader.annotations.*;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import com.Upwork.api.Models.GdsTable;
 import com.Upwork.api.Routers.Helper;
 import com.Upwork.api.Routers.Reports.Finance.Billings;
 
@@ -53,4 +54,32 @@ public class BillingsTest extends Helper {
         
         assertTrue(json instanceof JSONObject);
 	}
+
+	@Test public void getByFreelancerTable() throws Exception {
+		Billings billings = new Billings(client);
+		GdsTable table = billings.getByFreelancerTable("1234", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
+
+	@Test public void getByFreelancersTeamTable() throws Exception {
+		Billings billings = new Billings(client);
+		GdsTable table = billings.getByFreelancersTeamTable("1234", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
+
+	@Test public void getByFreelancersCompanyTable() throws Exception {
+		Billings billings = new Billings(client);
+		GdsTable table = billings.getByFreelancersCompanyTable("1234", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
+
+	@Test public void getByBuyersTeamTable() throws Exception {
+		Billings billings = new Billings(client);
+		GdsTable table = billings.getByBuyersTeamTable("1234", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
 }
@@ -10,6 +10,7 @@ import org.junit.runner.RunWith;
 import org.powermock.core.classloader.annotations.*;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import com.Upwork.api.Models.GdsTable;
 import com.Upwork.api.Routers.Helper;
 import com.Upwork.api.Routers.Reports.Finance.Earnings;
 
@@ -53,4 +54,32 @@ public class EarningsTest extends Helper {
         
         assertTrue(json instanceof JSONObject);
 	}
+
+	@Test public void getByBuyersCompanyTable() throws Exception {
+		Earnings earnings = new Earnings(client);
+		GdsTable table = earnings.getByBuyersCompanyTable("1234", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
+
+	@Test public void getByFreelancersTeamTable() throws Exception {
+		Earnings earnings = new Earnings(client);
+		GdsTable table = earnings.getByFreelancersTeamTable("1234", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
+
+	@Test public void getByFreelancersCompanyTable() throws Exception {
+		Earnings earnings = new Earnings(client);
+		GdsTable table = earnings.getByFreelancersCompanyTable("1234", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
+
+	@Test public void getByBuyersTeamTable() throws Exception {
+		Earnings earnings = new Earnings(client);
+		GdsTable table = earnings.getByBuyersTeamTable("1234", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
 }
@@ -10,6 +10,8 @@ import org.junit.runner.RunWith;
 import org.powermock.core.classloader.annotations.*;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import com.Upwork.api.Models.GdsTable;
+import com.Upwork.api.Models.TimeReport;
 import com.Upwork.api.Routers.Helper;
 import com.Upwork.api.Routers.Reports.Time;
 
@@ -26,6 +28,13 @@ public class TimeTest extends Helper {
         assertTrue(json instanceof JSONObject);
 	}
 	
+	@Test public void getByTeamFullAsync() throws Exception {
+		Time time = new Time(client);
+    	JSONObject json = time.getByTeamFullAsync("company", "team", new HashMap<String, String>()).get();
+        
+        assertTrue(json instanceof JSONObject);
+	}
+	
 	@Test public void getByTeamLimited() throws Exception {
 		Time time = new Time(client);
     	JSONObject json = time.getByTeamLimited("company", "team", new HashMap<String, String>());
@@ -47,6 +56,20 @@ public class TimeTest extends Helper {
         assertTrue(json instanceof JSONObject);
 	}
 	
+	@Test public void getByCompanyWithHandler() throws Exception {
+		Time time = new Time(client);
+    	JSONObject json = time.getByCompany("company", new HashMap<String, String>(), null);
+        
+        assertTrue(json instanceof JSONObject);
+	}
+	
+	@Test public void getByCompanyTyped() throws Exception {
+		Time time = new Time(client);
+    	TimeReport report = time.getByCompanyTyped("company", new HashMap<String, String>());
+        
+        assertTrue(report.getRows().isEmpty());
+	}
+	
 	@Test public void getByFreelancerLimited() throws Exception {
 		Time time = new Time(client);
     	JSONObject json = time.getByFreelancerLimited("freelancer_id", new HashMap<String, String>());
@@ -60,4 +83,39 @@ public class TimeTest extends Helper {
         
         assertTrue(json instanceof JSONObject);
 	}
+
+	@Test public void getByCompanyTable() throws Exception {
+		Time time = new Time(client);
+		GdsTable table = time.getByCompanyTable("company", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
+
+	@Test public void getByTeamFullTable() throws Exception {
+		Time time = new Time(client);
+		GdsTable table = time.getByTeamFullTable("company", "team", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
+
+	@Test public void getByTeamLimitedTable() throws Exception {
+		Time time = new Time(client);
+		GdsTable table = time.getByTeamLimitedTable("company", "team", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
+
+	@Test public void getByAgencyTable() throws Exception {
+		Time time = new Time(client);
+		GdsTable table = time.getByAgencyTable("company", "agency", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
+
+	@Test public void getByFreelancerLimitedTable() throws Exception {
+		Time time = new Time(client);
+		GdsTable table = time.getByFreelancerLimitedTable("freelancer_id", new HashMap<String, String>());
+
+		assertEquals(0, table.getRowCount());
+	}
 }
@@ -1,6 +1,7 @@
 package com.Upwork.api.Routers;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 import java.util.HashMap;
 
@@ -32,4 +33,12 @@ public class WorkdaysTest extends Helper {
         
         assertTrue(json instanceof JSONObject);
 	}
+
+	@Test public void getByCompanyRange() throws Exception {
+		Workdays workdays = new Workdays(client);
+		long chunks = workdays.getByCompanyRange("company", "20140101", "20140131", 7, 2, new HashMap<String, String>()).stream().count();
+
+		assertEquals(5, chunks);
+		verify(client).getAsync("/team/v3/workdays/companies/company/20140129,20140131", new HashMap<String, String>());
+	}
 }
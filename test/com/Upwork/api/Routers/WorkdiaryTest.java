@@ -1,6 +1,7 @@
 package com.Upwork.api.Routers;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 import java.util.HashMap;
 
@@ -25,4 +26,13 @@ public class WorkdiaryTest extends Helper {
         
         assertTrue(json instanceof JSONObject);
 	}
+
+	@Test public void getRange() throws Exception {
+		Workdiary workdiary = new Workdiary(client);
+		long days = workdiary.getRange("company", "2014-02-27", "2014-03-02", 3, null).stream().count();
+
+		assertEquals(4, days);
+		verify(client).getAsync("/team/v3/workdiaries/companies/company/2014-02-28", null);
+		verify(client).getAsync("/team/v3/workdiaries/companies/company/2014-03-01", null);
+	}
 }
@@ -0,0 +1,199 @@
+package com.Upwork.api;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.google.api.client.auth.oauth2.BearerToken;
+import com.google.api.client.auth.oauth2.ClientParametersAuthentication;
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.auth.oauth2.TokenErrorResponse;
+import com.google.api.client.auth.oauth2.TokenResponse;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.jackson2.JacksonFactory;
+
+public class TokenRefresherTest {
+	private final AtomicInteger fetches = new AtomicInteger();
+	private final AtomicInteger attempts = new AtomicInteger();
+	private final List<IOException> failures = Collections.synchronizedList(new ArrayList<IOException>());
+
+	private Credential credential(String accessToken, long expiresIn) {
+		Credential credential = new Credential.Builder(BearerToken.authorizationHeaderAccessMethod())
+				.setTransport(new NetHttpTransport())
+				.setJsonFactory(new JacksonFactory())
+				.setTokenServerUrl(new GenericUrl("http://localhost/token"))
+				.setClientAuthentication(new ClientParametersAuthentication("key", "secret"))
+				.setRefreshListeners(Collections.singletonList(new TokenRefreshListener() {
+					@Override
+					public void onTokenResponse(Credential credential, TokenResponse tokenResponse) {
+					}
+
+					@Override
+					public void onTokenErrorResponse(Credential credential, TokenErrorResponse tokenErrorResponse) {
+					}
+
+					@Override
+					public void onRefreshAttempt(Credential credential, long latencyMillis, IOException failure) {
+						assertTrue(latencyMillis >= 0);
+						attempts.incrementAndGet();
+						if (failure != null) {
+							failures.add(failure);
+						}
+					}
+				}))
+				.build();
+		credential.setAccessToken(accessToken);
+		credential.setRefreshToken("refresh");
+		credential.setExpiresInSeconds(expiresIn);
+		return credential;
+	}
+
+	private static TokenResponse token(String accessToken) {
+		return new TokenResponse().setAccessToken(accessToken).setExpiresInSeconds(3600L);
+	}
+
+	private static HttpRequest request() throws IOException {
+		return new NetHttpTransport().createRequestFactory().buildGetRequest(new GenericUrl("http://localhost/"));
+	}
+
+	@Test public void coalescesConcurrentRefreshes() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		TokenRefresher refresher = new TokenRefresher(current -> {
+			fetches.incrementAndGet();
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				throw new IOException(e);
+			}
+			return token("new");
+		}, 300, 30);
+		refresher.install(credential("old", 3600));
+
+		CompletableFuture<CompletableFuture<Credential>> first =
+				CompletableFuture.supplyAsync(refresher::refresh);
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		List<CompletableFuture<Credential>> joined = new ArrayList<CompletableFuture<Credential>>();
+		for (int i = 0; i < 10; i++) {
+			joined.add(refresher.refresh());
+		}
+		release.countDown();
+
+		assertEquals("new", first.get(5, TimeUnit.SECONDS).get().getAccessToken());
+		for (CompletableFuture<Credential> refresh : joined) {
+			assertEquals("new", refresh.get(5, TimeUnit.SECONDS).getAccessToken());
+		}
+		assertEquals("single token request", 1, fetches.get());
+		refresher.close();
+	}
+
+	@Test public void refreshesInBackgroundKeepingOldToken() throws Exception {
+		CountDownLatch refreshed = new CountDownLatch(1);
+		TokenRefresher refresher = new TokenRefresher(current -> {
+			fetches.incrementAndGet();
+			refreshed.countDown();
+			return token("new");
+		}, 300, 30);
+		Credential credential = credential("old", 3600);
+		refresher.install(credential);
+		assertEquals("no refresh for fresh token", 0, fetches.get());
+
+		credential.setExpiresInSeconds(30L);
+		HttpRequest request = request();
+		refresher.intercept(request);
+
+		assertEquals("Bearer old", request.getHeaders().getAuthorization());
+		assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+		refresher.refresh().get(5, TimeUnit.SECONDS);
+
+		HttpRequest next = request();
+		refresher.intercept(next);
+		assertEquals("Bearer new", next.getHeaders().getAuthorization());
+		refresher.close();
+	}
+
+	@Test public void reportsNoAttemptWithoutRefresh() throws Exception {
+		TokenRefresher refresher = new TokenRefresher(current -> {
+			fetches.incrementAndGet();
+			return null;
+		}, 300, 30);
+		refresher.install(credential("old", 3600));
+
+		assertEquals("old", refresher.refresh().get().getAccessToken());
+		assertEquals(1, fetches.get());
+		assertEquals(0, attempts.get());
+		refresher.close();
+	}
+
+	@Test public void reportsFailures() throws Exception {
+		TokenRefresher refresher = new TokenRefresher(current -> {
+			fetches.incrementAndGet();
+			throw new IOException("token endpoint is down");
+		}, 300, 30);
+		refresher.install(credential("old", 3600));
+
+		assertTrue(refresher.refresh().isCompletedExceptionally());
+		assertEquals(1, failures.size());
+		assertEquals("old", refresher.getCredential().getAccessToken());
+
+		refresher.getCredential().setExpiresInSeconds(-1L);
+		try {
+			refresher.intercept(request());
+			fail("expired token must not be used once refresh failed");
+		} catch (IOException e) {
+			assertEquals("token endpoint is down", e.getMessage());
+		}
+		refresher.close();
+	}
+
+	@Test public void keepsBackoffOfFailedRefresh() throws Exception {
+		TokenRefresher refresher = new TokenRefresher(current -> {
+			fetches.incrementAndGet();
+			throw new IOException("token endpoint is down");
+		}, 300, 30);
+		refresher.install(credential("old", 3600));
+		refresher.getCredential().setExpiresInSeconds(30L);
+
+		for (int i = 0; i < 10; i++) {
+			HttpRequest request = request();
+			refresher.intercept(request);
+			assertEquals("Bearer old", request.getHeaders().getAuthorization());
+			Thread.sleep(20);
+		}
+
+		assertEquals("one refresh until the retry delay is over", 1, fetches.get());
+		assertEquals(1, failures.size());
+		refresher.close();
+	}
+
+	@Test public void retriesUncheckedFailures() throws Exception {
+		TokenRefresher refresher = new TokenRefresher(current -> {
+			fetches.incrementAndGet();
+			throw new IllegalArgumentException("malformed token response");
+		}, 300, 30);
+		refresher.install(credential("old", 3600));
+
+		assertTrue(refresher.refresh().isCompletedExceptionally());
+		assertEquals(1, failures.size());
+		assertTrue(failures.get(0).getCause() instanceof IllegalArgumentException);
+
+		refresher.getCredential().setExpiresInSeconds(30L);
+		refresher.intercept(request());
+		Thread.sleep(100);
+		assertEquals("retry is scheduled, no refresh per request", 1, fetches.get());
+		refresher.close();
+	}
+}
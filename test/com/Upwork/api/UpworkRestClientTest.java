@@ -0,0 +1,106 @@
+package com.Upwork.api;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.Upwork.api.Http.MemoryResponseCache;
+import com.Upwork.api.Http.PooledHttpTransport;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequestFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+public class UpworkRestClientTest {
+	private HttpServer server;
+	private final AtomicInteger fullResponses = new AtomicInteger();
+	private final AtomicInteger notModified = new AtomicInteger();
+	private final HttpRequestFactory factory = new PooledHttpTransport(4, 4, 0, 0, 0).createRequestFactory();
+
+	@Before
+	public void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+					notModified.incrementAndGet();
+					exchange.sendResponseHeaders(304, -1);
+					exchange.close();
+					return;
+				}
+				if (exchange.getRequestURI().getPath().endsWith("missing.json")) {
+					exchange.getResponseHeaders().set("X-Upwork-Error-Code", "404");
+					exchange.getResponseHeaders().set("X-Upwork-Error-Message", "Resource not found");
+					exchange.sendResponseHeaders(404, -1);
+					exchange.close();
+					return;
+				}
+				fullResponses.incrementAndGet();
+				byte[] body = "{\"categories\": [\"Web\"]}".getBytes("UTF-8");
+				exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+				if (exchange.getRequestURI().getPath().endsWith("etag.json")) {
+					exchange.getResponseHeaders().set("ETag", "\"v1\"");
+				}
+				exchange.sendResponseHeaders(200, body.length);
+				OutputStream out = exchange.getResponseBody();
+				out.write(body);
+				out.close();
+			}
+		});
+		server.start();
+	}
+
+	@After
+	public void tearDown() {
+		server.stop(0);
+	}
+
+	private GenericUrl url(String path) {
+		return new GenericUrl("http://127.0.0.1:" + server.getAddress().getPort() + path);
+	}
+
+	@Test public void executeRequest() throws Exception {
+		JSONObject json = UpworkRestClient.executeRequest(factory.buildGetRequest(url("/api/etag.json")));
+
+		assertEquals("Web", json.getJSONArray("categories").getString(0));
+	}
+
+	@Test public void servesNotModifiedFromCache() throws Exception {
+		MemoryResponseCache cache = new MemoryResponseCache(1024 * 1024);
+
+		for (int i = 0; i < 3; i++) {
+			JSONObject json = UpworkRestClient.executeRequest(factory.buildGetRequest(url("/api/etag.json")), cache, "key");
+			assertEquals("Web", json.getJSONArray("categories").getString(0));
+		}
+
+		assertEquals(1, fullResponses.get());
+		assertEquals(2, notModified.get());
+	}
+
+	@Test public void reportsErrorStatusWithOrWithoutCache() throws Exception {
+		JSONObject plain = UpworkRestClient.executeRequest(factory.buildGetRequest(url("/api/missing.json")));
+		JSONObject cached = UpworkRestClient.executeRequest(factory.buildGetRequest(url("/api/missing.json")),
+				new MemoryResponseCache(1024 * 1024), "key");
+
+		assertEquals("404", plain.getJSONObject("error").getString("code"));
+		assertEquals("Resource not found", plain.getJSONObject("error").getString("message"));
+		assertEquals(cached.toString(), plain.toString());
+	}
+
+	@Test public void skipsResponsesWithoutValidators() throws Exception {
+		MemoryResponseCache cache = new MemoryResponseCache(1024 * 1024);
+		UpworkRestClient.executeRequest(factory.buildGetRequest(url("/api/plain.json")), cache, "key");
+
+		assertNull(cache.get("key"));
+	}
+}